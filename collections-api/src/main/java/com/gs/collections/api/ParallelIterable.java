@@ -24,10 +24,13 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -35,6 +38,8 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
@@ -89,41 +94,41 @@ public interface ParallelIterable<T>
 //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
 //     */
 //    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-//
-//    /**
-//     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-//     */
-//    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-//
-//    /**
-//     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-//     */
-//    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-//
-//    /**
-//     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-//     */
-//    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-//
-//    /**
-//     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-//     */
-//    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-//
-//    /**
-//     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-//     */
-//    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-//
-//    /**
-//     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-//     */
-//    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-//
-//    /**
-//     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-//     */
-//    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -231,6 +236,38 @@ public interface ParallelIterable<T>
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Groups and sums the values using the two specified functions. Each batch sums into its own map and the
+     * per-batch maps are merged once every batch has finished.
+     *
+     * @since 6.2
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch sums into its own map and the
+     * per-batch maps are merged once every batch has finished.
+     *
+     * @since 6.2
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch sums into its own map and the
+     * per-batch maps are merged once every batch has finished.
+     *
+     * @since 6.2
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch sums into its own map and the
+     * per-batch maps are merged once every batch has finished.
+     *
+     * @since 6.2
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
+
     String makeString();
 
     String makeString(String separator);
@@ -252,4 +289,14 @@ public interface ParallelIterable<T>
     <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator);
 
     <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator);
+
+    /**
+     * Same as {@link #aggregateBy(Function, Function0, Function2)}, but the mergeFunction lets the implementation
+     * aggregate each batch into a map of its own and combine the per-batch values of a key afterwards, instead of
+     * funneling every element through one shared map. mergeFunction must be associative and treat the value
+     * returned by zeroValueFactory as an identity.
+     *
+     * @since 6.2
+     */
+    <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> mergeFunction);
 }
@@ -166,4 +166,40 @@ public interface SortedBag<T>
     Comparator<? super T> comparator();
 
     SortedSetIterable<Pair<T, Integer>> zipWithIndex();
+
+    /**
+     * Returns the item at the given position in iteration order, where every occurrence counts as one position.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than {@link #size()}
+     * @since 6.2
+     */
+    T get(int index);
+
+    /**
+     * Returns the item at the given percentile using the nearest-rank method: the first item in iteration order such
+     * that at least percentile percent of all occurrences are at or before it.
+     *
+     * @param percentile a value from 0 to 100
+     * @throws IllegalArgumentException if percentile is not between 0 and 100
+     * @throws NoSuchElementException   if the SortedBag is empty
+     * @since 6.2
+     */
+    T percentile(double percentile);
+
+    /**
+     * Returns the number of occurrences of items that come before element in iteration order, whether or not element
+     * is in the bag.
+     *
+     * @since 6.2
+     */
+    int occurrencesBefore(T element);
+
+    /**
+     * Returns the number of occurrences of items from fromElement, inclusive, to toElement, exclusive, following the
+     * bounds of {@link java.util.SortedSet#subSet(Object, Object)}.
+     *
+     * @throws IllegalArgumentException if fromElement is greater than toElement
+     * @since 6.2
+     */
+    int occurrencesBetween(T fromElement, T toElement);
 }
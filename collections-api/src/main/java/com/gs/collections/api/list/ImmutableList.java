@@ -63,6 +63,21 @@ public interface ImmutableList<T>
 
     ImmutableList<T> newWithoutAll(Iterable<? extends T> elements);
 
+    /**
+     * Returns a new ImmutableList with the element at the specified index replaced by the specified element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 6.2
+     */
+    ImmutableList<T> newWithReplaced(int index, T element);
+
+    /**
+     * Returns a single-threaded builder that starts with the contents of this list.
+     *
+     * @since 6.2
+     */
+    TransientList<T> toTransient();
+
     ImmutableList<T> tap(Procedure<? super T> procedure);
 
     ImmutableList<T> select(Predicate<? super T> predicate);
@@ -18,6 +18,7 @@ package com.gs.collections.api.list;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
@@ -161,6 +162,30 @@ public interface MutableList<T>
      */
     MutableList<T> sortThisByDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Sorts the internal data structure of this list using the threads of {@code executor} and returns the list itself
+     * as a convenience.  The sort is stable, so the result is the same as that of {@link #sortThis(Comparator)}.
+     *
+     * @since 6.2
+     */
+    MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor);
+
+    /**
+     * Sorts the internal data structure of this list by the natural order of its elements using the threads of
+     * {@code executor} and returns the list itself as a convenience.
+     *
+     * @since 6.2
+     */
+    MutableList<T> sortThisParallel(ExecutorService executor);
+
+    /**
+     * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
+     * function}, using the threads of {@code executor}.
+     *
+     * @since 6.2
+     */
+    <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor);
+
     MutableList<T> subList(int fromIndex, int toIndex);
 
     /**
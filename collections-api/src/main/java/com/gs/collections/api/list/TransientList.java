@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.list;
+
+/**
+ * A TransientList is a single-threaded, mutable builder for an {@link ImmutableList}. It is created by
+ * {@link ImmutableList#toTransient()} and edits its own copy of the list in place. {@link #toImmutable()} freezes the
+ * result without copying it where the implementation allows. After that, every method throws IllegalStateException.
+ * <p>
+ * A TransientList must not be shared between threads.
+ *
+ * @since 6.2
+ */
+public interface TransientList<T>
+{
+    TransientList<T> with(T element);
+
+    TransientList<T> withAll(Iterable<? extends T> elements);
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    TransientList<T> withReplaced(int index, T element);
+
+    T get(int index);
+
+    int size();
+
+    ImmutableList<T> toImmutable();
+}
@@ -66,6 +66,13 @@ public interface ImmutableMap<K, V>
 
     ImmutableMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys);
 
+    /**
+     * Returns a single-threaded builder that starts with the contents of this map.
+     *
+     * @since 6.2
+     */
+    TransientMap<K, V> toTransient();
+
     MutableMap<K, V> toMap();
 
     ImmutableSetMultimap<V, K> flip();
@@ -63,6 +63,13 @@ public interface ImmutableSet<T>
 
     ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements);
 
+    /**
+     * Returns a single-threaded builder that starts with the contents of this set.
+     *
+     * @since 6.2
+     */
+    TransientSet<T> toTransient();
+
     ImmutableSet<T> tap(Procedure<? super T> procedure);
 
     ImmutableSet<T> select(Predicate<? super T> predicate);
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import com.gs.collections.api.block.function.primitive.LongFunction;
+
+/**
+ * A thread-safe counter which can be incremented by many threads at once without contending on a single memory
+ * location.  Updates go to a single base value until two threads collide on it, after which the counter switches to
+ * a set of padded stripes, one per available processor, and each thread updates the stripe it last succeeded on.
+ * On a failed compare-and-set a thread moves to a different stripe, so threads spread themselves out over time.
+ * <p>
+ * {@link #getCount()} sums the base value and the stripes.  It is exact when there are no concurrent updates, but is
+ * not an atomic snapshot while other threads are adding.  Use {@link Counter} when a counter is confined to one
+ * thread, and an {@link java.util.concurrent.atomic.AtomicLong} when a caller needs compare-and-set on the total.
+ *
+ * @since 6.2
+ */
+public final class ConcurrentCounter implements Externalizable
+{
+    public static final LongFunction<ConcurrentCounter> TO_COUNT = new LongFunction<ConcurrentCounter>()
+    {
+        public long longValueOf(ConcurrentCounter counter)
+        {
+            return counter.getCount();
+        }
+    };
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Stripes are 16 longs (128 bytes) apart, so that no two stripes, nor the first stripe and the array header,
+     * share a cache line or an adjacent-line prefetch pair.
+     */
+    private static final int PADDING = 16;
+    private static final int STRIPE_COUNT = ConcurrentCounter.stripeCount(Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicLongFieldUpdater<ConcurrentCounter> BASE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ConcurrentCounter.class, "base");
+    private static final AtomicReferenceFieldUpdater<ConcurrentCounter, AtomicLongArray> STRIPES_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentCounter.class, AtomicLongArray.class, "stripes");
+
+    private static final ThreadLocal<int[]> PROBE = new ThreadLocal<int[]>()
+    {
+        @Override
+        protected int[] initialValue()
+        {
+            int seed = (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 32);
+            return new int[]{seed == 0 ? 1 : seed};
+        }
+    };
+
+    private volatile long base;
+    private volatile AtomicLongArray stripes;
+
+    public ConcurrentCounter(long startCount)
+    {
+        this.base = startCount;
+    }
+
+    public ConcurrentCounter()
+    {
+        this(0L);
+    }
+
+    private static int stripeCount(int processors)
+    {
+        int count = 1;
+        while (count < processors)
+        {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    public void increment()
+    {
+        this.add(1L);
+    }
+
+    public void decrement()
+    {
+        this.add(-1L);
+    }
+
+    public void add(long value)
+    {
+        AtomicLongArray currentStripes = this.stripes;
+        if (currentStripes == null)
+        {
+            long current = this.base;
+            if (BASE_UPDATER.compareAndSet(this, current, current + value))
+            {
+                return;
+            }
+            currentStripes = this.inflate();
+        }
+        int[] probe = PROBE.get();
+        while (true)
+        {
+            int index = ((probe[0] & (STRIPE_COUNT - 1)) + 1) * PADDING;
+            long current = currentStripes.get(index);
+            if (currentStripes.compareAndSet(index, current, current + value))
+            {
+                return;
+            }
+            probe[0] = ConcurrentCounter.advanceProbe(probe[0]);
+        }
+    }
+
+    private AtomicLongArray inflate()
+    {
+        STRIPES_UPDATER.compareAndSet(this, null, new AtomicLongArray((STRIPE_COUNT + 2) * PADDING));
+        return this.stripes;
+    }
+
+    private static int advanceProbe(int probe)
+    {
+        int next = probe ^ (probe << 13);
+        next ^= next >>> 17;
+        return next ^ (next << 5);
+    }
+
+    public long getCount()
+    {
+        long sum = this.base;
+        AtomicLongArray currentStripes = this.stripes;
+        if (currentStripes != null)
+        {
+            for (int i = 1; i <= STRIPE_COUNT; i++)
+            {
+                sum += currentStripes.get(i * PADDING);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sets the count back to zero.  Updates made by other threads while the reset is in progress may or may not be
+     * included in the count afterwards.
+     */
+    public void reset()
+    {
+        this.base = 0L;
+        AtomicLongArray currentStripes = this.stripes;
+        if (currentStripes != null)
+        {
+            for (int i = 1; i <= STRIPE_COUNT; i++)
+            {
+                currentStripes.set(i * PADDING, 0L);
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.valueOf(this.getCount());
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeLong(this.getCount());
+    }
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        this.base = in.readLong();
+    }
+}
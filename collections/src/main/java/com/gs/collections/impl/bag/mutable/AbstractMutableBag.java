@@ -70,6 +70,7 @@ import com.gs.collections.impl.factory.SortedSets;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.OccurrencesThreshold;
 
 public abstract class AbstractMutableBag<T> extends AbstractMutableCollection<T>
 {
@@ -812,44 +813,62 @@ public abstract class AbstractMutableBag<T> extends AbstractMutableCollection<T>
 
     public MutableList<ObjectIntPair<T>> topOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return -item.getTwo();
-            }
-        });
+        return this.occurrencesSelecting(n, true);
     }
 
     public MutableList<ObjectIntPair<T>> bottomOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return item.getTwo();
-            }
-        });
+        return this.occurrencesSelecting(n, false);
     }
 
-    private MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function)
+    /**
+     * Finds the n-th count with a heap bounded to n counts, then sorts only the items that reach it, so selecting
+     * a few items from a bag with many distinct items no longer sorts them all.
+     */
+    private MutableList<ObjectIntPair<T>> occurrencesSelecting(int n, boolean top)
     {
         if (n < 0)
         {
             throw new IllegalArgumentException("Cannot use a value of n < 0");
         }
-        if (n == 0)
+        if (n == 0 || this.isEmpty())
         {
             return Lists.mutable.empty();
         }
         int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        final OccurrencesThreshold threshold = top
+                ? OccurrencesThreshold.largest(keySize)
+                : OccurrencesThreshold.smallest(keySize);
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
-            results.add(sorted.get(keySize));
-            keySize++;
-        }
-        return results;
+            public void value(T each, int count)
+            {
+                threshold.value(count);
+            }
+        });
+        final MutableList<ObjectIntPair<T>> results = FastList.newList(keySize);
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int count)
+            {
+                if (threshold.accepts(count))
+                {
+                    results.add(PrimitiveTuples.pair(each, count));
+                }
+            }
+        });
+        return results.sortThisByInt(top ? new IntFunction<ObjectIntPair<T>>()
+        {
+            public int intValueOf(ObjectIntPair<T> item)
+            {
+                return -item.getTwo();
+            }
+        } : new IntFunction<ObjectIntPair<T>>()
+        {
+            public int intValueOf(ObjectIntPair<T> item)
+            {
+                return item.getTwo();
+            }
+        });
     }
 }
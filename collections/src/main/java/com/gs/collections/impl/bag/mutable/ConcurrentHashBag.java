@@ -0,0 +1,1380 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.ParallelUnsortedBag;
+import com.gs.collections.api.bag.primitive.MutableBooleanBag;
+import com.gs.collections.api.bag.primitive.MutableByteBag;
+import com.gs.collections.api.bag.primitive.MutableCharBag;
+import com.gs.collections.api.bag.primitive.MutableDoubleBag;
+import com.gs.collections.api.bag.primitive.MutableFloatBag;
+import com.gs.collections.api.bag.primitive.MutableIntBag;
+import com.gs.collections.api.bag.primitive.MutableLongBag;
+import com.gs.collections.api.bag.primitive.MutableShortBag;
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.partition.bag.PartitionMutableBag;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.bag.mutable.primitive.BooleanHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.DoubleHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.FloatHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.ShortHashBag;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Bags;
+import com.gs.collections.impl.lazy.parallel.bag.NonParallelUnsortedBag;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.partition.bag.PartitionHashBag;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.LazyIterate;
+
+/**
+ * A ConcurrentHashBag is a thread-safe MutableBag backed by a {@link ConcurrentHashMap} from each item to a striped
+ * count. Adding and removing occurrences of different items only contends on the map's own stripes. Threads adding
+ * the same item start on one compare-and-set, and once they collide each moves to its own padded cell of that item's
+ * count, in the same way as {@link com.gs.collections.impl.ConcurrentCounter}, so a hot item does not serialize its
+ * writers.
+ * <p>
+ * addOccurrences, removeOccurrences, setOccurrences, add and remove are atomic. A removal which cannot simply take
+ * occurrences from the count's base cell retires the whole count, which makes racing adds fail, and swaps a new count
+ * with the remaining occurrences into the map, or removes the key once none remain. Adds and reads of that item wait
+ * for the swap, so a racing add never increments a count that is no longer reachable.
+ * <p>
+ * Read operations such as occurrencesOf, size and iteration are weakly consistent: they reflect some state of each
+ * item's count at or after the point the read started, but not necessarily a single point in time across items. The
+ * size is computed by summing the counts rather than maintained in a shared field, so that writers do not all update
+ * the same memory location.
+ *
+ * @since 6.2
+ */
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable, MutableBag<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ConcurrentHashBag.NULL_KEY";
+        }
+    };
+
+    private ConcurrentHashMap<Object, StripedCount> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        final ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        source.forEachWithOccurrences(new ObjectIntProcedure<E>()
+        {
+            public void value(E each, int occurrences)
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        Iterate.addAllTo(source, result);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinel(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T> T fromSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private LazyIterable<T> distinctItems()
+    {
+        return LazyIterate.collect(this.items.keySet(), new Function<Object, T>()
+        {
+            public T valueOf(Object key)
+            {
+                return ConcurrentHashBag.fromSentinel(key);
+            }
+        });
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.incrementCount(item, occurrences);
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.incrementCount(item, 1);
+        return true;
+    }
+
+    private void incrementCount(T item, int occurrences)
+    {
+        Object key = ConcurrentHashBag.toSentinel(item);
+        while (true)
+        {
+            StripedCount count = this.items.get(key);
+            if (count == null)
+            {
+                count = this.items.putIfAbsent(key, new StripedCount(occurrences));
+                if (count == null)
+                {
+                    return;
+                }
+            }
+            if (count.addIfLive(occurrences))
+            {
+                return;
+            }
+            // A removal has retired this count and is about to swap in its replacement
+            Thread.yield();
+        }
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        return this.decrementCount(item, occurrences) > 0;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.decrementCount(item, 1) > 0;
+    }
+
+    /**
+     * Subtracts up to the given number of occurrences and returns how many were actually removed.
+     */
+    private int decrementCount(Object item, int occurrences)
+    {
+        Object key = ConcurrentHashBag.toSentinel(item);
+        while (true)
+        {
+            StripedCount count = this.items.get(key);
+            if (count == null)
+            {
+                return 0;
+            }
+            if (count.subtractFromBase(occurrences))
+            {
+                return occurrences;
+            }
+            int current = count.retire();
+            if (current >= 0)
+            {
+                int remaining = current > occurrences ? current - occurrences : 0;
+                this.replace(key, count, remaining);
+                return current - remaining;
+            }
+            Thread.yield();
+        }
+    }
+
+    private int removeAllOccurrences(Object key)
+    {
+        while (true)
+        {
+            StripedCount count = this.items.get(key);
+            if (count == null)
+            {
+                return 0;
+            }
+            int current = count.retire();
+            if (current >= 0)
+            {
+                this.items.remove(key, count);
+                return current;
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Swaps a count which the calling thread has retired for a new count of occurrences, or removes it when there are
+     * none left. No other thread changes the mapping of a retired count, so this always succeeds.
+     */
+    private void replace(Object key, StripedCount retired, int occurrences)
+    {
+        if (occurrences == 0)
+        {
+            this.items.remove(key, retired);
+        }
+        else
+        {
+            this.items.replace(key, retired, new StripedCount(occurrences));
+        }
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinel(item);
+        if (occurrences == 0)
+        {
+            return this.removeAllOccurrences(key) > 0;
+        }
+        while (true)
+        {
+            StripedCount count = this.items.get(key);
+            if (count == null)
+            {
+                count = this.items.putIfAbsent(key, new StripedCount(occurrences));
+                if (count == null)
+                {
+                    return true;
+                }
+            }
+            int current = count.retire();
+            if (current >= 0)
+            {
+                this.replace(key, count, occurrences);
+                return current != occurrences;
+            }
+            Thread.yield();
+        }
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        return this.occurrencesOfKey(ConcurrentHashBag.toSentinel(item));
+    }
+
+    private int occurrencesOfKey(Object key)
+    {
+        while (true)
+        {
+            StripedCount count = this.items.get(key);
+            if (count == null)
+            {
+                return 0;
+            }
+            int current = count.get();
+            if (current >= 0)
+            {
+                return current;
+            }
+            Thread.yield();
+        }
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public int size()
+    {
+        final Counter result = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                result.add(occurrences);
+            }
+        });
+        return result.getCount();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.removeAllOccurrences(key);
+        }
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> procedure)
+    {
+        this.items.forEachKeyValue(new Procedure2<Object, StripedCount>()
+        {
+            public void value(Object key, StripedCount count)
+            {
+                int current = count.get();
+                int occurrences = current >= 0 ? current : ConcurrentHashBag.this.occurrencesOfKey(key);
+                if (occurrences > 0)
+                {
+                    procedure.value(ConcurrentHashBag.<T>fromSentinel(key), occurrences);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        return this.toMapOfItemToCount().equals(bag.toMapOfItemToCount());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public String toStringOfItemToCount()
+    {
+        return this.toMapOfItemToCount().toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.items.put(ConcurrentHashBag.toSentinel(in.readObject()), new StripedCount(in.readInt()));
+        }
+    }
+
+    public MutableBag<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(key, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key, parameter);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a weakly consistent iterator. Each item is returned as many times as it occurred when the iterator
+     * first reached it.
+     */
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public SynchronizedBag<T> asSynchronized()
+    {
+        return new SynchronizedBag<T>(this);
+    }
+
+    public UnmodifiableBag<T> asUnmodifiable()
+    {
+        return UnmodifiableBag.of(this);
+    }
+
+    public ImmutableBag<T> toImmutable()
+    {
+        return Bags.immutable.withAll(this);
+    }
+
+    @Override
+    public void removeIf(Predicate<? super T> predicate)
+    {
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>fromSentinel(key)))
+            {
+                this.removeAllOccurrences(key);
+            }
+        }
+    }
+
+    @Override
+    public <P> void removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>fromSentinel(key), parameter))
+            {
+                this.removeAllOccurrences(key);
+            }
+        }
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.removeAllOccurrences(ConcurrentHashBag.toSentinel(each)) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        MutableSet<?> retained = UnifiedSet.newSet(iterable);
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (!retained.contains(ConcurrentHashBag.fromSentinel(key)))
+            {
+                changed |= this.removeAllOccurrences(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public MutableBag<T> select(final Predicate<? super T> predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(each))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <P> MutableBag<T> selectWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(each, parameter))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableBag<T> reject(final Predicate<? super T> predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (!predicate.accept(each))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <P> MutableBag<T> rejectWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (!predicate.accept(each, parameter))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public PartitionMutableBag<T> partition(final Predicate<? super T> predicate)
+    {
+        final PartitionMutableBag<T> result = new PartitionHashBag<T>();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                MutableBag<T> bucket = predicate.accept(each) ? result.getSelected() : result.getRejected();
+                bucket.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    public <P> PartitionMutableBag<T> partitionWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
+    {
+        final PartitionMutableBag<T> result = new PartitionHashBag<T>();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                MutableBag<T> bucket = predicate.accept(each, parameter) ? result.getSelected() : result.getRejected();
+                bucket.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    public <S> MutableBag<S> selectInstancesOf(final Class<S> clazz)
+    {
+        final MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (clazz.isInstance(each))
+                {
+                    result.addOccurrences((S) each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <V> MutableBag<V> collect(final Function<? super T, ? extends V> function)
+    {
+        final HashBag<V> result = HashBag.newBag(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                result.addOccurrences(function.valueOf(each), occurrences);
+            }
+        });
+        return result;
+    }
+
+    public <P, V> MutableBag<V> collectWith(
+            final Function2<? super T, ? super P, ? extends V> function,
+            final P parameter)
+    {
+        final HashBag<V> result = HashBag.newBag(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                result.addOccurrences(function.value(each, parameter), occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <P, V, R extends Collection<V>> R collectWith(final Function2<? super T, ? super P, ? extends V> function, final P parameter, final R target)
+    {
+        if (target instanceof MutableBag<?>)
+        {
+            final MutableBag<V> targetBag = (MutableBag<V>) target;
+
+            this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+            {
+                public void value(T each, int occurrences)
+                {
+                    targetBag.addOccurrences(function.value(each, parameter), occurrences);
+                }
+            });
+        }
+        else
+        {
+            this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+            {
+                public void value(T each, int occurrences)
+                {
+                    V value = function.value(each, parameter);
+                    for (int i = 0; i < occurrences; i++)
+                    {
+                        target.add(value);
+                    }
+                }
+            });
+        }
+        return target;
+    }
+
+    public <V> MutableBag<V> collectIf(
+            final Predicate<? super T> predicate,
+            final Function<? super T, ? extends V> function)
+    {
+        final MutableBag<V> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(each))
+                {
+                    result.addOccurrences(function.valueOf(each), occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <V> MutableBag<V> flatCollect(final Function<? super T, ? extends Iterable<V>> function)
+    {
+        final MutableBag<V> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, final int occurrences)
+            {
+                Iterable<V> values = function.valueOf(each);
+                Iterate.forEach(values, new Procedure<V>()
+                {
+                    public void value(V each)
+                    {
+                        result.addOccurrences(each, occurrences);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    public MutableBooleanBag collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanHashBag());
+    }
+
+    public MutableByteBag collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteHashBag());
+    }
+
+    public MutableCharBag collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharHashBag());
+    }
+
+    public MutableDoubleBag collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleHashBag());
+    }
+
+    public MutableFloatBag collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatHashBag());
+    }
+
+    public MutableIntBag collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntHashBag());
+    }
+
+    public MutableLongBag collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongHashBag());
+    }
+
+    public MutableShortBag collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortHashBag());
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    @Override
+    public <V> MutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        return this.groupByUniqueKey(function, UnifiedMap.<V, T>newMap());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    public <S> MutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, HashBag.<Pair<T, S>>newBag());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    public MutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.<Pair<T, Integer>>newSet());
+    }
+
+    public T getFirst()
+    {
+        return this.distinctItems().getFirst();
+    }
+
+    public T getLast()
+    {
+        return this.distinctItems().getLast();
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.distinctItems().detect(predicate);
+    }
+
+    @Override
+    public <P> T detectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.distinctItems().detectWith(predicate, parameter);
+    }
+
+    @Override
+    public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
+    {
+        return this.distinctItems().detectIfNone(predicate, function);
+    }
+
+    @Override
+    public <P> T detectWithIfNone(
+            final Predicate2<? super T, ? super P> predicate,
+            final P parameter,
+            Function0<? extends T> function)
+    {
+        return this.distinctItems().detectIfNone(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return predicate.accept(each, parameter);
+            }
+        }, function);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.distinctItems().anySatisfy(predicate);
+    }
+
+    @Override
+    public <P> boolean anySatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.distinctItems().anySatisfyWith(predicate, parameter);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.distinctItems().allSatisfy(predicate);
+    }
+
+    @Override
+    public <P> boolean allSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.distinctItems().allSatisfyWith(predicate, parameter);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.distinctItems().noneSatisfy(predicate);
+    }
+
+    @Override
+    public <P> boolean noneSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.distinctItems().noneSatisfyWith(predicate, parameter);
+    }
+
+    @Override
+    public MutableSortedBag<T> toSortedBag()
+    {
+        final TreeBag<T> treeBag = TreeBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int occurrences)
+            {
+                treeBag.addOccurrences(item, occurrences);
+            }
+        });
+        return treeBag;
+    }
+
+    @Override
+    public MutableSortedBag<T> toSortedBag(Comparator<? super T> comparator)
+    {
+        final TreeBag<T> treeBag = TreeBag.newBag(comparator);
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int occurrences)
+            {
+                treeBag.addOccurrences(item, occurrences);
+            }
+        });
+        return treeBag;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableSortedBag<T> toSortedBagBy(Function<? super T, ? extends V> function)
+    {
+        return this.toSortedBag(Comparators.byFunction(function));
+    }
+
+    @Override
+    public T min(Comparator<? super T> comparator)
+    {
+        return this.distinctItems().min(comparator);
+    }
+
+    @Override
+    public T max(Comparator<? super T> comparator)
+    {
+        return this.distinctItems().max(comparator);
+    }
+
+    @Override
+    public T min()
+    {
+        return this.distinctItems().min();
+    }
+
+    @Override
+    public T max()
+    {
+        return this.distinctItems().max();
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> T minBy(Function<? super T, ? extends V> function)
+    {
+        return this.distinctItems().minBy(function);
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function)
+    {
+        return this.distinctItems().maxBy(function);
+    }
+
+    @Beta
+    public ParallelUnsortedBag<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new NonParallelUnsortedBag<T>(this);
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, StripedCount>> entryIterator = ConcurrentHashBag.this.items.entrySet().iterator();
+        private T currentItem;
+        private int remainingOccurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            while (this.remainingOccurrences == 0 && this.entryIterator.hasNext())
+            {
+                Map.Entry<Object, StripedCount> entry = this.entryIterator.next();
+                this.currentItem = ConcurrentHashBag.fromSentinel(entry.getKey());
+                int current = entry.getValue().get();
+                this.remainingOccurrences = current >= 0 ? current : ConcurrentHashBag.this.occurrencesOfKey(entry.getKey());
+            }
+            return this.remainingOccurrences > 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.remainingOccurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            this.canRemove = false;
+            ConcurrentHashBag.this.remove(this.lastReturned);
+        }
+    }
+
+    /**
+     * The count of one item. Adds go to a base cell until two threads collide on it, and then to padded cells chosen
+     * per thread. The cells start as a table of two and grow by doubling, up to the number of processors, each time a
+     * thread collides twice in a row. A table is never copied: growing appends a larger table, which takes the adds
+     * from then on, while the older tables keep their occurrences. A count is never zero while it is live.
+     * {@link #retire()} swaps every cell for {@link #RETIRED} and returns the occurrences they held, after which adds
+     * fail and {@link #get()} returns -1.
+     */
+    private static final class StripedCount
+    {
+        private static final int RETIRED = Integer.MIN_VALUE;
+
+        /**
+         * Cells are 32 ints (128 bytes) apart, so that no two cells, nor the first cell and the array header, share a
+         * cache line or an adjacent-line prefetch pair.
+         */
+        private static final int PADDING = 32;
+        private static final int MAX_CELL_COUNT = StripedCount.cellCount(Runtime.getRuntime().availableProcessors());
+        private static final int INITIAL_CELL_COUNT = Math.min(2, MAX_CELL_COUNT);
+        private static final AtomicIntegerArray[] RETIRED_CELLS = new AtomicIntegerArray[0];
+
+        private static final AtomicIntegerFieldUpdater<StripedCount> BASE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(StripedCount.class, "base");
+        private static final AtomicReferenceFieldUpdater<StripedCount, AtomicIntegerArray[]> CELLS_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(StripedCount.class, AtomicIntegerArray[].class, "cells");
+
+        private static final ThreadLocal<int[]> PROBE = new ThreadLocal<int[]>()
+        {
+            @Override
+            protected int[] initialValue()
+            {
+                int seed = (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 32);
+                return new int[]{seed == 0 ? 1 : seed};
+            }
+        };
+
+        private volatile int base;
+        private volatile AtomicIntegerArray[] cells;
+
+        private StripedCount(int occurrences)
+        {
+            this.base = occurrences;
+        }
+
+        private static int cellCount(int processors)
+        {
+            int count = 1;
+            while (count < processors)
+            {
+                count <<= 1;
+            }
+            return count;
+        }
+
+        private static AtomicIntegerArray newTable(int cellCount)
+        {
+            return new AtomicIntegerArray((cellCount + 2) * PADDING);
+        }
+
+        private static int cellCountOf(AtomicIntegerArray table)
+        {
+            return table.length() / PADDING - 2;
+        }
+
+        /**
+         * Adds occurrences unless this count has been retired, in which case the caller has to wait for its
+         * replacement.
+         */
+        private boolean addIfLive(int occurrences)
+        {
+            AtomicIntegerArray[] currentCells = this.cells;
+            if (currentCells == null)
+            {
+                int current = this.base;
+                if (current == RETIRED)
+                {
+                    return false;
+                }
+                if (BASE_UPDATER.compareAndSet(this, current, current + occurrences))
+                {
+                    return true;
+                }
+                CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray[]{StripedCount.newTable(INITIAL_CELL_COUNT)});
+                currentCells = this.cells;
+            }
+            int[] probe = PROBE.get();
+            boolean collided = false;
+            while (true)
+            {
+                if (currentCells == RETIRED_CELLS)
+                {
+                    return false;
+                }
+                AtomicIntegerArray table = currentCells[currentCells.length - 1];
+                int cellCount = StripedCount.cellCountOf(table);
+                int index = ((probe[0] & (cellCount - 1)) + 1) * PADDING;
+                int current = table.get(index);
+                if (current == RETIRED)
+                {
+                    return false;
+                }
+                if (table.compareAndSet(index, current, current + occurrences))
+                {
+                    return true;
+                }
+                if (collided && cellCount < MAX_CELL_COUNT)
+                {
+                    currentCells = this.grow(currentCells, cellCount << 1);
+                    collided = false;
+                }
+                else
+                {
+                    collided = true;
+                }
+                int next = probe[0] ^ (probe[0] << 13);
+                next ^= next >>> 17;
+                probe[0] = next ^ (next << 5);
+            }
+        }
+
+        /**
+         * Appends a table of cellCount cells to expected, unless another thread has already grown or retired the
+         * cells, and returns the current cells either way.
+         */
+        private AtomicIntegerArray[] grow(AtomicIntegerArray[] expected, int cellCount)
+        {
+            AtomicIntegerArray[] grown = new AtomicIntegerArray[expected.length + 1];
+            System.arraycopy(expected, 0, grown, 0, expected.length);
+            grown[expected.length] = StripedCount.newTable(cellCount);
+            CELLS_UPDATER.compareAndSet(this, expected, grown);
+            return this.cells;
+        }
+
+        /**
+         * Takes occurrences from the base cell if it holds more than that many, which leaves the count live without
+         * retiring it.
+         */
+        private boolean subtractFromBase(int occurrences)
+        {
+            int current = this.base;
+            return current > occurrences && BASE_UPDATER.compareAndSet(this, current, current - occurrences);
+        }
+
+        /**
+         * Returns the number of occurrences, or -1 if this count has been retired.
+         */
+        private int get()
+        {
+            int sum = this.base;
+            if (sum == RETIRED)
+            {
+                return -1;
+            }
+            AtomicIntegerArray[] currentCells = this.cells;
+            if (currentCells == RETIRED_CELLS)
+            {
+                return -1;
+            }
+            if (currentCells != null)
+            {
+                for (AtomicIntegerArray table : currentCells)
+                {
+                    int cellCount = StripedCount.cellCountOf(table);
+                    for (int i = 1; i <= cellCount; i++)
+                    {
+                        int cell = table.get(i * PADDING);
+                        if (cell == RETIRED)
+                        {
+                            return -1;
+                        }
+                        sum += cell;
+                    }
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Retires this count and returns the occurrences it held, or -1 if another thread has already retired it.
+         * Swapping the cells for {@link #RETIRED_CELLS} first stops them from growing, so every table an add can
+         * still reach is retired below.
+         */
+        private int retire()
+        {
+            int sum = BASE_UPDATER.getAndSet(this, RETIRED);
+            if (sum == RETIRED)
+            {
+                return -1;
+            }
+            AtomicIntegerArray[] retiredCells = CELLS_UPDATER.getAndSet(this, RETIRED_CELLS);
+            if (retiredCells != null)
+            {
+                for (AtomicIntegerArray table : retiredCells)
+                {
+                    int cellCount = StripedCount.cellCountOf(table);
+                    for (int i = 1; i <= cellCount; i++)
+                    {
+                        sum += table.getAndSet(i * PADDING, RETIRED);
+                    }
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -63,7 +63,6 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.MutableMap;
-import com.gs.collections.api.map.primitive.MutableObjectIntMap;
 import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.partition.bag.PartitionMutableBag;
 import com.gs.collections.api.set.MutableSet;
@@ -96,6 +95,7 @@ import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.partition.bag.PartitionHashBag;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.utility.ArrayIterate;
@@ -109,11 +109,11 @@ import com.gs.collections.impl.utility.Iterate;
  */
 public class HashBag<T>
         extends AbstractMutableBag<T>
-        implements Externalizable, MutableBag<T>
+        implements Externalizable, MutableBag<T>, BatchIterable<T>
 {
     private static final long serialVersionUID = 1L;
 
-    private MutableObjectIntMap<T> items;
+    private ObjectIntHashMap<T> items;
     private int size;
 
     public HashBag()
@@ -126,7 +126,7 @@ public class HashBag<T>
         this.items = new ObjectIntHashMap<T>(size);
     }
 
-    private HashBag(MutableObjectIntMap<T> map)
+    private HashBag(ObjectIntHashMap<T> map)
     {
         this.items = map;
         this.size = (int) map.sum();
@@ -237,7 +237,7 @@ public class HashBag<T>
 
     public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
     {
-        MutableObjectIntMap<T> map = this.items.select(new ObjectIntPredicate<T>()
+        ObjectIntHashMap<T> map = this.items.select(new ObjectIntPredicate<T>()
         {
             public boolean accept(T each, int occurrences)
             {
@@ -325,6 +325,25 @@ public class HashBag<T>
         });
     }
 
+    public int getBatchCount(int batchSize)
+    {
+        return this.items.getBatchCount(batchSize);
+    }
+
+    public void batchForEach(final Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        this.items.batchForEachKeyValue(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key);
+                }
+            }
+        }, sectionIndex, sectionCount);
+    }
+
     @Override
     public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
     {
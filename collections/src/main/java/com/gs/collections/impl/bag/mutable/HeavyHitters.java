@@ -0,0 +1,292 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import com.gs.collections.impl.utility.internal.OccurrencesThreshold;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * HeavyHitters approximates the most frequent items of a stream in bounded memory, using the Space-Saving algorithm.
+ * At most capacity items are tracked. When an untracked item arrives and every slot is taken, it replaces the tracked
+ * item with the fewest occurrences and inherits that count as its maximum overestimate. Every update costs
+ * O(log capacity).
+ * <p>
+ * Any item occurring more than totalOccurrences / capacity times is guaranteed to be tracked, and for every item
+ * {@link #guaranteedOccurrencesOf(Object)} &lt;= true occurrences &lt;= {@link #estimatedOccurrencesOf(Object)}. When
+ * the stream has no more distinct items than the capacity, the counts are exact. Use a {@link HashBag} when exact
+ * counts are needed for every item.
+ *
+ * @since 6.2
+ */
+@NotThreadSafe
+public final class HeavyHitters<T>
+{
+    // The tracked items form a min-heap ordered by count, so the item to evict is always at index 0
+    private final T[] items;
+    private final int[] counts;
+    private final int[] errors;
+    private final ObjectIntHashMap<T> indices;
+    private int size;
+    private long totalOccurrences;
+    private boolean evicted;
+
+    @SuppressWarnings("unchecked")
+    public HeavyHitters(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("Cannot use a capacity <= 0");
+        }
+        this.items = (T[]) new Object[capacity];
+        this.counts = new int[capacity];
+        this.errors = new int[capacity];
+        this.indices = new ObjectIntHashMap<T>(capacity);
+    }
+
+    public static <T> HeavyHitters<T> newHeavyHitters(int capacity)
+    {
+        return new HeavyHitters<T>(capacity);
+    }
+
+    public int capacity()
+    {
+        return this.items.length;
+    }
+
+    /**
+     * Returns the number of distinct items currently tracked, which never exceeds the capacity.
+     */
+    public int sizeDistinct()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of occurrences added so far, including those of items which are no longer tracked.
+     */
+    public long totalOccurrences()
+    {
+        return this.totalOccurrences;
+    }
+
+    public HeavyHitters<T> with(T item)
+    {
+        this.add(item);
+        return this;
+    }
+
+    public HeavyHitters<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAll(iterable);
+        return this;
+    }
+
+    public void add(T item)
+    {
+        this.addOccurrences(item, 1);
+    }
+
+    public void addAll(Iterable<? extends T> iterable)
+    {
+        for (T each : iterable)
+        {
+            this.addOccurrences(each, 1);
+        }
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return;
+        }
+        this.totalOccurrences += occurrences;
+        int index = this.indices.getIfAbsent(item, -1);
+        if (index >= 0)
+        {
+            this.counts[index] += occurrences;
+            this.siftDown(index);
+        }
+        else if (this.size < this.items.length)
+        {
+            index = this.size;
+            this.size++;
+            this.place(index, item, occurrences, 0);
+            this.siftUp(index);
+        }
+        else
+        {
+            this.indices.removeKey(this.items[0]);
+            this.evicted = true;
+            int minimum = this.counts[0];
+            this.place(0, item, minimum + occurrences, minimum);
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * Returns an upper bound on the occurrences of item. For an untracked item this is the smallest tracked count once
+     * an item has been evicted, since the item may have been evicted with at most that many occurrences.
+     */
+    public int estimatedOccurrencesOf(Object item)
+    {
+        int index = this.indices.getIfAbsent(item, -1);
+        if (index >= 0)
+        {
+            return this.counts[index];
+        }
+        return this.evicted ? this.counts[0] : 0;
+    }
+
+    /**
+     * Returns a lower bound on the occurrences of item: its estimated count less the count it inherited on entry.
+     */
+    public int guaranteedOccurrencesOf(Object item)
+    {
+        int index = this.indices.getIfAbsent(item, -1);
+        return index >= 0 ? this.counts[index] - this.errors[index] : 0;
+    }
+
+    /**
+     * Returns the n tracked items with the highest estimated occurrences, in descending order of estimated
+     * occurrences. Items tied with the last one are included as well.
+     */
+    public MutableList<ObjectIntPair<T>> topOccurrences(int n)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        if (n == 0 || this.size == 0)
+        {
+            return Lists.mutable.empty();
+        }
+        int keySize = Math.min(n, this.size);
+        OccurrencesThreshold threshold = OccurrencesThreshold.largest(keySize);
+        for (int i = 0; i < this.size; i++)
+        {
+            threshold.value(this.counts[i]);
+        }
+        MutableList<ObjectIntPair<T>> results = FastList.newList(keySize);
+        for (int i = 0; i < this.size; i++)
+        {
+            if (threshold.accepts(this.counts[i]))
+            {
+                results.add(PrimitiveTuples.pair(this.items[i], this.counts[i]));
+            }
+        }
+        return results.sortThisByInt(new IntFunction<ObjectIntPair<T>>()
+        {
+            public int intValueOf(ObjectIntPair<T> pair)
+            {
+                return -pair.getTwo();
+            }
+        });
+    }
+
+    public void clear()
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            this.items[i] = null;
+        }
+        this.indices.clear();
+        this.size = 0;
+        this.totalOccurrences = 0L;
+        this.evicted = false;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.topOccurrences(this.size).toString();
+    }
+
+    private void place(int index, T item, int count, int error)
+    {
+        this.items[index] = item;
+        this.counts[index] = count;
+        this.errors[index] = error;
+        this.indices.put(item, index);
+    }
+
+    private void siftUp(int index)
+    {
+        T item = this.items[index];
+        int count = this.counts[index];
+        int error = this.errors[index];
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.counts[parent] <= count)
+            {
+                break;
+            }
+            this.place(child, this.items[parent], this.counts[parent], this.errors[parent]);
+            child = parent;
+        }
+        if (child != index)
+        {
+            this.place(child, item, count, error);
+        }
+    }
+
+    private void siftDown(int index)
+    {
+        T item = this.items[index];
+        int count = this.counts[index];
+        int error = this.errors[index];
+        int parent = index;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.counts[right] < this.counts[child])
+            {
+                child = right;
+            }
+            if (count <= this.counts[child])
+            {
+                break;
+            }
+            this.place(parent, this.items[child], this.counts[child], this.errors[child]);
+            parent = child;
+        }
+        if (parent != index)
+        {
+            this.place(parent, item, count, error);
+        }
+    }
+}
@@ -68,6 +68,7 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.primitive.ObjectIntPair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Iterables;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -132,6 +133,27 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<T>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates an empty bag guarded by a {@link StripedReadWriteLock}, for read-mostly use by many threads. Simple reads
+     * such as contains() and size() then mark a per-core counter instead of taking the shared read lock. A
+     * deserialized copy uses a ReentrantReadWriteLock.
+     *
+     * @since 6.2
+     */
+    public static <T> MultiReaderHashBag<T> newReadMostlyBag()
+    {
+        return new MultiReaderHashBag<T>(HashBag.<T>newBag(), new StripedReadWriteLock());
+    }
+
+    /**
+     * @see #newReadMostlyBag()
+     * @since 6.2
+     */
+    public static <T> MultiReaderHashBag<T> newReadMostlyBag(Iterable<T> iterable)
+    {
+        return new MultiReaderHashBag<T>(HashBag.newBag(iterable), new StripedReadWriteLock());
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -264,14 +286,14 @@ public final class MultiReaderHashBag<T>
 
     public int occurrencesOf(Object item)
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.delegate.occurrencesOf(item);
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -20,12 +20,15 @@
  *     A MutableBag is a {@link java.util.Collection} which contains elements that are unordered and may contain duplicate entries. It adds a protocol for
  * adding, removing, and determining the number of occurrences for an item.
  * <p>
- *     This package contains 3 bag implementations:
+ *     This package contains 4 bag implementations:
  * <ul>
  *     <li>
  *          {@link com.gs.collections.impl.bag.mutable.HashBag} - a {@link com.gs.collections.api.bag.MutableBag} which uses a hashtable as its underlying data store.
  *     </li>
  *     <li>
+ *          {@link com.gs.collections.impl.bag.mutable.ConcurrentHashBag} - a thread-safe {@link com.gs.collections.api.bag.MutableBag} which keeps an atomic count per item in a concurrent hashtable.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.bag.mutable.SynchronizedBag} - a synchronized view of a bag.
  *     </li>
  *     <li>
@@ -33,6 +36,8 @@
  *     </li>
  * </ul>
  * <p>
+ *     It also contains {@link com.gs.collections.impl.bag.mutable.HeavyHitters}, which approximates the most frequent items of a stream in bounded memory.
+ * <p>
  *     This package contains one factory implementation:
  * <ul>
  *     <li>
@@ -29,20 +29,27 @@ import com.gs.collections.api.bag.primitive.BooleanBag;
 import com.gs.collections.api.bag.primitive.ImmutableBooleanBag;
 import com.gs.collections.api.bag.primitive.MutableBooleanBag;
 import com.gs.collections.api.block.function.primitive.BooleanToObjectFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.ObjectBooleanToObjectFunction;
 import com.gs.collections.api.block.predicate.primitive.BooleanPredicate;
 import com.gs.collections.api.block.procedure.primitive.BooleanIntProcedure;
 import com.gs.collections.api.block.procedure.primitive.BooleanProcedure;
 import com.gs.collections.api.iterator.BooleanIterator;
 import com.gs.collections.api.iterator.MutableBooleanIterator;
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.primitive.MutableBooleanList;
 import com.gs.collections.api.set.primitive.BooleanSet;
 import com.gs.collections.api.set.primitive.MutableBooleanSet;
+import com.gs.collections.api.tuple.primitive.BooleanIntPair;
 import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.primitive.BooleanBags;
 import com.gs.collections.impl.lazy.primitive.LazyBooleanIterableAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.set.mutable.primitive.BooleanHashSet;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import com.gs.collections.impl.utility.internal.OccurrencesThreshold;
 import net.jcip.annotations.NotThreadSafe;
 
 /**
@@ -232,6 +239,75 @@ public final class BooleanHashBag implements MutableBooleanBag, Externalizable
         }
     }
 
+    /**
+     * Returns the count most frequently occurring items, together with their occurrences, in descending order of
+     * occurrences. Items tied with the last one are included as well. Runs in O(n log count) for n distinct items.
+     *
+     * @since 6.2
+     */
+    public MutableList<BooleanIntPair> topOccurrences(int count)
+    {
+        return this.occurrencesSelecting(count, true);
+    }
+
+    /**
+     * Returns the count least frequently occurring items, together with their occurrences, in ascending order of
+     * occurrences. Items tied with the last one are included as well. Runs in O(n log count) for n distinct items.
+     *
+     * @since 6.2
+     */
+    public MutableList<BooleanIntPair> bottomOccurrences(int count)
+    {
+        return this.occurrencesSelecting(count, false);
+    }
+
+    private MutableList<BooleanIntPair> occurrencesSelecting(int count, boolean top)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of count < 0");
+        }
+        if (count == 0 || this.isEmpty())
+        {
+            return Lists.mutable.empty();
+        }
+        int keySize = Math.min(count, this.sizeDistinct());
+        final OccurrencesThreshold threshold = top
+                ? OccurrencesThreshold.largest(keySize)
+                : OccurrencesThreshold.smallest(keySize);
+        this.forEachWithOccurrences(new BooleanIntProcedure()
+        {
+            public void value(boolean each, int occurrences)
+            {
+                threshold.value(occurrences);
+            }
+        });
+        final MutableList<BooleanIntPair> results = FastList.newList(keySize);
+        this.forEachWithOccurrences(new BooleanIntProcedure()
+        {
+            public void value(boolean each, int occurrences)
+            {
+                if (threshold.accepts(occurrences))
+                {
+                    results.add(PrimitiveTuples.pair(each, occurrences));
+                }
+            }
+        });
+        return results.sortThisByInt(top ? new IntFunction<BooleanIntPair>()
+        {
+            public int intValueOf(BooleanIntPair pair)
+            {
+                return -pair.getTwo();
+            }
+        } : new IntFunction<BooleanIntPair>()
+        {
+            public int intValueOf(BooleanIntPair pair)
+            {
+                return pair.getTwo();
+            }
+        });
+    }
+
     public boolean add(boolean item)
     {
         if (item)
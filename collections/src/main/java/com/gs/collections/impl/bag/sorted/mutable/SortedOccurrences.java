@@ -0,0 +1,708 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.utility.LazyIterate;
+
+/**
+ * The sorted item-to-count store behind {@link TreeBag}. Distinct items are kept in ascending order in a list of
+ * chunks, each holding up to {@value #MAXIMUM_CHUNK_CAPACITY} items in an array next to a parallel array of int counts.
+ * Compared with a sorted map of item to Counter, this drops the map entry and the Counter object for every distinct
+ * item. Lookups and updates binary search the chunks, then the items within one chunk.
+ * <p>
+ * A Fenwick tree over the per-chunk totals answers rank and select queries, {@link #occurrencesBefore(Object)} and
+ * {@link #get(int)}, in O(log n). Splitting or dropping a chunk only marks the tree stale, and the next rank query
+ * rebuilds it in one linear pass.
+ * <p>
+ * Iterating this store returns each distinct item once, in order.
+ */
+final class SortedOccurrences<T> implements Iterable<T>
+{
+    private static final int INITIAL_CHUNK_CAPACITY = 4;
+    private static final int MAXIMUM_CHUNK_CAPACITY = 64;
+
+    private final Comparator<? super T> comparator;
+    private Chunk[] chunks = new Chunk[1];
+    private int chunkCount;
+    private int sizeDistinct;
+    private int size;
+    private int[] totals;
+    private boolean totalsValid;
+
+    SortedOccurrences(Comparator<? super T> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    public SortedOccurrences<T> copy()
+    {
+        SortedOccurrences<T> copy = new SortedOccurrences<T>(this.comparator);
+        copy.chunks = new Chunk[Math.max(1, this.chunkCount)];
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            copy.chunks[i] = this.chunks[i].copy();
+        }
+        copy.chunkCount = this.chunkCount;
+        copy.sizeDistinct = this.sizeDistinct;
+        copy.size = this.size;
+        return copy;
+    }
+
+    public void clear()
+    {
+        this.chunks = new Chunk[1];
+        this.chunkCount = 0;
+        this.sizeDistinct = 0;
+        this.size = 0;
+        this.totals = null;
+        this.totalsValid = false;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.occurrencesOf(key) > 0;
+    }
+
+    public int occurrencesOf(Object key)
+    {
+        long location = this.locate(key);
+        int chunkIndex = SortedOccurrences.chunkIndex(location);
+        int index = SortedOccurrences.indexInChunk(location);
+        return chunkIndex == this.chunkCount || index < 0 ? 0 : this.chunks[chunkIndex].counts[index];
+    }
+
+    public void addOccurrences(T key, int occurrences)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+        if (this.chunkCount == 0)
+        {
+            // Like TreeMap, compare the first key with itself so that an incomparable key fails before it is stored
+            this.compare(key, key);
+            Chunk first = new Chunk(INITIAL_CHUNK_CAPACITY);
+            first.insert(0, key, occurrences);
+            this.chunks[0] = first;
+            this.chunkCount = 1;
+            this.sizeDistinct = 1;
+            this.size = occurrences;
+            this.totalsValid = false;
+            return;
+        }
+        long location = this.locate(key);
+        int chunkIndex = SortedOccurrences.chunkIndex(location);
+        int index = SortedOccurrences.indexInChunk(location);
+        if (chunkIndex == this.chunkCount)
+        {
+            chunkIndex--;
+            index = -this.chunks[chunkIndex].size - 1;
+        }
+        Chunk chunk = this.chunks[chunkIndex];
+        if (index >= 0)
+        {
+            this.adjustCount(chunkIndex, index, occurrences);
+            return;
+        }
+        index = -index - 1;
+        if (chunk.size == chunk.keys.length)
+        {
+            if (chunk.keys.length < MAXIMUM_CHUNK_CAPACITY)
+            {
+                chunk.grow(Math.min(MAXIMUM_CHUNK_CAPACITY, chunk.keys.length << 1));
+            }
+            else if (index == chunk.size && chunkIndex == this.chunkCount - 1)
+            {
+                // Appending in ascending order leaves full chunks behind instead of half empty ones
+                chunkIndex++;
+                index = 0;
+                chunk = this.insertChunk(chunkIndex, new Chunk(INITIAL_CHUNK_CAPACITY));
+            }
+            else if (index == 0 && chunkIndex == 0)
+            {
+                chunk = this.insertChunk(0, new Chunk(INITIAL_CHUNK_CAPACITY));
+            }
+            else
+            {
+                int half = chunk.size >>> 1;
+                Chunk upper = this.insertChunk(chunkIndex + 1, chunk.split(half));
+                if (index > half)
+                {
+                    chunkIndex++;
+                    index -= half;
+                    chunk = upper;
+                }
+            }
+        }
+        chunk.insert(index, key, occurrences);
+        this.sizeDistinct++;
+        this.size += occurrences;
+        if (this.totalsValid)
+        {
+            this.updateTotals(chunkIndex, occurrences);
+        }
+    }
+
+    /**
+     * Removes up to occurrences of key, dropping it once its count reaches zero, and returns how many were removed.
+     */
+    public int removeOccurrences(Object key, int occurrences)
+    {
+        long location = this.locate(key);
+        int chunkIndex = SortedOccurrences.chunkIndex(location);
+        int index = SortedOccurrences.indexInChunk(location);
+        if (chunkIndex == this.chunkCount || index < 0)
+        {
+            return 0;
+        }
+        return this.removeOccurrencesAt(chunkIndex, index, occurrences);
+    }
+
+    /**
+     * Sets the count of key, removing it when occurrences is zero, and returns the previous count.
+     */
+    public int setOccurrences(T key, int occurrences)
+    {
+        int previous = this.occurrencesOf(key);
+        if (occurrences > previous)
+        {
+            this.addOccurrences(key, occurrences - previous);
+        }
+        else if (occurrences < previous)
+        {
+            this.removeOccurrences(key, previous - occurrences);
+        }
+        return previous;
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            Chunk chunk = this.chunks[i];
+            for (int j = 0; j < chunk.size; j++)
+            {
+                procedure.value((T) chunk.keys[j], chunk.counts[j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the first item, or null if there are none.
+     */
+    public T firstKey()
+    {
+        return this.chunkCount == 0 ? null : (T) this.chunks[0].keys[0];
+    }
+
+    /**
+     * Returns the last item, or null if there are none.
+     */
+    public T lastKey()
+    {
+        return this.chunkCount == 0 ? null : (T) this.chunks[this.chunkCount - 1].lastKey();
+    }
+
+    /**
+     * Returns the number of occurrences of all items ordered before key, or -1 if key is not present.
+     */
+    public int indexOf(Object key)
+    {
+        long location = this.locate(key);
+        int chunkIndex = SortedOccurrences.chunkIndex(location);
+        int index = SortedOccurrences.indexInChunk(location);
+        if (chunkIndex == this.chunkCount || index < 0)
+        {
+            return -1;
+        }
+        Chunk chunk = this.chunks[chunkIndex];
+        int result = this.occurrencesBeforeChunk(chunkIndex);
+        for (int i = 0; i < index; i++)
+        {
+            result += chunk.counts[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of occurrences of all items ordered before key, whether or not key itself is present.
+     */
+    public int occurrencesBefore(Object key)
+    {
+        long location = this.locate(key);
+        int chunkIndex = SortedOccurrences.chunkIndex(location);
+        int result = this.occurrencesBeforeChunk(chunkIndex);
+        if (chunkIndex < this.chunkCount)
+        {
+            Chunk chunk = this.chunks[chunkIndex];
+            int index = SortedOccurrences.indexInChunk(location);
+            int end = index < 0 ? -index - 1 : index;
+            for (int i = 0; i < end; i++)
+            {
+                result += chunk.counts[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the item at position index when every occurrence is counted, in ascending order.
+     */
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        this.ensureTotals();
+        int[] tree = this.totals;
+        int chunkIndex = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(this.chunkCount); step > 0; step >>>= 1)
+        {
+            int next = chunkIndex + step;
+            if (next <= this.chunkCount && tree[next] <= remaining)
+            {
+                chunkIndex = next;
+                remaining -= tree[next];
+            }
+        }
+        Chunk chunk = this.chunks[chunkIndex];
+        int position = 0;
+        while (remaining >= chunk.counts[position])
+        {
+            remaining -= chunk.counts[position];
+            position++;
+        }
+        return (T) chunk.keys[position];
+    }
+
+    public LazyIterable<T> keysView()
+    {
+        return LazyIterate.adapt(this);
+    }
+
+    public Cursor iterator()
+    {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("{");
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                builder.append(each).append('=').append(occurrences);
+            }
+        });
+        return builder.append('}').toString();
+    }
+
+    private int compare(Object one, Object two)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<Object>) one).compareTo(two);
+        }
+        return this.comparator.compare((T) one, (T) two);
+    }
+
+    /**
+     * Finds the first chunk whose last item is not less than key, or chunkCount if key is past every item, and the
+     * index of key within that chunk, or (-(insertion point) - 1) if it is absent. Both are packed into one long, to be
+     * unpacked with {@link #chunkIndex(long)} and {@link #indexInChunk(long)}. A key equal to the last item of a chunk
+     * is found without searching inside the chunk, so each comparison is made at most once.
+     */
+    private long locate(Object key)
+    {
+        int low = 0;
+        int high = this.chunkCount - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            Chunk chunk = this.chunks[middle];
+            int comparison = this.compare(chunk.lastKey(), key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return SortedOccurrences.location(middle, chunk.size - 1);
+            }
+        }
+        if (low == this.chunkCount)
+        {
+            return SortedOccurrences.location(low, -1);
+        }
+        return SortedOccurrences.location(low, this.searchChunk(this.chunks[low], key));
+    }
+
+    private static long location(int chunkIndex, int indexInChunk)
+    {
+        return ((long) chunkIndex << 32) | ((long) indexInChunk & 0xFFFFFFFFL);
+    }
+
+    private static int chunkIndex(long location)
+    {
+        return (int) (location >>> 32);
+    }
+
+    private static int indexInChunk(long location)
+    {
+        return (int) location;
+    }
+
+    /**
+     * Binary searches a chunk whose last item is known to be greater than key, so the last item is not compared.
+     */
+    private int searchChunk(Chunk chunk, Object key)
+    {
+        int low = 0;
+        int high = chunk.size - 2;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(chunk.keys[middle], key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int removeOccurrencesAt(int chunkIndex, int index, int occurrences)
+    {
+        Chunk chunk = this.chunks[chunkIndex];
+        int count = chunk.counts[index];
+        if (occurrences < count)
+        {
+            this.adjustCount(chunkIndex, index, -occurrences);
+            return occurrences;
+        }
+        chunk.remove(index);
+        this.sizeDistinct--;
+        this.size -= count;
+        if (chunk.size == 0)
+        {
+            this.removeChunk(chunkIndex);
+        }
+        else if (this.totalsValid)
+        {
+            this.updateTotals(chunkIndex, -count);
+        }
+        return count;
+    }
+
+    private void adjustCount(int chunkIndex, int index, int delta)
+    {
+        Chunk chunk = this.chunks[chunkIndex];
+        chunk.counts[index] += delta;
+        chunk.total += delta;
+        this.size += delta;
+        if (this.totalsValid)
+        {
+            this.updateTotals(chunkIndex, delta);
+        }
+    }
+
+    private Chunk insertChunk(int chunkIndex, Chunk chunk)
+    {
+        if (this.chunkCount == this.chunks.length)
+        {
+            Chunk[] newChunks = new Chunk[this.chunks.length << 1];
+            System.arraycopy(this.chunks, 0, newChunks, 0, this.chunkCount);
+            this.chunks = newChunks;
+        }
+        System.arraycopy(this.chunks, chunkIndex, this.chunks, chunkIndex + 1, this.chunkCount - chunkIndex);
+        this.chunks[chunkIndex] = chunk;
+        this.chunkCount++;
+        this.totalsValid = false;
+        return chunk;
+    }
+
+    private void removeChunk(int chunkIndex)
+    {
+        this.chunkCount--;
+        System.arraycopy(this.chunks, chunkIndex + 1, this.chunks, chunkIndex, this.chunkCount - chunkIndex);
+        this.chunks[this.chunkCount] = null;
+        this.totalsValid = false;
+    }
+
+    private int occurrencesBeforeChunk(int chunkIndex)
+    {
+        this.ensureTotals();
+        int result = 0;
+        for (int i = chunkIndex; i > 0; i -= i & -i)
+        {
+            result += this.totals[i];
+        }
+        return result;
+    }
+
+    private void ensureTotals()
+    {
+        if (this.totalsValid)
+        {
+            return;
+        }
+        int[] tree = this.totals;
+        if (tree == null || tree.length < this.chunks.length + 1)
+        {
+            tree = new int[this.chunks.length + 1];
+            this.totals = tree;
+        }
+        for (int i = 1; i <= this.chunkCount; i++)
+        {
+            tree[i] = this.chunks[i - 1].total;
+        }
+        for (int i = this.chunkCount + 1; i < tree.length; i++)
+        {
+            tree[i] = 0;
+        }
+        for (int i = 1; i <= this.chunkCount; i++)
+        {
+            int parent = i + (i & -i);
+            if (parent <= this.chunkCount)
+            {
+                tree[parent] += tree[i];
+            }
+        }
+        this.totalsValid = true;
+    }
+
+    private void updateTotals(int chunkIndex, int delta)
+    {
+        for (int i = chunkIndex + 1; i <= this.chunkCount; i += i & -i)
+        {
+            this.totals[i] += delta;
+        }
+    }
+
+    private static final class Chunk
+    {
+        private Object[] keys;
+        private int[] counts;
+        private int size;
+        private int total;
+
+        private Chunk(int capacity)
+        {
+            this.keys = new Object[capacity];
+            this.counts = new int[capacity];
+        }
+
+        private Object lastKey()
+        {
+            return this.keys[this.size - 1];
+        }
+
+        private void grow(int capacity)
+        {
+            Object[] newKeys = new Object[capacity];
+            int[] newCounts = new int[capacity];
+            System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+            System.arraycopy(this.counts, 0, newCounts, 0, this.size);
+            this.keys = newKeys;
+            this.counts = newCounts;
+        }
+
+        private void insert(int index, Object key, int count)
+        {
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+            System.arraycopy(this.counts, index, this.counts, index + 1, this.size - index);
+            this.keys[index] = key;
+            this.counts[index] = count;
+            this.size++;
+            this.total += count;
+        }
+
+        private void remove(int index)
+        {
+            this.total -= this.counts[index];
+            this.size--;
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index);
+            System.arraycopy(this.counts, index + 1, this.counts, index, this.size - index);
+            this.keys[this.size] = null;
+        }
+
+        /**
+         * Moves the items from index on into a new chunk of the same capacity and returns it.
+         */
+        private Chunk split(int index)
+        {
+            Chunk upper = new Chunk(this.keys.length);
+            int moved = this.size - index;
+            System.arraycopy(this.keys, index, upper.keys, 0, moved);
+            System.arraycopy(this.counts, index, upper.counts, 0, moved);
+            for (int i = index; i < this.size; i++)
+            {
+                upper.total += this.counts[i];
+                this.total -= this.counts[i];
+                this.keys[i] = null;
+            }
+            upper.size = moved;
+            this.size = index;
+            return upper;
+        }
+
+        private Chunk copy()
+        {
+            Chunk copy = new Chunk(this.keys.length);
+            System.arraycopy(this.keys, 0, copy.keys, 0, this.size);
+            System.arraycopy(this.counts, 0, copy.counts, 0, this.size);
+            copy.size = this.size;
+            copy.total = this.total;
+            return copy;
+        }
+    }
+
+    /**
+     * Iterates the distinct items in order. Besides removing the item last returned, it can report and reduce that
+     * item's count.
+     */
+    final class Cursor implements Iterator<T>
+    {
+        private int chunkIndex;
+        private int index;
+        private int lastChunkIndex = -1;
+        private int lastIndex = -1;
+
+        public boolean hasNext()
+        {
+            if (this.chunkIndex >= SortedOccurrences.this.chunkCount)
+            {
+                return false;
+            }
+            return this.index < SortedOccurrences.this.chunks[this.chunkIndex].size
+                    || this.chunkIndex + 1 < SortedOccurrences.this.chunkCount;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.index >= SortedOccurrences.this.chunks[this.chunkIndex].size)
+            {
+                this.chunkIndex++;
+                this.index = 0;
+            }
+            this.lastChunkIndex = this.chunkIndex;
+            this.lastIndex = this.index;
+            this.index++;
+            return (T) SortedOccurrences.this.chunks[this.chunkIndex].keys[this.lastIndex];
+        }
+
+        /**
+         * Returns the count of the item last returned by {@link #next()}.
+         */
+        public int occurrences()
+        {
+            this.checkLastReturned();
+            return SortedOccurrences.this.chunks[this.lastChunkIndex].counts[this.lastIndex];
+        }
+
+        /**
+         * Removes every occurrence of the item last returned by {@link #next()}.
+         */
+        public void remove()
+        {
+            this.removeOccurrences(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Removes one occurrence of the item last returned by {@link #next()}. The item stays current until its
+         * count reaches zero.
+         */
+        public void removeOccurrence()
+        {
+            this.removeOccurrences(1);
+        }
+
+        private void removeOccurrences(int occurrences)
+        {
+            this.checkLastReturned();
+            int chunkCountBefore = SortedOccurrences.this.chunkCount;
+            int count = SortedOccurrences.this.chunks[this.lastChunkIndex].counts[this.lastIndex];
+            SortedOccurrences.this.removeOccurrencesAt(this.lastChunkIndex, this.lastIndex, occurrences);
+            if (occurrences >= count)
+            {
+                if (SortedOccurrences.this.chunkCount < chunkCountBefore)
+                {
+                    this.index = 0;
+                }
+                else
+                {
+                    this.index--;
+                }
+                this.lastChunkIndex = -1;
+                this.lastIndex = -1;
+            }
+        }
+
+        private void checkLastReturned()
+        {
+            if (this.lastIndex < 0)
+            {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
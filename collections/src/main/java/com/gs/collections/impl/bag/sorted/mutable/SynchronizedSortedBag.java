@@ -262,6 +262,38 @@ public class SynchronizedSortedBag<T>
         }
     }
 
+    public T get(int index)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().get(index);
+        }
+    }
+
+    public T percentile(double percentile)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().percentile(percentile);
+        }
+    }
+
+    public int occurrencesBefore(T element)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().occurrencesBefore(element);
+        }
+    }
+
+    public int occurrencesBetween(T fromElement, T toElement)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().occurrencesBetween(fromElement, toElement);
+        }
+    }
+
     public MutableStack<T> toStack()
     {
         synchronized (this.getLock())
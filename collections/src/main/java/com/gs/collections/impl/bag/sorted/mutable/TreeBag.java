@@ -24,9 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.annotation.Beta;
@@ -71,7 +69,6 @@ import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.AbstractMutableBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates2;
-import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -93,8 +90,10 @@ import com.gs.collections.impl.utility.OrderedIterate;
 import com.gs.collections.impl.utility.internal.IterableIterate;
 
 /**
- * A TreeBag is a MutableSortedBag which uses a SortedMap as its underlying data store.  Each key in the SortedMap represents some item,
- * and the value in the map represents the current number of occurrences of that item.
+ * A TreeBag is a MutableSortedBag which keeps its distinct items in sorted order alongside an int count of the current
+ * number of occurrences of each item. The items and counts are stored in chunks of parallel arrays rather than as the
+ * entries of a SortedMap of item to Counter, which takes less than half the memory per distinct item and lets
+ * {@link #indexOf(Object)}, {@link #get(int)} and {@link #percentile(double)} run in O(log n).
  *
  * @since 4.2
  */
@@ -102,31 +101,17 @@ public class TreeBag<T>
         extends AbstractMutableBag<T>
         implements Externalizable, MutableSortedBag<T>
 {
-    private static final Function0<Counter> NEW_COUNTER_BLOCK = new Function0<Counter>()
-    {
-        public Counter value()
-        {
-            return new Counter();
-        }
-    };
     private static final long serialVersionUID = 1L;
-    private MutableSortedMap<T, Counter> items;
-    private int size;
+    private SortedOccurrences<T> items;
 
     public TreeBag()
     {
-        this.items = TreeSortedMap.newMap();
-    }
-
-    private TreeBag(MutableSortedMap<T, Counter> map)
-    {
-        this.items = map;
-        this.size = (int) map.valuesView().sumOfInt(Counter.TO_COUNT);
+        this.items = new SortedOccurrences<T>(null);
     }
 
     public TreeBag(Comparator<? super T> comparator)
     {
-        this.items = TreeSortedMap.newMap(comparator);
+        this.items = new SortedOccurrences<T>(comparator);
     }
 
     public TreeBag(SortedBag<T> sortedBag)
@@ -225,7 +210,7 @@ public class TreeBag<T>
         try
         {
             TreeBag<T> clone = (TreeBag<T>) super.clone();
-            clone.items = this.items.clone();
+            clone.items = this.items.copy();
             return clone;
         }
         catch (CloneNotSupportedException e)
@@ -251,18 +236,20 @@ public class TreeBag<T>
             return false;
         }
 
-        return this.items.keyValuesView().allSatisfy(new Predicate<Pair<T, Counter>>()
+        for (SortedOccurrences<T>.Cursor cursor = this.items.iterator(); cursor.hasNext(); )
         {
-            public boolean accept(Pair<T, Counter> each)
+            T each = cursor.next();
+            if (bag.occurrencesOf(each) != cursor.occurrences())
             {
-                return bag.occurrencesOf(each.getOne()) == each.getTwo().getCount();
+                return false;
             }
-        });
+        }
+        return true;
     }
 
     public int sizeDistinct()
     {
-        return this.items.size();
+        return this.items.sizeDistinct();
     }
 
     @Override
@@ -279,33 +266,30 @@ public class TreeBag<T>
         return counter.getCount();
     }
 
-    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> procedure)
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
     {
-        this.items.forEachKeyValue(new Procedure2<T, Counter>()
-        {
-            public void value(T item, Counter count)
-            {
-                procedure.value(item, count.getCount());
-            }
-        });
+        this.items.forEachWithOccurrences(procedure);
     }
 
     public MutableSortedBag<T> selectByOccurrences(final IntPredicate predicate)
     {
-        MutableSortedMap<T, Counter> map = this.items.select(new Predicate2<T, Counter>()
+        final MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
-            public boolean accept(T each, Counter occurrences)
+            public void value(T each, int occurrences)
             {
-                return predicate.accept(occurrences.getCount());
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
             }
         });
-        return new TreeBag<T>(map);
+        return result;
     }
 
     public int occurrencesOf(Object item)
     {
-        Counter counter = this.items.get(item);
-        return counter == null ? 0 : counter.getCount();
+        return this.items.occurrencesOf(item);
     }
 
     public MutableSortedMap<T, Integer> toMapOfItemToCount()
@@ -329,33 +313,18 @@ public class TreeBag<T>
     @Override
     public boolean isEmpty()
     {
-        return this.items.isEmpty();
+        return this.items.sizeDistinct() == 0;
     }
 
     @Override
     public boolean remove(Object item)
     {
-        Counter counter = this.items.get(item);
-        if (counter != null)
-        {
-            if (counter.getCount() > 1)
-            {
-                counter.decrement();
-            }
-            else
-            {
-                this.items.remove(item);
-            }
-            this.size--;
-            return true;
-        }
-        return false;
+        return this.items.removeOccurrences(item, 1) > 0;
     }
 
     public void clear()
     {
         this.items.clear();
-        this.size = 0;
     }
 
     @Override
@@ -369,34 +338,20 @@ public class TreeBag<T>
         return TreeBag.compare(this, otherBag);
     }
 
-    public void writeExternal(final ObjectOutput out) throws IOException
+    public void writeExternal(ObjectOutput out) throws IOException
     {
         out.writeObject(this.comparator());
-        out.writeInt(this.items.size());
-        try
-        {
-            this.items.forEachKeyValue(new CheckedProcedure2<T, Counter>()
-            {
-                public void safeValue(T object, Counter parameter) throws Exception
-                {
-                    out.writeObject(object);
-                    out.writeInt(parameter.getCount());
-                }
-            });
-        }
-        catch (RuntimeException e)
+        out.writeInt(this.items.sizeDistinct());
+        for (SortedOccurrences<T>.Cursor cursor = this.items.iterator(); cursor.hasNext(); )
         {
-            if (e.getCause() instanceof IOException)
-            {
-                throw (IOException) e.getCause();
-            }
-            throw e;
+            out.writeObject(cursor.next());
+            out.writeInt(cursor.occurrences());
         }
     }
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
-        this.items = new TreeSortedMap<T, Counter>((Comparator<T>) in.readObject());
+        this.items = new SortedOccurrences<T>((Comparator<T>) in.readObject());
         int size = in.readInt();
         for (int i = 0; i < size; i++)
         {
@@ -412,13 +367,13 @@ public class TreeBag<T>
 
     public void each(final Procedure<? super T> procedure)
     {
-        this.items.forEachKeyValue(new Procedure2<T, Counter>()
+        this.items.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
-            public void value(T key, Counter value)
+            public void value(T each, int occurrences)
             {
-                for (int i = 0; i < value.getCount(); i++)
+                for (int i = 0; i < occurrences; i++)
                 {
-                    procedure.value(key);
+                    procedure.value(each);
                 }
             }
         });
@@ -428,13 +383,13 @@ public class TreeBag<T>
     public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
     {
         final Counter index = new Counter();
-        this.items.forEachKeyValue(new Procedure2<T, Counter>()
+        this.items.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
-            public void value(T key, Counter value)
+            public void value(T each, int occurrences)
             {
-                for (int i = 0; i < value.getCount(); i++)
+                for (int i = 0; i < occurrences; i++)
                 {
-                    objectIntProcedure.value(key, index.getCount());
+                    objectIntProcedure.value(each, index.getCount());
                     index.increment();
                 }
             }
@@ -443,110 +398,60 @@ public class TreeBag<T>
 
     public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
     {
-        ListIterate.rangeCheck(fromIndex, toIndex, this.size);
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
         if (fromIndex > toIndex)
         {
             throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
         }
 
-        Iterator<Map.Entry<T, Counter>> iterator = this.items.entrySet().iterator();
+        SortedOccurrences<T>.Cursor cursor = this.items.iterator();
         int i = 0;
-        while (iterator.hasNext() && i < fromIndex)
+        while (cursor.hasNext() && i <= toIndex)
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-            if (i + count < fromIndex)
+            T each = cursor.next();
+            int count = cursor.occurrences();
+            int end = Math.min(i + count, toIndex + 1);
+            for (int j = Math.max(i, fromIndex); j < end; j++)
             {
-                i += count;
-            }
-            else
-            {
-                for (int j = 0; j < count; j++)
-                {
-                    if (i >= fromIndex && i <= toIndex)
-                    {
-                        procedure.value(entry.getKey());
-                    }
-                    i++;
-                }
-            }
-        }
-        while (iterator.hasNext() && i <= toIndex)
-        {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-
-            for (int j = 0; j < count; j++)
-            {
-                if (i <= toIndex)
-                {
-                    procedure.value(entry.getKey());
-                }
-                i++;
+                procedure.value(each);
             }
+            i += count;
         }
     }
 
     public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
     {
-        ListIterate.rangeCheck(fromIndex, toIndex, this.size);
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
         if (fromIndex > toIndex)
         {
             throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
         }
 
-        Iterator<Map.Entry<T, Counter>> iterator = this.items.entrySet().iterator();
+        SortedOccurrences<T>.Cursor cursor = this.items.iterator();
         int i = 0;
-        while (iterator.hasNext() && i < fromIndex)
+        while (cursor.hasNext() && i <= toIndex)
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-            if (i + count < fromIndex)
+            T each = cursor.next();
+            int count = cursor.occurrences();
+            int end = Math.min(i + count, toIndex + 1);
+            for (int j = Math.max(i, fromIndex); j < end; j++)
             {
-                i += count;
-            }
-            else
-            {
-                for (int j = 0; j < count; j++)
-                {
-                    if (i >= fromIndex && i <= toIndex)
-                    {
-                        objectIntProcedure.value(entry.getKey(), i);
-                    }
-                    i++;
-                }
-            }
-        }
-        while (iterator.hasNext() && i <= toIndex)
-        {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-
-            for (int j = 0; j < count; j++)
-            {
-                if (i <= toIndex)
-                {
-                    objectIntProcedure.value(entry.getKey(), i);
-                }
-                i++;
+                objectIntProcedure.value(each, j);
             }
+            i += count;
         }
     }
 
     @Override
     public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
     {
-        this.items.forEachKeyValue(new Procedure2<T, Counter>()
+        this.items.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
-            public void value(T key, Counter value)
+            public void value(T each, int occurrences)
             {
-                for (int i = 0; i < value.getCount(); i++)
+                for (int i = 0; i < occurrences; i++)
                 {
-                    procedure.value(key, parameter);
+                    procedure.value(each, parameter);
                 }
             }
         });
@@ -565,8 +470,7 @@ public class TreeBag<T>
         }
         if (occurrences > 0)
         {
-            this.items.getIfAbsentPut(item, NEW_COUNTER_BLOCK).add(occurrences);
-            this.size += occurrences;
+            this.items.addOccurrences(item, occurrences);
         }
     }
 
@@ -582,23 +486,7 @@ public class TreeBag<T>
             return false;
         }
 
-        Counter counter = this.items.get(item);
-        if (counter == null)
-        {
-            return false;
-        }
-        int startCount = counter.getCount();
-
-        if (occurrences >= startCount)
-        {
-            this.items.remove(item);
-            this.size -= startCount;
-            return true;
-        }
-
-        counter.add(occurrences * -1);
-        this.size -= occurrences;
-        return true;
+        return this.items.removeOccurrences(item, occurrences) > 0;
     }
 
     public boolean setOccurrences(T item, int occurrences)
@@ -608,24 +496,7 @@ public class TreeBag<T>
             throw new IllegalArgumentException("Cannot set a negative number of occurrences");
         }
 
-        int originalOccurrences = this.occurrencesOf(item);
-
-        if (originalOccurrences == occurrences)
-        {
-            return false;
-        }
-
-        if (occurrences == 0)
-        {
-            this.items.remove(item);
-        }
-        else
-        {
-            this.items.put(item, new Counter(occurrences));
-        }
-
-        this.size -= originalOccurrences - occurrences;
-        return true;
+        return this.items.setOccurrences(item, occurrences) != occurrences;
     }
 
     public TreeBag<T> without(T element)
@@ -668,7 +539,7 @@ public class TreeBag<T>
 
     public MutableSortedBag<T> newEmpty()
     {
-        return TreeBag.newBag(this.items.comparator());
+        return TreeBag.newBag(this.comparator());
     }
 
     public <P> MutableSortedBag<T> selectWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
@@ -706,13 +577,10 @@ public class TreeBag<T>
     @Override
     public void removeIf(Predicate<? super T> predicate)
     {
-        Set<Map.Entry<T, Counter>> entries = this.items.entrySet();
-        for (Iterator<Map.Entry<T, Counter>> iterator = entries.iterator(); iterator.hasNext(); )
+        for (Iterator<T> iterator = this.items.iterator(); iterator.hasNext(); )
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            if (predicate.accept(entry.getKey()))
+            if (predicate.accept(iterator.next()))
             {
-                this.size -= entry.getValue().getCount();
                 iterator.remove();
             }
         }
@@ -721,13 +589,10 @@ public class TreeBag<T>
     @Override
     public <P> void removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        Set<Map.Entry<T, Counter>> entries = this.items.entrySet();
-        for (Iterator<Map.Entry<T, Counter>> iterator = entries.iterator(); iterator.hasNext(); )
+        for (Iterator<T> iterator = this.items.iterator(); iterator.hasNext(); )
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            if (predicate.accept(entry.getKey(), parameter))
+            if (predicate.accept(iterator.next(), parameter))
             {
-                this.size -= entry.getValue().getCount();
                 iterator.remove();
             }
         }
@@ -775,29 +640,25 @@ public class TreeBag<T>
     @Override
     public boolean removeAllIterable(Iterable<?> iterable)
     {
-        int oldSize = this.size;
+        int oldSize = this.size();
         for (Object each : iterable)
         {
-            Counter removed = this.items.remove(each);
-            if (removed != null)
-            {
-                this.size -= removed.getCount();
-            }
+            this.items.removeOccurrences(each, Integer.MAX_VALUE);
         }
-        return this.size != oldSize;
+        return this.size() != oldSize;
     }
 
     @Override
     public boolean retainAllIterable(Iterable<?> iterable)
     {
-        int oldSize = this.size;
+        int oldSize = this.size();
         this.removeIfWith(Predicates2.notIn(), UnifiedSet.newSet(iterable));
-        return this.size != oldSize;
+        return this.size() != oldSize;
     }
 
     public int size()
     {
-        return this.size;
+        return this.items.size();
     }
 
     public MutableSortedBag<T> reject(final Predicate<? super T> predicate)
@@ -896,26 +757,81 @@ public class TreeBag<T>
 
     public int indexOf(Object object)
     {
-        if (this.items.containsKey(object))
-        {
-            long result = this.items.headMap((T) object).values().sumOfInt(Counter.TO_COUNT);
-            if (result > Integer.MAX_VALUE)
-            {
-                throw new IllegalStateException();
-            }
-            return (int) result;
-        }
-        return -1;
+        return this.items.indexOf(object);
     }
 
     public T getFirst()
     {
-        return this.items.keysView().getFirst();
+        return this.items.firstKey();
+    }
+
+    /**
+     * Returns the item at the given position in iteration order, where every occurrence counts as one position. Runs
+     * in O(log n) for n distinct items.
+     *
+     * @since 6.2
+     */
+    public T get(int index)
+    {
+        return this.items.get(index);
+    }
+
+    /**
+     * Returns the item at the given percentile using the nearest-rank method: the first item in iteration order such
+     * that at least percentile percent of all occurrences are at or before it. Runs in O(log n) for n distinct items.
+     *
+     * @param percentile a value from 0 to 100
+     * @throws NoSuchElementException if the bag is empty
+     * @since 6.2
+     */
+    public T percentile(double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int size = this.size();
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return this.items.get(Math.max(rank, 1) - 1);
+    }
+
+    /**
+     * Returns the number of occurrences of items that come before element in iteration order, whether or not element
+     * is in the bag. Runs in O(log n) for n distinct items.
+     *
+     * @since 6.2
+     */
+    public int occurrencesBefore(T element)
+    {
+        return this.items.occurrencesBefore(element);
+    }
+
+    /**
+     * Returns the number of occurrences of items from fromElement, inclusive, to toElement, exclusive, following the
+     * bounds of {@link java.util.SortedSet#subSet(Object, Object)}. Runs in O(log n) for n distinct items.
+     *
+     * @since 6.2
+     */
+    public int occurrencesBetween(T fromElement, T toElement)
+    {
+        Comparator<? super T> comparator = this.comparator();
+        int comparison = comparator == null
+                ? ((Comparable<? super T>) fromElement).compareTo(toElement)
+                : comparator.compare(fromElement, toElement);
+        if (comparison > 0)
+        {
+            throw new IllegalArgumentException("fromElement must not be greater than toElement");
+        }
+        return this.items.occurrencesBefore(toElement) - this.items.occurrencesBefore(fromElement);
     }
 
     public MutableSortedSet<Pair<T, Integer>> zipWithIndex()
     {
-        final Comparator<? super T> comparator = this.items.comparator();
+        final Comparator<? super T> comparator = this.comparator();
         return this.zipWithIndex(TreeSortedSet.newSet(new Comparator<Pair<T, Integer>>()
         {
             public int compare(Pair<T, Integer> o1, Pair<T, Integer> o2)
@@ -932,7 +848,7 @@ public class TreeBag<T>
 
     public T getLast()
     {
-        return this.items.keysView().getLast();
+        return this.items.lastKey();
     }
 
     public <V> MutableList<V> collect(final Function<? super T, ? extends V> function)
@@ -984,7 +900,7 @@ public class TreeBag<T>
 
     public MutableSortedSet<T> distinct()
     {
-        return TreeSortedSet.newSet(this.comparator(), this.items.keySet());
+        return TreeSortedSet.newSet(this.comparator(), this.items);
     }
 
     public MutableSortedBag<T> takeWhile(Predicate<? super T> predicate)
@@ -1203,9 +1119,7 @@ public class TreeBag<T>
     @Override
     public boolean add(T item)
     {
-        Counter counter = this.items.getIfAbsentPut(item, NEW_COUNTER_BLOCK);
-        counter.increment();
-        this.size++;
+        this.items.addOccurrences(item, 1);
         return true;
     }
 
@@ -1219,51 +1133,36 @@ public class TreeBag<T>
 
     private class InternalIterator implements Iterator<T>
     {
-        private int position;
-        private boolean isCurrentKeySet;
-        private int currentKeyPosition;
-        private int currentKeyOccurrences;
-        private Iterator<Pair<T, Counter>> keyValueIterator = TreeBag.this.items.keyValuesView().iterator();
-        private Pair<T, Counter> currentKeyValue;
+        private final SortedOccurrences<T>.Cursor cursor = TreeBag.this.items.iterator();
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
 
         public boolean hasNext()
         {
-            return this.position != TreeBag.this.size;
+            return this.occurrences > 0 || this.cursor.hasNext();
         }
 
         public T next()
         {
-            if (!this.hasNext())
+            if (this.occurrences == 0)
             {
-                throw new NoSuchElementException();
+                this.currentItem = this.cursor.next();
+                this.occurrences = this.cursor.occurrences();
             }
-            this.isCurrentKeySet = true;
-            if (this.currentKeyPosition < this.currentKeyOccurrences)
-            {
-                this.currentKeyPosition++;
-                this.position++;
-                return this.currentKeyValue.getOne();
-            }
-            this.currentKeyValue = this.keyValueIterator.next();
-            this.currentKeyPosition = 1;
-            this.currentKeyOccurrences = this.currentKeyValue.getTwo().getCount();
-            this.position++;
-            return this.currentKeyValue.getOne();
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
         }
 
         public void remove()
         {
-            if (!this.isCurrentKeySet)
+            if (!this.canRemove)
             {
                 throw new IllegalStateException();
             }
-            this.isCurrentKeySet = false;
-            this.position--;
-
-            TreeBag.this.remove(this.currentKeyValue.getOne());
-            this.keyValueIterator = TreeBag.this.items.keyValuesView().iterator();
-            this.currentKeyOccurrences--;
-            this.currentKeyPosition--;
+            this.cursor.removeOccurrence();
+            this.canRemove = false;
         }
     }
 }
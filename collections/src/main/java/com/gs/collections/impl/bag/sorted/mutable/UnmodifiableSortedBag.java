@@ -331,6 +331,26 @@ public class UnmodifiableSortedBag<T>
         return this.getSortedBag().indexOf(object);
     }
 
+    public T get(int index)
+    {
+        return this.getSortedBag().get(index);
+    }
+
+    public T percentile(double percentile)
+    {
+        return this.getSortedBag().percentile(percentile);
+    }
+
+    public int occurrencesBefore(T element)
+    {
+        return this.getSortedBag().occurrencesBefore(element);
+    }
+
+    public int occurrencesBetween(T fromElement, T toElement)
+    {
+        return this.getSortedBag().occurrencesBetween(fromElement, toElement);
+    }
+
     public MutableSortedBag<T> takeWhile(Predicate<? super T> predicate)
     {
         return this.getSortedBag().takeWhile(predicate);
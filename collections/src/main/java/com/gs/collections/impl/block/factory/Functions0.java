@@ -26,6 +26,7 @@ import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.ConcurrentCounter;
 import com.gs.collections.impl.block.function.PassThruFunction0;
 import com.gs.collections.impl.block.function.checked.CheckedFunction0;
 import com.gs.collections.impl.block.function.checked.ThrowingFunction0;
@@ -45,6 +46,7 @@ public final class Functions0
     private static final NullFunction<?> NULL_FUNCTION = new NullFunction<Object>();
     private static final AtomicIntegerZeroFunction ATOMIC_INTEGER_ZERO = new AtomicIntegerZeroFunction();
     private static final AtomicLongZeroFunction ATOMIC_LONG_ZERO = new AtomicLongZeroFunction();
+    private static final ConcurrentCounterZeroFunction CONCURRENT_COUNTER_ZERO = new ConcurrentCounterZeroFunction();
     private static final IntegerZeroFunction INTEGER_ZERO = new IntegerZeroFunction();
     private static final BigDecimalZeroFunction BIG_DECIMAL_ZERO = new BigDecimalZeroFunction();
     private static final BigIntegerZeroFunction BIG_INTEGER_ZERO = new BigIntegerZeroFunction();
@@ -115,6 +117,14 @@ public final class Functions0
         return ATOMIC_LONG_ZERO;
     }
 
+    /**
+     * @since 6.2
+     */
+    public static Function0<ConcurrentCounter> zeroConcurrentCounter()
+    {
+        return CONCURRENT_COUNTER_ZERO;
+    }
+
     /**
      * @since 6.0
      */
@@ -211,6 +221,16 @@ public final class Functions0
         }
     }
 
+    private static final class ConcurrentCounterZeroFunction implements Function0<ConcurrentCounter>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public ConcurrentCounter value()
+        {
+            return new ConcurrentCounter();
+        }
+    }
+
     private static final class ThrowingFunction0Adapter<T> extends CheckedFunction0<T>
     {
         private static final long serialVersionUID = 1L;
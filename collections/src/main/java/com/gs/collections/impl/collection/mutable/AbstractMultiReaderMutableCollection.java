@@ -102,6 +102,38 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         this.getLock().readLock().unlock();
     }
 
+    /**
+     * Takes a read lock for a read that makes a single call on the delegate and does not call back into this
+     * collection. With a {@link StripedReadWriteLock} the read usually only marks a per-core counter. Returns a stamp
+     * to pass to {@link #unlockSimpleReadLock(int)}.
+     */
+    protected int acquireSimpleReadLock()
+    {
+        ReadWriteLock lock = this.getLock();
+        if (lock instanceof StripedReadWriteLock)
+        {
+            int stamp = ((StripedReadWriteLock) lock).tryEnterRead();
+            if (stamp >= 0)
+            {
+                return stamp;
+            }
+        }
+        lock.readLock().lock();
+        return -1;
+    }
+
+    protected void unlockSimpleReadLock(int stamp)
+    {
+        if (stamp >= 0)
+        {
+            ((StripedReadWriteLock) this.getLock()).exitRead(stamp);
+        }
+        else
+        {
+            this.getLock().readLock().unlock();
+        }
+    }
+
     protected void withReadLockRun(Runnable block)
     {
         this.acquireReadLock();
@@ -117,14 +149,14 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean contains(Object item)
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.getDelegate().contains(item);
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -661,14 +693,14 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean notEmpty()
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.getDelegate().notEmpty();
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -1154,14 +1186,14 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean isEmpty()
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.getDelegate().isEmpty();
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -1267,14 +1299,14 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public int size()
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.getDelegate().size();
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A ReadWriteLock for read-mostly MultiReader collections. {@link #readLock()} and {@link #writeLock()} behave like
+ * those of a {@link ReentrantReadWriteLock}. In addition, short reads can call {@link #tryEnterRead()}, which marks
+ * the calling thread as a reader on one of several padded counters instead of updating the single reader count of
+ * the read lock. Readers on different cores therefore do not contend for one cache line.
+ * <p>
+ * A writer takes the write lock, raises a flag that sends new short reads to the read lock, and then waits for the
+ * counters to drain. A short read must not call back into the collection it guards, because a writer waiting for
+ * its counter would block that call.
+ *
+ * @since 6.2
+ */
+public final class StripedReadWriteLock implements ReadWriteLock
+{
+    /**
+     * Counters are 32 ints, or 128 bytes, apart so that no two share a cache line or an adjacent-line prefetch.
+     */
+    private static final int PADDING = 32;
+    private static final int MAX_STRIPES = 64;
+
+    private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+    private final WriteLock writeLock = new WriteLock();
+    private final int stripeMask;
+    private final AtomicIntegerArray readers;
+    private volatile boolean writing;
+
+    public StripedReadWriteLock()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedReadWriteLock(int concurrencyLevel)
+    {
+        if (concurrencyLevel < 1)
+        {
+            throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+        }
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit((concurrencyLevel << 1) - 1));
+        this.stripeMask = stripes - 1;
+        this.readers = new AtomicIntegerArray(stripes * PADDING);
+    }
+
+    public Lock readLock()
+    {
+        return this.delegate.readLock();
+    }
+
+    public Lock writeLock()
+    {
+        return this.writeLock;
+    }
+
+    /**
+     * Registers the calling thread as a short reader. Returns the index to pass to {@link #exitRead(int)}, or -1 if
+     * a writer holds or is acquiring the write lock, in which case the caller must use {@link #readLock()} instead.
+     */
+    public int tryEnterRead()
+    {
+        int index = ((int) Thread.currentThread().getId() & this.stripeMask) * PADDING;
+        this.readers.incrementAndGet(index);
+        if (this.writing)
+        {
+            this.readers.decrementAndGet(index);
+            return -1;
+        }
+        return index;
+    }
+
+    public void exitRead(int index)
+    {
+        this.readers.decrementAndGet(index);
+    }
+
+    private void beginWrite()
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            this.writing = true;
+            for (int i = 0; i < this.readers.length(); i += PADDING)
+            {
+                while (this.readers.get(i) != 0)
+                {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * Like {@link #beginWrite()}, but gives up once the counters have not drained within nanos, so that tryLock never
+     * waits on a short read, including one held by the calling thread.
+     */
+    private boolean tryBeginWrite(long nanos)
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            long deadline = System.nanoTime() + nanos;
+            this.writing = true;
+            for (int i = 0; i < this.readers.length(); i += PADDING)
+            {
+                while (this.readers.get(i) != 0)
+                {
+                    if (System.nanoTime() - deadline >= 0L)
+                    {
+                        this.writing = false;
+                        return false;
+                    }
+                    Thread.yield();
+                }
+            }
+        }
+        return true;
+    }
+
+    private void endWrite()
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            this.writing = false;
+        }
+    }
+
+    private final class WriteLock implements Lock
+    {
+        public void lock()
+        {
+            StripedReadWriteLock.this.delegate.writeLock().lock();
+            StripedReadWriteLock.this.beginWrite();
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            StripedReadWriteLock.this.delegate.writeLock().lockInterruptibly();
+            StripedReadWriteLock.this.beginWrite();
+        }
+
+        public boolean tryLock()
+        {
+            if (StripedReadWriteLock.this.delegate.writeLock().tryLock())
+            {
+                if (StripedReadWriteLock.this.tryBeginWrite(0L))
+                {
+                    return true;
+                }
+                StripedReadWriteLock.this.delegate.writeLock().unlock();
+            }
+            return false;
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (StripedReadWriteLock.this.delegate.writeLock().tryLock(time, unit))
+            {
+                if (StripedReadWriteLock.this.tryBeginWrite(deadline - System.nanoTime()))
+                {
+                    return true;
+                }
+                StripedReadWriteLock.this.delegate.writeLock().unlock();
+            }
+            return false;
+        }
+
+        public void unlock()
+        {
+            StripedReadWriteLock.this.endWrite();
+            StripedReadWriteLock.this.delegate.writeLock().unlock();
+        }
+
+        /**
+         * Waiting on a condition would release the write lock while short reads are still turned away, so conditions
+         * are not supported.
+         */
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException("Cannot call newCondition() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package com.gs.collections.impl.lazy;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import com.gs.collections.api.LazyBooleanIterable;
 import com.gs.collections.api.LazyByteIterable;
@@ -43,10 +45,12 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.ListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.set.SetIterable;
 import com.gs.collections.api.stack.MutableStack;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.AbstractRichIterable;
@@ -74,12 +78,47 @@ import net.jcip.annotations.Immutable;
 /**
  * AbstractLazyIterable provides a base from which deferred iterables such as SelectIterable,
  * RejectIterable and CollectIterable can be derived.
+ * <p>
+ * anySatisfy is the short-circuiting counterpart of forEach: the predicate acts as a sink which stops the source by
+ * returning true. detect, allSatisfy, noneSatisfy and getFirst are built on it here. A deferred iterable which pushes
+ * anySatisfy down to its source therefore stops early on the source's own internal iteration, without creating an
+ * iterator.
+ * <p>
+ * anySatisfy may skip repeated elements: bags offer each distinct item to the predicate once. Iterables which count
+ * the elements their predicate sees, like take and drop, only do so on sources for which
+ * {@link #anySatisfyVisitsEveryElement(Iterable)} holds, and fall back to their iterators otherwise.
  */
 @Immutable
 public abstract class AbstractLazyIterable<T>
         extends AbstractRichIterable<T>
         implements LazyIterable<T>
 {
+    /**
+     * Returns true if anySatisfy on iterable offers every element to its predicate, in iteration order, until the
+     * predicate returns true.
+     */
+    static boolean anySatisfyVisitsEveryElement(Iterable<?> iterable)
+    {
+        if (iterable instanceof AbstractLazyIterable)
+        {
+            return ((AbstractLazyIterable<?>) iterable).anySatisfyVisitsEveryElement();
+        }
+        return iterable instanceof List
+                || iterable instanceof ListIterable
+                || iterable instanceof Set
+                || iterable instanceof SetIterable;
+    }
+
+    /**
+     * Returns true if anySatisfy on this iterable offers every element to its predicate, in iteration order, until the
+     * predicate returns true. Stages which map their source's anySatisfy one element to one call, or filter it, answer
+     * for their source; the default is false.
+     */
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return false;
+    }
+
     @Override
     public LazyIterable<T> asLazy()
     {
@@ -114,6 +153,37 @@ public abstract class AbstractLazyIterable<T>
         return this.detect(Predicates.alwaysTrue());
     }
 
+    @Override
+    public T detect(final Predicate<? super T> predicate)
+    {
+        final T[] result = (T[]) new Object[1];
+        this.anySatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                if (predicate.accept(each))
+                {
+                    result[0] = each;
+                    return true;
+                }
+                return false;
+            }
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
     public T getLast()
     {
         final T[] result = (T[]) new Object[1];
@@ -134,7 +204,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <P> LazyIterable<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return LazyIterate.select(this, Predicates.bind(predicate, parameter));
+        return this.select(Predicates.bind(predicate, parameter));
     }
 
     public LazyIterable<T> reject(Predicate<? super T> predicate)
@@ -144,7 +214,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <P> LazyIterable<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return LazyIterate.reject(this, Predicates.bind(predicate, parameter));
+        return this.reject(Predicates.bind(predicate, parameter));
     }
 
     public PartitionMutableList<T> partition(Predicate<? super T> predicate)
@@ -211,7 +281,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <P, V> LazyIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
     {
-        return LazyIterate.collect(this, Functions.bind(function, parameter));
+        return this.collect(Functions.bind(function, parameter));
     }
 
     public <V> LazyIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
@@ -226,7 +296,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <V> LazyIterable<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
     {
-        return LazyIterate.collectIf(this, predicate, function);
+        return this.select(predicate).collect(function);
     }
 
     public LazyIterable<T> take(int count)
@@ -18,6 +18,7 @@ package com.gs.collections.impl.lazy;
 
 import java.util.Iterator;
 
+import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
@@ -68,6 +69,35 @@ public class CollectIterable<T, V>
         Iterate.forEachWith(this.adapted, Functions.bind(procedure, this.function), parameter);
     }
 
+    @Override
+    public LazyIterable<V> select(Predicate<? super V> predicate)
+    {
+        return this.fuse().select(predicate);
+    }
+
+    @Override
+    public LazyIterable<V> reject(Predicate<? super V> predicate)
+    {
+        return this.fuse().reject(predicate);
+    }
+
+    @Override
+    public <R> LazyIterable<R> collect(Function<? super V, ? extends R> function)
+    {
+        return this.fuse().collect(function);
+    }
+
+    @Override
+    public LazyIterable<V> tap(Procedure<? super V> procedure)
+    {
+        return this.fuse().tap(procedure);
+    }
+
+    private FusedIterable<T, V> fuse()
+    {
+        return FusedIterable.on(this.adapted).collect(this.function);
+    }
+
     public Iterator<V> iterator()
     {
         return new CollectIterator<T, V>(this.adapted, this.function);
@@ -108,6 +138,12 @@ public class CollectIterable<T, V>
         return Iterate.anySatisfy(this.adapted, Predicates.attributePredicate(this.function, predicate));
     }
 
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     @Override
     public <P> boolean anySatisfyWith(Predicate2<? super V, ? super P> predicate, P parameter)
     {
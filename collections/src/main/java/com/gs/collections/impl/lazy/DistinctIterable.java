@@ -19,9 +19,12 @@ package com.gs.collections.impl.lazy;
 import java.util.Iterator;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.impl.lazy.iterator.DistinctIterator;
-import com.gs.collections.impl.utility.internal.IterableIterate;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -46,9 +49,38 @@ public class DistinctIterable<T>
         return this;
     }
 
-    public void each(Procedure<? super T> procedure)
+    public void each(final Procedure<? super T> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        final MutableSet<T> seenSoFar = UnifiedSet.newSet();
+        Iterate.forEach(this.adapted, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                if (seenSoFar.add(each))
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(final Predicate<? super T> predicate)
+    {
+        final MutableSet<T> seenSoFar = UnifiedSet.newSet();
+        return Iterate.anySatisfy(this.adapted, new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return seenSoFar.add(each) && predicate.accept(each);
+            }
+        });
+    }
+
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
     }
 
     public Iterator<T> iterator()
@@ -18,9 +18,11 @@ package com.gs.collections.impl.lazy;
 
 import java.util.Iterator;
 
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.predicate.DropIterablePredicate;
 import com.gs.collections.impl.block.procedure.IfObjectIntProcedure;
 import com.gs.collections.impl.block.procedure.IfProcedure;
@@ -66,6 +68,26 @@ public class DropIterable<T> extends AbstractLazyIterable<T>
         Iterate.forEachWith(this.adapted, new IfProcedureWith<T, P>(new DropIterablePredicate<T>(this.count), procedure), parameter);
     }
 
+    /**
+     * Skips count elements inside the adapted iterable's anySatisfy. Sources whose anySatisfy may skip repeated
+     * elements, such as bags, are iterated with a {@link DropIterator} instead.
+     */
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted))
+        {
+            return super.anySatisfy(predicate);
+        }
+        return Iterate.anySatisfy(this.adapted, Predicates.and(new DropIterablePredicate<T>(this.count), predicate));
+    }
+
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     public Iterator<T> iterator()
     {
         return new DropIterator<T>(this.adapted, this.count);
@@ -28,6 +28,7 @@ import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.iterator.FlatCollectIterator;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.IterableIterate;
 import net.jcip.annotations.Immutable;
 
 @Immutable
@@ -106,6 +107,11 @@ public class FlatCollectIterable<T, V>
         return result[0];
     }
 
+    /**
+     * Offers every element of each collected iterable to predicate. Collected iterables whose own anySatisfy may skip
+     * repeated elements, such as bags, are walked with their iterators, so take and drop can count through this
+     * iterable whenever they could count through its source.
+     */
     @Override
     public boolean anySatisfy(final Predicate<? super V> predicate)
     {
@@ -113,11 +119,22 @@ public class FlatCollectIterable<T, V>
         {
             public boolean accept(T each)
             {
-                return Iterate.anySatisfy(FlatCollectIterable.this.function.valueOf(each), predicate);
+                Iterable<V> iterable = FlatCollectIterable.this.function.valueOf(each);
+                if (AbstractLazyIterable.anySatisfyVisitsEveryElement(iterable))
+                {
+                    return Iterate.anySatisfy(iterable, predicate);
+                }
+                return IterableIterate.anySatisfy(iterable, predicate);
             }
         });
     }
 
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     @Override
     public <P> boolean anySatisfyWith(Predicate2<? super V, ? super P> predicate, P parameter)
     {
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.iterator.CollectIterator;
+import com.gs.collections.impl.lazy.iterator.SelectIterator;
+import com.gs.collections.impl.lazy.iterator.TapIterator;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A FusedIterable is a chain of adjacent select, reject, collect and tap stages over one source iterable, run as a
+ * single procedure. Each element is pushed through the stages in one loop, so a chain costs one call into the source's
+ * forEach and one call into the downstream procedure, however many stages it has. Nesting a SelectIterable inside a
+ * CollectIterable inside another SelectIterable instead wraps one procedure in another at each stage.
+ * anySatisfy, and with it detect, allSatisfy and getFirst, runs the stages the same way on the source's anySatisfy
+ * and stops at the first match.
+ * <p>
+ * SelectIterable, RejectIterable, CollectIterable and TapIterable return a FusedIterable when another of these
+ * stages is chained onto them, and so does FusedIterable itself.
+ *
+ * @since 6.2
+ */
+@Immutable
+public final class FusedIterable<T, V>
+        extends AbstractLazyIterable<V>
+{
+    private static final byte SELECT = 0;
+    private static final byte REJECT = 1;
+    private static final byte COLLECT = 2;
+    private static final byte TAP = 3;
+
+    private static final byte[] NO_KINDS = {};
+    private static final Object[] NO_OPERATIONS = {};
+    private static final Object FILTERED = new Object();
+
+    private final Iterable<T> adapted;
+    private final byte[] kinds;
+    private final Object[] operations;
+
+    private FusedIterable(Iterable<T> adapted, byte[] kinds, Object[] operations)
+    {
+        this.adapted = adapted;
+        this.kinds = kinds;
+        this.operations = operations;
+    }
+
+    static <T> FusedIterable<T, T> on(Iterable<T> adapted)
+    {
+        return new FusedIterable<T, T>(adapted, NO_KINDS, NO_OPERATIONS);
+    }
+
+    private <R> FusedIterable<T, R> withStage(byte kind, Object operation)
+    {
+        int length = this.kinds.length;
+        byte[] newKinds = new byte[length + 1];
+        Object[] newOperations = new Object[length + 1];
+        System.arraycopy(this.kinds, 0, newKinds, 0, length);
+        System.arraycopy(this.operations, 0, newOperations, 0, length);
+        newKinds[length] = kind;
+        newOperations[length] = operation;
+        return new FusedIterable<T, R>(this.adapted, newKinds, newOperations);
+    }
+
+    @Override
+    public FusedIterable<T, V> select(Predicate<? super V> predicate)
+    {
+        return this.withStage(SELECT, predicate);
+    }
+
+    @Override
+    public FusedIterable<T, V> reject(Predicate<? super V> predicate)
+    {
+        return this.withStage(REJECT, predicate);
+    }
+
+    @Override
+    public <R> FusedIterable<T, R> collect(Function<? super V, ? extends R> function)
+    {
+        return this.withStage(COLLECT, function);
+    }
+
+    @Override
+    public FusedIterable<T, V> tap(Procedure<? super V> procedure)
+    {
+        return this.withStage(TAP, procedure);
+    }
+
+    public void each(Procedure<? super V> procedure)
+    {
+        Iterate.forEach(this.adapted, new FusedProcedure<T, V>(this.kinds, this.operations, procedure));
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        this.each(new Procedure<V>()
+        {
+            private int index;
+
+            public void value(V each)
+            {
+                objectIntProcedure.value(each, this.index++);
+            }
+        });
+    }
+
+    public Iterator<V> iterator()
+    {
+        Iterator<?> iterator = this.adapted.iterator();
+        for (int i = 0; i < this.kinds.length; i++)
+        {
+            Object operation = this.operations[i];
+            switch (this.kinds[i])
+            {
+                case SELECT:
+                    iterator = new SelectIterator<Object>((Iterator<Object>) iterator, (Predicate<Object>) operation);
+                    break;
+                case REJECT:
+                    iterator = new SelectIterator<Object>((Iterator<Object>) iterator, Predicates.not((Predicate<Object>) operation));
+                    break;
+                case COLLECT:
+                    iterator = new CollectIterator<Object, Object>((Iterator<Object>) iterator, (Function<Object, ?>) operation);
+                    break;
+                default:
+                    iterator = new TapIterator<Object>((Iterator<Object>) iterator, (Procedure<Object>) operation);
+            }
+        }
+        return (Iterator<V>) iterator;
+    }
+
+    @Override
+    public int size()
+    {
+        for (byte kind : this.kinds)
+        {
+            if (kind != COLLECT)
+            {
+                return super.size();
+            }
+        }
+        return Iterate.sizeOf(this.adapted);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return Iterate.anySatisfy(this.adapted, new FusedPredicate<T, V>(this.kinds, this.operations, predicate));
+    }
+
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
+    /**
+     * Runs each through the stages and returns the result, or FILTERED if a select or reject stage dropped it.
+     */
+    private static Object applyStages(byte[] kinds, Object[] operations, Object each)
+    {
+        Object current = each;
+        for (int i = 0; i < kinds.length; i++)
+        {
+            Object operation = operations[i];
+            switch (kinds[i])
+            {
+                case SELECT:
+                    if (!((Predicate<Object>) operation).accept(current))
+                    {
+                        return FILTERED;
+                    }
+                    break;
+                case REJECT:
+                    if (((Predicate<Object>) operation).accept(current))
+                    {
+                        return FILTERED;
+                    }
+                    break;
+                case COLLECT:
+                    current = ((Function<Object, ?>) operation).valueOf(current);
+                    break;
+                default:
+                    ((Procedure<Object>) operation).value(current);
+            }
+        }
+        return current;
+    }
+
+    private static final class FusedProcedure<T, V> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] kinds;
+        private final Object[] operations;
+        private final Procedure<? super V> procedure;
+
+        private FusedProcedure(byte[] kinds, Object[] operations, Procedure<? super V> procedure)
+        {
+            this.kinds = kinds;
+            this.operations = operations;
+            this.procedure = procedure;
+        }
+
+        public void value(T each)
+        {
+            Object result = applyStages(this.kinds, this.operations, each);
+            if (result != FILTERED)
+            {
+                this.procedure.value((V) result);
+            }
+        }
+    }
+
+    private static final class FusedPredicate<T, V> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] kinds;
+        private final Object[] operations;
+        private final Predicate<? super V> predicate;
+
+        private FusedPredicate(byte[] kinds, Object[] operations, Predicate<? super V> predicate)
+        {
+            this.kinds = kinds;
+            this.operations = operations;
+            this.predicate = predicate;
+        }
+
+        public boolean accept(T each)
+        {
+            Object result = applyStages(this.kinds, this.operations, each);
+            return result != FILTERED && this.predicate.accept((V) result);
+        }
+    }
+}
@@ -45,6 +45,12 @@ public class LazyIterableAdapter<T>
         this.adapted = newAdapted;
     }
 
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     public void each(Procedure<? super T> procedure)
     {
         Iterate.forEach(this.adapted, procedure);
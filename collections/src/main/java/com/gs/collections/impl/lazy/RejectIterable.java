@@ -18,6 +18,8 @@ package com.gs.collections.impl.lazy;
 
 import java.util.Iterator;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -64,6 +66,35 @@ public class RejectIterable<T>
         Iterate.forEachWith(this.adapted, new IfProcedureWith<T, P>(this.predicate, procedure), parameter);
     }
 
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return this.fuse().select(predicate);
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return this.fuse().reject(predicate);
+    }
+
+    @Override
+    public <R> LazyIterable<R> collect(Function<? super T, ? extends R> function)
+    {
+        return this.fuse().collect(function);
+    }
+
+    @Override
+    public LazyIterable<T> tap(Procedure<? super T> procedure)
+    {
+        return this.fuse().tap(procedure);
+    }
+
+    private FusedIterable<T, T> fuse()
+    {
+        return FusedIterable.on(this.adapted).select(this.predicate);
+    }
+
     /**
      * We use a SelectIterator, since we have already negated the predicate
      */
@@ -78,6 +109,12 @@ public class RejectIterable<T>
         return Iterate.anySatisfy(this.adapted, Predicates.and(this.predicate, predicate));
     }
 
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     @Override
     public <P> boolean anySatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
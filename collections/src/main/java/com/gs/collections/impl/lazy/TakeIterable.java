@@ -18,10 +18,13 @@ package com.gs.collections.impl.lazy;
 
 import java.util.Iterator;
 
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.impl.lazy.iterator.TakeIterator;
+import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.IterableIterate;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -44,41 +47,71 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
         this.count = count;
     }
 
-    // TODO: implement in terms of LazyIterate.whileDo() when it is added.
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.anySatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                procedure.value(each);
+                return false;
+            }
+        });
+    }
 
-    public void each(Procedure<? super T> procedure)
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        this.anySatisfy(new Predicate<T>()
         {
-            procedure.value(iterator.next());
-            i++;
-        }
+            private int index;
+
+            public boolean accept(T each)
+            {
+                procedure.value(each, this.index++);
+                return false;
+            }
+        });
     }
 
     @Override
-    public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        this.anySatisfy(new Predicate<T>()
         {
-            procedure.value(iterator.next(), i);
-            i++;
-        }
+            public boolean accept(T each)
+            {
+                procedure.value(each, parameter);
+                return false;
+            }
+        });
     }
 
+    /**
+     * Stops the adapted iterable's anySatisfy once count elements have been seen, so take runs on the adapted
+     * iterable's internal iteration rather than on its iterator. Sources whose anySatisfy may skip repeated elements,
+     * such as bags, are iterated with a {@link TakeIterator} instead.
+     */
     @Override
-    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    public boolean anySatisfy(Predicate<? super T> predicate)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        if (this.count == 0)
+        {
+            return false;
+        }
+        if (!AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted))
         {
-            procedure.value(iterator.next(), parameter);
-            i++;
+            return IterableIterate.anySatisfy(this, predicate);
         }
+        TakePredicate<T> takePredicate = new TakePredicate<T>(predicate, this.count);
+        Iterate.anySatisfy(this.adapted, takePredicate);
+        return takePredicate.satisfied;
+    }
+
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
     }
 
     @Override
@@ -99,4 +132,31 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
     {
         return new TakeIterator<T>(this.adapted, this.count);
     }
+
+    private static final class TakePredicate<T> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final int count;
+        private int seen;
+        private boolean satisfied;
+
+        private TakePredicate(Predicate<? super T> predicate, int count)
+        {
+            this.predicate = predicate;
+            this.count = count;
+        }
+
+        public boolean accept(T each)
+        {
+            if (this.predicate.accept(each))
+            {
+                this.satisfied = true;
+                return true;
+            }
+            this.seen++;
+            return this.seen == this.count;
+        }
+    }
 }
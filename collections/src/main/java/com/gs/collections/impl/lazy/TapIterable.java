@@ -18,6 +18,8 @@ package com.gs.collections.impl.lazy;
 
 import java.util.Iterator;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
@@ -80,6 +82,35 @@ public class TapIterable<T>
         }, parameter);
     }
 
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return this.fuse().select(predicate);
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return this.fuse().reject(predicate);
+    }
+
+    @Override
+    public <R> LazyIterable<R> collect(Function<? super T, ? extends R> function)
+    {
+        return this.fuse().collect(function);
+    }
+
+    @Override
+    public LazyIterable<T> tap(Procedure<? super T> procedure)
+    {
+        return this.fuse().tap(procedure);
+    }
+
+    private FusedIterable<T, T> fuse()
+    {
+        return FusedIterable.on(this.adapted).tap(this.procedure);
+    }
+
     @Override
     public boolean anySatisfy(final Predicate<? super T> predicate)
     {
@@ -93,6 +124,12 @@ public class TapIterable<T>
         });
     }
 
+    @Override
+    boolean anySatisfyVisitsEveryElement()
+    {
+        return AbstractLazyIterable.anySatisfyVisitsEveryElement(this.adapted);
+    }
+
     @Override
     public boolean allSatisfy(final Predicate<? super T> predicate)
     {
@@ -27,27 +27,43 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.impl.Counter;
@@ -60,14 +76,19 @@ import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.block.procedure.MultimapEachPutProcedure;
+import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.ConcurrentCounterMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.SetAdapter;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -745,6 +766,159 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return map;
     }
 
+    public <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> mergeFunction)
+    {
+        return this.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, mergeFunction, AggregationStrategy.ADAPTIVE);
+    }
+
+    /**
+     * Same as {@link #aggregateBy(Function, Function0, Function2, Function2)}, but with an explicit choice of how the
+     * batches share their work. {@link AggregationStrategy#SHARED_MAP} never calls mergeFunction.
+     *
+     * @since 6.2
+     */
+    public <K, V> MapIterable<K, V> aggregateBy(
+            final Function<? super T, ? extends K> groupBy,
+            final Function0<? extends V> zeroValueFactory,
+            final Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            final Function2<? super V, ? super V, ? extends V> mergeFunction,
+            AggregationStrategy strategy)
+    {
+        if (strategy == AggregationStrategy.SHARED_MAP)
+        {
+            return this.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
+        }
+
+        final KeySampler sampler = new KeySampler(strategy, false);
+        final MutableMap<K, V> sharedMap = ConcurrentHashMapUnsafe.newMap();
+        Function<Batch<T>, MutableMap<K, V>> map = new Function<Batch<T>, MutableMap<K, V>>()
+        {
+            public MutableMap<K, V> valueOf(Batch<T> batch)
+            {
+                if (sampler.isSharedMap())
+                {
+                    batch.forEach(new NonMutatingAggregationProcedure<T, K, V>(sharedMap, groupBy, zeroValueFactory, nonMutatingAggregator));
+                    return UnifiedMap.newMap();
+                }
+                MutableMap<K, V> result = UnifiedMap.newMap();
+                batch.forEach(new NonMutatingAggregationProcedure<T, K, V>(result, sampler.sampling(groupBy), zeroValueFactory, nonMutatingAggregator));
+                return result;
+            }
+        };
+        Procedure2<MutableMap<K, V>, MutableMap<K, V>> reduce = new Procedure2<MutableMap<K, V>, MutableMap<K, V>>()
+        {
+            public void value(final MutableMap<K, V> accumulator, MutableMap<K, V> each)
+            {
+                each.forEachKeyValue(new Procedure2<K, V>()
+                {
+                    public void value(K key, V value)
+                    {
+                        V merged = accumulator.containsKey(key) ? mergeFunction.value(accumulator.get(key), value) : value;
+                        accumulator.put(key, merged);
+                    }
+                });
+            }
+        };
+        MutableMap<K, V> state = UnifiedMap.newMap();
+        this.collectCombine(map, reduce, state);
+        reduce.value(state, sharedMap);
+        return state;
+    }
+
+    /**
+     * Groups the elements into multimap, either by giving every batch a {@link MutableMultimap#newEmpty() copy} of
+     * multimap and merging the copies in batch order, or by putting every element straight into concurrentMultimap.
+     * Ordered iterables always group per batch, since a shared multimap would lose the encounter order.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupBy(
+            final Function<? super T, ? extends V> function,
+            R multimap,
+            R concurrentMultimap,
+            AggregationStrategy strategy)
+    {
+        if (!this.isOrdered() && strategy == AggregationStrategy.SHARED_MAP)
+        {
+            this.forEach(MultimapPutProcedure.on(concurrentMultimap, function));
+            return concurrentMultimap;
+        }
+        final KeySampler sampler = new KeySampler(this.isOrdered() ? AggregationStrategy.PER_BATCH : strategy, false);
+        return this.groupByPerBatch(multimap, concurrentMultimap, sampler, new Function<MutableMultimap<V, T>, Procedure<T>>()
+        {
+            public Procedure<T> valueOf(MutableMultimap<V, T> target)
+            {
+                return MultimapPutProcedure.on(target, sampler.sampling(function));
+            }
+        });
+    }
+
+    /**
+     * The {@link #groupBy(Function, MutableMultimap, MutableMultimap, AggregationStrategy)} counterpart for
+     * groupByEach.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupByEach(
+            final Function<? super T, ? extends Iterable<V>> function,
+            R multimap,
+            R concurrentMultimap,
+            AggregationStrategy strategy)
+    {
+        if (!this.isOrdered() && strategy == AggregationStrategy.SHARED_MAP)
+        {
+            this.forEach(MultimapEachPutProcedure.on(concurrentMultimap, function));
+            return concurrentMultimap;
+        }
+        final KeySampler sampler = new KeySampler(this.isOrdered() ? AggregationStrategy.PER_BATCH : strategy, true);
+        return this.groupByPerBatch(multimap, concurrentMultimap, sampler, new Function<MutableMultimap<V, T>, Procedure<T>>()
+        {
+            public Procedure<T> valueOf(MutableMultimap<V, T> target)
+            {
+                return MultimapEachPutProcedure.on(target, sampler.sampling(function));
+            }
+        });
+    }
+
+    /**
+     * Groups each batch into a copy of multimap, or straight into concurrentMultimap once the sampler has chosen
+     * {@link AggregationStrategy#SHARED_MAP}, and merges whatever ended up in concurrentMultimap at the end.
+     */
+    private <V, R extends MutableMultimap<V, T>> R groupByPerBatch(
+            final R multimap,
+            final R concurrentMultimap,
+            final KeySampler sampler,
+            final Function<MutableMultimap<V, T>, Procedure<T>> putProcedureFactory)
+    {
+        Function<Batch<T>, MutableMultimap<V, T>> map = new Function<Batch<T>, MutableMultimap<V, T>>()
+        {
+            public MutableMultimap<V, T> valueOf(Batch<T> batch)
+            {
+                if (sampler.isSharedMap())
+                {
+                    batch.forEach(putProcedureFactory.valueOf(concurrentMultimap));
+                    return multimap.newEmpty();
+                }
+                MutableMultimap<V, T> batchMultimap = multimap.newEmpty();
+                batch.forEach(putProcedureFactory.valueOf(batchMultimap));
+                return batchMultimap;
+            }
+        };
+        Procedure2<R, MutableMultimap<V, T>> reduce = new Procedure2<R, MutableMultimap<V, T>>()
+        {
+            public void value(R accumulator, MutableMultimap<V, T> each)
+            {
+                accumulator.putAll(each);
+            }
+        };
+        this.collectCombine(map, reduce, multimap);
+        if (sampler.isSharedMap())
+        {
+            multimap.putAll(concurrentMultimap);
+        }
+        return multimap;
+    }
+
     public int count(final Predicate<? super T> predicate)
     {
         Function<Batch<T>, Integer> map = new Function<Batch<T>, Integer>()
@@ -831,6 +1005,41 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.collectReduce(map, Functions2.maxBy(function));
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new ParallelCollectByteIterable<T>(this, function);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new ParallelCollectCharIterable<T>(this, function);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectDoubleIterable<T>(this, function);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new ParallelCollectFloatIterable<T>(this, function);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectIntIterable<T>(this, function);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectLongIterable<T>(this, function);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new ParallelCollectShortIterable<T>(this, function);
+    }
+
     public long sumOfInt(final IntFunction<? super T> function)
     {
         LongFunction<Batch<T>> map = new LongFunction<Batch<T>>()
@@ -879,6 +1088,189 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.sumOfDoubleOrdered(map);
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.sumByInt(groupBy, function, AggregationStrategy.ADAPTIVE);
+    }
+
+    /**
+     * Same as {@link #sumByInt(Function, IntFunction)}, but with an explicit choice of how the batches share their
+     * work.
+     *
+     * @since 6.2
+     */
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, final IntFunction<? super T> function, AggregationStrategy strategy)
+    {
+        return this.sumByLong(groupBy, new LongFunction<T>()
+        {
+            public long longValueOf(T each)
+            {
+                return function.intValueOf(each);
+            }
+        }, strategy);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.sumByFloat(groupBy, function, AggregationStrategy.ADAPTIVE);
+    }
+
+    /**
+     * Same as {@link #sumByFloat(Function, FloatFunction)}, but with an explicit choice of how the batches share their
+     * work.
+     *
+     * @see #sumByDouble(Function, DoubleFunction, AggregationStrategy)
+     * @since 6.2
+     */
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, final FloatFunction<? super T> function, AggregationStrategy strategy)
+    {
+        return this.sumByDouble(groupBy, new DoubleFunction<T>()
+        {
+            public double doubleValueOf(T each)
+            {
+                return function.floatValueOf(each);
+            }
+        }, strategy);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.sumByLong(groupBy, function, AggregationStrategy.ADAPTIVE);
+    }
+
+    /**
+     * Same as {@link #sumByLong(Function, LongFunction)}, but with an explicit choice of how the batches share their
+     * work. {@link AggregationStrategy#SHARED_MAP} adds into a {@link ConcurrentCounterMap}.
+     *
+     * @since 6.2
+     */
+    public <V> ObjectLongMap<V> sumByLong(
+            final Function<T, V> groupBy,
+            final LongFunction<? super T> function,
+            AggregationStrategy strategy)
+    {
+        final KeySampler sampler = new KeySampler(strategy, false);
+        final ConcurrentCounterMap<V> sharedMap = ConcurrentCounterMap.newMap();
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+                if (sampler.isSharedMap())
+                {
+                    batch.forEach(sharedMap.sumByProcedure(groupBy, function));
+                    return result;
+                }
+                final Function<? super T, ? extends V> keyFunction = sampler.sampling(groupBy);
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(keyFunction.valueOf(each), function.longValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>> reduce = new Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>>()
+        {
+            public void value(final ObjectLongHashMap<V> accumulator, ObjectLongHashMap<V> each)
+            {
+                each.forEachKeyValue(new ObjectLongProcedure<V>()
+                {
+                    public void value(V key, long value)
+                    {
+                        accumulator.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        final ObjectLongHashMap<V> state = ObjectLongHashMap.newMap();
+        // Long addition is associative, so the per-batch maps are merged as soon as each batch finishes, in any order.
+        this.collectCombineUnordered(map, reduce, state);
+        sharedMap.forEachKeyValue(new ObjectLongProcedure<V>()
+        {
+            public void value(V key, long value)
+            {
+                state.addToValue(key, value);
+            }
+        });
+        return state;
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.sumByDouble(groupBy, function, AggregationStrategy.ADAPTIVE);
+    }
+
+    /**
+     * Same as {@link #sumByDouble(Function, DoubleFunction)}, but with an explicit choice of how the batches share
+     * their work. Ordered iterables always sum per batch, since the totals of a shared map would depend on the order
+     * in which the batches ran.
+     *
+     * @since 6.2
+     */
+    public <V> ObjectDoubleMap<V> sumByDouble(
+            final Function<T, V> groupBy,
+            final DoubleFunction<? super T> function,
+            AggregationStrategy strategy)
+    {
+        final KeySampler sampler = new KeySampler(this.isOrdered() ? AggregationStrategy.PER_BATCH : strategy, false);
+        final MutableMap<V, DoubleTotal> sharedMap = ConcurrentHashMapUnsafe.newMap();
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+                if (sampler.isSharedMap())
+                {
+                    batch.forEach(new Procedure<T>()
+                    {
+                        public void value(T each)
+                        {
+                            sharedMap.getIfAbsentPut(groupBy.valueOf(each), DoubleTotal.NEW).add(function.doubleValueOf(each));
+                        }
+                    });
+                    return result;
+                }
+                final Function<? super T, ? extends V> keyFunction = sampler.sampling(groupBy);
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(keyFunction.valueOf(each), function.doubleValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>> reduce = new Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>>()
+        {
+            public void value(final ObjectDoubleHashMap<V> accumulator, ObjectDoubleHashMap<V> each)
+            {
+                each.forEachKeyValue(new ObjectDoubleProcedure<V>()
+                {
+                    public void value(V key, double value)
+                    {
+                        accumulator.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        final ObjectDoubleHashMap<V> state = ObjectDoubleHashMap.newMap();
+        // Floating point addition is not associative, so ordered iterables merge the per-batch maps in batch order
+        // to get the same totals on every run.
+        this.collectCombine(map, reduce, state);
+        sharedMap.forEachKeyValue(new Procedure2<V, DoubleTotal>()
+        {
+            public void value(V key, DoubleTotal total)
+            {
+                state.addToValue(key, total.get());
+            }
+        });
+        return state;
+    }
+
     private long sumOfLongOrdered(final LongFunction<Batch<T>> map)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
@@ -976,4 +1368,120 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         });
         return result;
     }
+
+    /**
+     * The running total of one key in the shared map of {@link #sumByDouble(Function, DoubleFunction, AggregationStrategy)}.
+     */
+    private static final class DoubleTotal
+    {
+        private static final Function0<DoubleTotal> NEW = new Function0<DoubleTotal>()
+        {
+            public DoubleTotal value()
+            {
+                return new DoubleTotal();
+            }
+        };
+
+        private double total;
+
+        public synchronized void add(double value)
+        {
+            this.total += value;
+        }
+
+        public synchronized double get()
+        {
+            return this.total;
+        }
+    }
+
+    /**
+     * Resolves {@link AggregationStrategy#ADAPTIVE} from the keys the batches compute anyway. Each batch that starts
+     * before a decision is made wraps the key function in a {@link KeySamplingFunction}, and the first batch to see
+     * {@link #SAMPLE_SIZE} keys decides: {@link AggregationStrategy#SHARED_MAP} when most of them are distinct, since
+     * the per-batch maps would then be nearly as large as their batches and merging them would repeat all of the
+     * work, or {@link AggregationStrategy#PER_BATCH} otherwise. Batches that start after the decision follow it.
+     * Key functions are never called more than once per element.
+     */
+    private static final class KeySampler
+    {
+        private static final int SAMPLE_SIZE = 1024;
+
+        private final AtomicReference<AggregationStrategy> strategy;
+        private final boolean multipleKeys;
+
+        private KeySampler(AggregationStrategy strategy, boolean multipleKeys)
+        {
+            this.strategy = new AtomicReference<AggregationStrategy>(strategy);
+            this.multipleKeys = multipleKeys;
+        }
+
+        public boolean isSharedMap()
+        {
+            return this.strategy.get() == AggregationStrategy.SHARED_MAP;
+        }
+
+        public <T, K> Function<? super T, ? extends K> sampling(Function<? super T, ? extends K> keyFunction)
+        {
+            if (this.strategy.get() != AggregationStrategy.ADAPTIVE)
+            {
+                return keyFunction;
+            }
+            return new KeySamplingFunction<T, K>(this, keyFunction);
+        }
+
+        private void decide(boolean mostlyDistinct)
+        {
+            this.strategy.compareAndSet(
+                    AggregationStrategy.ADAPTIVE,
+                    mostlyDistinct ? AggregationStrategy.SHARED_MAP : AggregationStrategy.PER_BATCH);
+        }
+    }
+
+    private static final class KeySamplingFunction<T, K> implements Function<T, K>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final KeySampler sampler;
+        private final Function<? super T, ? extends K> keyFunction;
+        private final MutableSet<Object> distinctKeys = UnifiedSet.newSet();
+        private int sampledKeys;
+
+        private KeySamplingFunction(KeySampler sampler, Function<? super T, ? extends K> keyFunction)
+        {
+            this.sampler = sampler;
+            this.keyFunction = keyFunction;
+        }
+
+        public K valueOf(T each)
+        {
+            K key = this.keyFunction.valueOf(each);
+            if (this.sampledKeys < KeySampler.SAMPLE_SIZE)
+            {
+                this.sample(key);
+            }
+            return key;
+        }
+
+        private void sample(Object key)
+        {
+            if (this.sampler.multipleKeys)
+            {
+                for (Object eachKey : (Iterable<?>) key)
+                {
+                    this.distinctKeys.add(eachKey);
+                    this.sampledKeys++;
+                }
+            }
+            else
+            {
+                this.distinctKeys.add(key);
+                this.sampledKeys++;
+            }
+            if (this.sampledKeys >= KeySampler.SAMPLE_SIZE)
+            {
+                this.sampler.decide(this.distinctKeys.size() * 2 > this.sampledKeys);
+            }
+        }
+    }
 }
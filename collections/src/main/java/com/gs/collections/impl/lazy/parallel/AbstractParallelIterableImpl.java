@@ -22,7 +22,6 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
-import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.multimap.bag.MutableBagMultimap;
 import com.gs.collections.api.multimap.bag.UnsortedBagMultimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
@@ -30,6 +29,7 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.set.ParallelCollectIterable;
 import com.gs.collections.impl.lazy.parallel.set.ParallelFlatCollectIterable;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
 import com.gs.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 
 @Beta
@@ -91,34 +91,21 @@ public abstract class AbstractParallelIterableImpl<T, B extends Batch<T>> extend
         return new ParallelFlatCollectIterable<T, V>(this, function);
     }
 
-    public <V> UnsortedBagMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        final MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                V key = function.valueOf(each);
-                result.put(key, each);
-            }
-        });
-        return result;
+        return this.<V, MutableBagMultimap<V, T>>groupBy(
+                function,
+                HashBagMultimap.<V, T>newMultimap(),
+                SynchronizedPutHashBagMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 
-    public <V> UnsortedBagMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    public <V> UnsortedBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        final MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                Iterable<V> keys = function.valueOf(each);
-                for (V key : keys)
-                {
-                    result.put(key, each);
-                }
-            }
-        });
-        return result;
+        return this.<V, MutableBagMultimap<V, T>>groupByEach(
+                function,
+                HashBagMultimap.<V, T>newMultimap(),
+                SynchronizedPutHashBagMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 }
@@ -18,16 +18,26 @@ package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -36,6 +46,8 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
@@ -124,6 +136,41 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new SynchronizedParallelByteIterable(this.delegate.collectByte(function), this.lock);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new SynchronizedParallelCharIterable(this.delegate.collectChar(function), this.lock);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new SynchronizedParallelDoubleIterable(this.delegate.collectDouble(function), this.lock);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new SynchronizedParallelFloatIterable(this.delegate.collectFloat(function), this.lock);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new SynchronizedParallelIntIterable(this.delegate.collectInt(function), this.lock);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new SynchronizedParallelLongIterable(this.delegate.collectLong(function), this.lock);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new SynchronizedParallelShortIterable(this.delegate.collectShort(function), this.lock);
+    }
+
     public int count(Predicate<? super T> predicate)
     {
         synchronized (this.lock)
@@ -404,6 +451,38 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
@@ -476,6 +555,14 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> mergeFunction)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, mergeFunction);
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * How the grouping and aggregating terminals of an {@link AbstractParallelIterable} combine the work of its batches.
+ *
+ * @since 6.2
+ */
+@Beta
+public enum AggregationStrategy
+{
+    /**
+     * Every batch aggregates into a map of its own and the per-batch maps are merged on the calling thread once the
+     * batches finish. Cheap when there are few distinct keys, since each batch touches a small, uncontended map.
+     */
+    PER_BATCH,
+
+    /**
+     * Every batch aggregates directly into one shared concurrent map. Avoids building and merging per-batch maps,
+     * which pays off when almost every element has a key of its own.
+     */
+    SHARED_MAP,
+
+    /**
+     * Samples the keys as the batches compute them and picks {@link #PER_BATCH} when they repeat, or
+     * {@link #SHARED_MAP} when most of them are distinct. Batches that start before the choice is made aggregate per
+     * batch, so key functions still run only once per element.
+     */
+    ADAPTIVE
+}
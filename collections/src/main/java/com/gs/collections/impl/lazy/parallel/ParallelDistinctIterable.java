@@ -24,13 +24,11 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.map.MapIterable;
-import com.gs.collections.api.multimap.set.UnsortedSetMultimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.list.DistinctBatch;
 import com.gs.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
-import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
 
 @Beta
 public class ParallelDistinctIterable<T> extends AbstractParallelUnsortedSetIterable<T, UnsortedSetBatch<T>>
@@ -119,20 +117,6 @@ public class ParallelDistinctIterable<T> extends AbstractParallelUnsortedSetIter
         return this.delegate.toList().distinct().toArray(array);
     }
 
-    @Override
-    public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toSet().groupBy(function, new UnifiedSetMultimap<V, T>());
-    }
-
-    @Override
-    public <V> UnsortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toSet().groupByEach(function, new UnifiedSetMultimap<V, T>());
-    }
-
     @Override
     public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
     {
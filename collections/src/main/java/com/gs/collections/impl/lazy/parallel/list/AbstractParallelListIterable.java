@@ -24,10 +24,14 @@ import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.multimap.list.ListMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AggregationStrategy;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -90,14 +94,20 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
 
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
+        return this.<V, MutableListMultimap<V, T>>groupBy(
+                function,
+                FastListMultimap.<V, T>newMultimap(),
+                SynchronizedPutFastListMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 
     public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupByEach(function);
+        return this.<V, MutableListMultimap<V, T>>groupByEach(
+                function,
+                FastListMultimap.<V, T>newMultimap(),
+                SynchronizedPutFastListMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 
     @Override
@@ -28,7 +28,6 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.ListIterable;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
-import com.gs.collections.api.multimap.list.ListMultimap;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
 
@@ -110,20 +109,6 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         return this.delegate.toArray(array);
     }
 
-    @Override
-    public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupBy(function);
-    }
-
-    @Override
-    public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupByEach(function);
-    }
-
     @Override
     public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
     {
@@ -22,14 +22,15 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
-import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.multimap.set.MutableSetMultimap;
 import com.gs.collections.api.multimap.set.UnsortedSetMultimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AggregationStrategy;
 import com.gs.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
 
 @Beta
 public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedSetIterable<T>
@@ -90,34 +91,21 @@ public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedS
         return new ParallelFlatCollectIterable<T, V>(this, function);
     }
 
-    public <V> UnsortedSetMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        final MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                V key = function.valueOf(each);
-                result.put(key, each);
-            }
-        });
-        return result;
+        return this.<V, MutableSetMultimap<V, T>>groupBy(
+                function,
+                UnifiedSetMultimap.<V, T>newMultimap(),
+                SynchronizedPutUnifiedSetMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 
-    public <V> UnsortedSetMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    public <V> UnsortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        final MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                Iterable<V> keys = function.valueOf(each);
-                for (V key : keys)
-                {
-                    result.put(key, each);
-                }
-            }
-        });
-        return result;
+        return this.<V, MutableSetMultimap<V, T>>groupByEach(
+                function,
+                UnifiedSetMultimap.<V, T>newMultimap(),
+                SynchronizedPutUnifiedSetMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 }
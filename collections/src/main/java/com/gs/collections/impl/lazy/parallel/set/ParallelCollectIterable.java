@@ -25,7 +25,6 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.map.MapIterable;
-import com.gs.collections.api.multimap.bag.UnsortedBagMultimap;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
@@ -109,20 +108,6 @@ public class ParallelCollectIterable<T, V> extends AbstractParallelIterableImpl<
         return this.delegate.toList().collect(this.function).toArray(array);
     }
 
-    @Override
-    public <V1> UnsortedBagMultimap<V1, V> groupBy(Function<? super V, ? extends V1> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toBag().collect(this.function).groupBy(function);
-    }
-
-    @Override
-    public <V1> UnsortedBagMultimap<V1, V> groupByEach(Function<? super V, ? extends Iterable<V1>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toBag().collect(this.function).groupByEach(function);
-    }
-
     @Override
     public <V1> MapIterable<V1, V> groupByUniqueKey(Function<? super V, ? extends V1> function)
     {
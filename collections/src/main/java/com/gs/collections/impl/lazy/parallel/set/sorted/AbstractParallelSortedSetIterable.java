@@ -21,7 +21,6 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
-import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.multimap.sortedset.MutableSortedSetMultimap;
@@ -30,9 +29,11 @@ import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AggregationStrategy;
 import com.gs.collections.impl.lazy.parallel.list.ParallelCollectListIterable;
 import com.gs.collections.impl.lazy.parallel.list.ParallelFlatCollectListIterable;
 import com.gs.collections.impl.multimap.set.sorted.SynchronizedPutTreeSortedSetMultimap;
+import com.gs.collections.impl.multimap.set.sorted.TreeSortedSetMultimap;
 
 @Beta
 public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelSortedSetIterable<T>
@@ -93,35 +94,22 @@ public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBa
         return new ParallelFlatCollectListIterable<T, V>(this, function);
     }
 
-    public <V> SortedSetMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
-    {
-        final MutableSortedSetMultimap<V, T> result = SynchronizedPutTreeSortedSetMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                V key = function.valueOf(each);
-                result.put(key, each);
-            }
-        });
-        return result;
-    }
-
-    public <V> SortedSetMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
-    {
-        final MutableSortedSetMultimap<V, T> result = SynchronizedPutTreeSortedSetMultimap.newMultimap();
-        this.forEach(new Procedure<T>()
-        {
-            public void value(T each)
-            {
-                Iterable<V> keys = function.valueOf(each);
-                for (V key : keys)
-                {
-                    result.put(key, each);
-                }
-            }
-        });
-        return result;
+    public <V> SortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.<V, MutableSortedSetMultimap<V, T>>groupBy(
+                function,
+                TreeSortedSetMultimap.<V, T>newMultimap(),
+                SynchronizedPutTreeSortedSetMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
+    }
+
+    public <V> SortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.<V, MutableSortedSetMultimap<V, T>>groupByEach(
+                function,
+                TreeSortedSetMultimap.<V, T>newMultimap(),
+                SynchronizedPutTreeSortedSetMultimap.<V, T>newMultimap(),
+                AggregationStrategy.ADAPTIVE);
     }
 
     @Override
@@ -474,6 +474,32 @@ public final class Interval
         });
     }
 
+    @Override
+    public boolean anySatisfy(Predicate<? super Integer> predicate)
+    {
+        if (this.goForward())
+        {
+            for (int i = this.from; i <= this.to; i += this.step)
+            {
+                if (predicate.accept(i))
+                {
+                    return true;
+                }
+            }
+        }
+        else
+        {
+            for (int i = this.from; i >= this.to; i += this.step)
+            {
+                if (predicate.accept(i))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * This method executes a void procedure against an executor, passing the current index of the
      * interval.
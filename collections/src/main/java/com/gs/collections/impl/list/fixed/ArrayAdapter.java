@@ -23,11 +23,13 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.list.FixedSizeList;
 import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.parallel.ParallelArraySort;
 import com.gs.collections.impl.utility.Iterate;
 
 /**
@@ -185,6 +187,19 @@ public final class ArrayAdapter<T>
         return this;
     }
 
+    @Override
+    public ArrayAdapter<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        ParallelArraySort.sort(this.items, comparator, executor);
+        return this;
+    }
+
+    @Override
+    public ArrayAdapter<T> sortThisParallel(ExecutorService executor)
+    {
+        return this.sortThisParallel(null, executor);
+    }
+
     @Override
     public FixedSizeList<T> toReversed()
     {
@@ -21,6 +21,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
@@ -152,6 +153,24 @@ final class EmptyList<T>
         return this;
     }
 
+    @Override
+    public EmptyList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        return this;
+    }
+
+    @Override
+    public EmptyList<T> sortThisParallel(ExecutorService executor)
+    {
+        return this;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+    {
+        return this;
+    }
+
     @Override
     public T getFirst()
     {
@@ -49,6 +49,7 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.list.TransientList;
 import com.gs.collections.api.list.primitive.ImmutableBooleanList;
 import com.gs.collections.api.list.primitive.ImmutableByteList;
 import com.gs.collections.api.list.primitive.ImmutableCharList;
@@ -223,6 +224,22 @@ abstract class AbstractImmutableList<T>
         return result.toImmutable();
     }
 
+    public ImmutableList<T> newWithReplaced(int index, T element)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        T[] array = (T[]) this.toArray();
+        array[index] = element;
+        return Lists.immutable.with(array);
+    }
+
+    public TransientList<T> toTransient()
+    {
+        return ImmutableTrieList.<T>empty().toTransient().withAll(this);
+    }
+
     public T getFirst()
     {
         return this.isEmpty() ? null : this.get(0);
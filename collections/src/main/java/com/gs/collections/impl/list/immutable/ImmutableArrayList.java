@@ -78,6 +78,10 @@ final class ImmutableArrayList<T>
     public ImmutableList<T> newWith(T newItem)
     {
         int oldSize = this.size();
+        if (oldSize >= ImmutableListFactoryImpl.DEFAULT_TRIE_THRESHOLD)
+        {
+            return ImmutableTrieList.newListWith(this.items).newWith(newItem);
+        }
         T[] array = (T[]) new Object[oldSize + 1];
         this.toArray(array);
         array[oldSize] = newItem;
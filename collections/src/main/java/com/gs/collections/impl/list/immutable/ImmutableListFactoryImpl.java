@@ -27,6 +27,37 @@ import net.jcip.annotations.Immutable;
 @Immutable
 public final class ImmutableListFactoryImpl implements ImmutableListFactory
 {
+    /**
+     * The default size above which {@link #with(Object[])} and {@link #withAll(Iterable)} return a list backed by a
+     * persistent vector trie. Appending to an array backed ImmutableList of this size also returns such a list.
+     *
+     * @since 6.2
+     */
+    public static final int DEFAULT_TRIE_THRESHOLD = 1 << 10;
+
+    private final int trieThreshold;
+
+    public ImmutableListFactoryImpl()
+    {
+        this(DEFAULT_TRIE_THRESHOLD);
+    }
+
+    /**
+     * Creates a factory that backs lists of more than trieThreshold elements with a persistent vector trie, so that
+     * newWith, newWithAll and newWithReplaced share structure with the original list instead of copying it. Use
+     * {@link Integer#MAX_VALUE} to always create array backed lists.
+     *
+     * @since 6.2
+     */
+    public ImmutableListFactoryImpl(int trieThreshold)
+    {
+        if (trieThreshold < 0)
+        {
+            throw new IllegalArgumentException("trieThreshold must not be negative: " + trieThreshold);
+        }
+        this.trieThreshold = trieThreshold;
+    }
+
     public <T> ImmutableList<T> empty()
     {
         return (ImmutableList<T>) ImmutableEmptyList.INSTANCE;
@@ -178,6 +209,10 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items[0], items[1], items[2], items[3], items[4], items[5], items[6], items[7], items[8], items[9]);
 
             default:
+                if (items.length > this.trieThreshold)
+                {
+                    return ImmutableTrieList.newListWith(items);
+                }
                 return ImmutableArrayList.newListWith(items);
         }
     }
@@ -210,6 +245,10 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items.get(0), items.get(1), items.get(2), items.get(3), items.get(4), items.get(5), items.get(6), items.get(7), items.get(8), items.get(9));
 
             default:
+                if (items.size() > this.trieThreshold)
+                {
+                    return ImmutableTrieList.newList(items);
+                }
                 return ImmutableArrayList.newListWith((T[]) items.toArray());
         }
     }
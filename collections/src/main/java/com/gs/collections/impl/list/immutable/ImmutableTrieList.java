@@ -0,0 +1,466 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.TransientList;
+import com.gs.collections.impl.factory.Lists;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableTrieList is a persistent vector: a trie of 32-element arrays plus a separate tail array holding the last
+ * 1 to 32 elements. {@link #newWith(Object)} usually copies only the tail, and {@link #newWithReplaced(int, Object)}
+ * copies the O(log<sub>32</sub> n) arrays on the path to the index. Every other array is shared with the original
+ * list.
+ *
+ * @see ImmutableListFactoryImpl
+ * @since 6.2
+ */
+@Immutable
+public final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final ImmutableTrieList<?> EMPTY = new ImmutableTrieList<Object>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> empty()
+    {
+        return (ImmutableTrieList<E>) EMPTY;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        return ImmutableTrieList.<E>empty().newWithAll(iterable);
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        TransientTrieList<E> list = ImmutableTrieList.<E>empty().toTransient();
+        for (E element : elements)
+        {
+            list.with(element);
+        }
+        return list.toTrie();
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = ImmutableTrieList.newPath(level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Copies the rightmost path of the trie and hangs a full tail below it. {@code size} counts the elements of the
+     * trie and the tail together.
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tailNode)
+    {
+        int index = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS)
+        {
+            result[index] = tailNode;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[index];
+            result[index] = child == null
+                    ? ImmutableTrieList.newPath(level - BITS, tailNode)
+                    : ImmutableTrieList.pushTail(size, level - BITS, child, tailNode);
+        }
+        return result;
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element)
+    {
+        Object[] result = node.clone();
+        if (level == 0)
+        {
+            result[index & MASK] = element;
+        }
+        else
+        {
+            int childIndex = (index >>> level) & MASK;
+            result[childIndex] = ImmutableTrieList.replace(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return result;
+    }
+
+    private int tailOffset()
+    {
+        return this.size - this.tail.length;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= this.tailOffset())
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIfOutOfBounds(int index)
+    {
+        if (index >= this.size || index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public T get(int index)
+    {
+        this.checkIfOutOfBounds(index);
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    public ImmutableTrieList<T> newWith(T newItem)
+    {
+        if (this.tail.length < WIDTH)
+        {
+            Object[] newTail = new Object[this.tail.length + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, this.tail.length);
+            newTail[this.tail.length] = newItem;
+            return new ImmutableTrieList<T>(this.size + 1, this.shift, this.root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift))
+        {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = ImmutableTrieList.newPath(this.shift, this.tail);
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = ImmutableTrieList.pushTail(this.size, this.shift, this.root, this.tail);
+        }
+        return new ImmutableTrieList<T>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    @Override
+    public ImmutableTrieList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toTransient().withAll(elements).toTrie();
+    }
+
+    @Override
+    public ImmutableTrieList<T> newWithReplaced(int index, T element)
+    {
+        this.checkIfOutOfBounds(index);
+        int tailOffset = this.tailOffset();
+        if (index >= tailOffset)
+        {
+            Object[] newTail = this.tail.clone();
+            newTail[index - tailOffset] = element;
+            return new ImmutableTrieList<T>(this.size, this.shift, this.root, newTail);
+        }
+        Object[] newRoot = ImmutableTrieList.replace(this.shift, this.root, index, element);
+        return new ImmutableTrieList<T>(this.size, this.shift, newRoot, this.tail);
+    }
+
+    @Override
+    public TransientTrieList<T> toTransient()
+    {
+        return new TransientTrieList<T>(this);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        int tailOffset = this.tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                procedure.value((T) each);
+            }
+        }
+        for (Object each : this.tail)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int tailOffset = this.tailOffset();
+        int index = 0;
+        for (int i = 0; i < tailOffset; i += WIDTH)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                objectIntProcedure.value((T) each, index++);
+            }
+        }
+        for (Object each : this.tail)
+        {
+            objectIntProcedure.value((T) each, index++);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieListIterator();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (T item : this)
+        {
+            hashCode = 31 * hashCode + (item == null ? 0 : item.hashCode());
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return ImmutableArrayList.newListWith((T[]) this.toArray());
+    }
+
+    /**
+     * Returns each leaf array in turn instead of walking down the trie for every element.
+     */
+    private final class TrieListIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf;
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if ((this.index & MASK) == 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.index);
+            }
+            return (T) this.leaf[this.index++ & MASK];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * A single-threaded builder over the trie of an ImmutableTrieList. It fills a private tail array in place and
+     * copies the path of the trie only once for every 32 appended elements. {@link #withReplaced(int, Object)} edits
+     * the tail in place but copies the path to an index inside the trie, which may still be shared.
+     */
+    static final class TransientTrieList<T> implements TransientList<T>
+    {
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail = new Object[WIDTH];
+        private int tailLength;
+
+        private TransientTrieList(ImmutableTrieList<T> list)
+        {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tailLength = list.tail.length;
+            System.arraycopy(list.tail, 0, this.tail, 0, this.tailLength);
+        }
+
+        private void ensureEditable()
+        {
+            if (this.tail == null)
+            {
+                throw new IllegalStateException("Transient used after toImmutable()");
+            }
+        }
+
+        private void checkIfOutOfBounds(int index)
+        {
+            if (index >= this.size || index < 0)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+            }
+        }
+
+        public TransientTrieList<T> with(T element)
+        {
+            this.ensureEditable();
+            if (this.tailLength == WIDTH)
+            {
+                if ((this.size >>> BITS) > (1 << this.shift))
+                {
+                    Object[] newRoot = new Object[WIDTH];
+                    newRoot[0] = this.root;
+                    newRoot[1] = ImmutableTrieList.newPath(this.shift, this.tail);
+                    this.root = newRoot;
+                    this.shift += BITS;
+                }
+                else
+                {
+                    this.root = ImmutableTrieList.pushTail(this.size, this.shift, this.root, this.tail);
+                }
+                this.tail = new Object[WIDTH];
+                this.tailLength = 0;
+            }
+            this.tail[this.tailLength++] = element;
+            this.size++;
+            return this;
+        }
+
+        public TransientTrieList<T> withAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.with(element);
+            }
+            return this;
+        }
+
+        public TransientTrieList<T> withReplaced(int index, T element)
+        {
+            this.ensureEditable();
+            this.checkIfOutOfBounds(index);
+            int tailOffset = this.size - this.tailLength;
+            if (index >= tailOffset)
+            {
+                this.tail[index - tailOffset] = element;
+            }
+            else
+            {
+                this.root = ImmutableTrieList.replace(this.shift, this.root, index, element);
+            }
+            return this;
+        }
+
+        public T get(int index)
+        {
+            this.ensureEditable();
+            this.checkIfOutOfBounds(index);
+            int tailOffset = this.size - this.tailLength;
+            if (index >= tailOffset)
+            {
+                return (T) this.tail[index - tailOffset];
+            }
+            Object[] node = this.root;
+            for (int level = this.shift; level > 0; level -= BITS)
+            {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return (T) node[index & MASK];
+        }
+
+        public int size()
+        {
+            this.ensureEditable();
+            return this.size;
+        }
+
+        /**
+         * Freezes this transient into an ImmutableTrieList regardless of its size. Only a partly filled tail is
+         * copied.
+         */
+        private ImmutableTrieList<T> toTrie()
+        {
+            this.ensureEditable();
+            Object[] filledTail = this.tail;
+            this.tail = null;
+            if (this.size == 0)
+            {
+                return ImmutableTrieList.empty();
+            }
+            Object[] newTail = filledTail;
+            if (this.tailLength < WIDTH)
+            {
+                newTail = new Object[this.tailLength];
+                System.arraycopy(filledTail, 0, newTail, 0, this.tailLength);
+            }
+            return new ImmutableTrieList<T>(this.size, this.shift, this.root, newTail);
+        }
+
+        /**
+         * Lists above the factory threshold freeze into the trie without copying it. Smaller ones are copied into the
+         * shape the default factory would have built.
+         */
+        public ImmutableList<T> toImmutable()
+        {
+            ImmutableTrieList<T> list = this.toTrie();
+            if (list.size > ImmutableListFactoryImpl.DEFAULT_TRIE_THRESHOLD)
+            {
+                return list;
+            }
+            return Lists.immutable.with((T[]) list.toArray());
+        }
+    }
+}
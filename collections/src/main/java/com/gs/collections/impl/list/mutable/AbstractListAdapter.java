@@ -55,6 +55,7 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.collection.mutable.AbstractCollectionAdapter;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
+import com.gs.collections.impl.parallel.ParallelArraySort;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.ListIterate;
 
@@ -140,6 +141,29 @@ public abstract class AbstractListAdapter<T>
         return this.sortThis(Comparators.byFunction(function));
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        T[] array = (T[]) this.getDelegate().toArray();
+        ParallelArraySort.sort(array, comparator, executor);
+        ListIterator<T> iterator = this.getDelegate().listIterator();
+        for (T each : array)
+        {
+            iterator.next();
+            iterator.set(each);
+        }
+        return this;
+    }
+
+    public MutableList<T> sortThisParallel(ExecutorService executor)
+    {
+        return this.sortThisParallel(null, executor);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+    {
+        return this.sortThisParallel(Comparators.byFunction(function), executor);
+    }
+
     public MutableList<T> sortThisByInt(IntFunction<? super T> function)
     {
         return this.sortThis(Functions.toIntComparator(function));
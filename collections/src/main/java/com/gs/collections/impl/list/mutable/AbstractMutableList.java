@@ -74,6 +74,7 @@ import com.gs.collections.impl.factory.Stacks;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.parallel.ParallelArraySort;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.Iterate;
@@ -627,6 +628,33 @@ public abstract class AbstractMutableList<T>
         return this.sortThis(Comparators.byFunction(function));
     }
 
+    /**
+     * Sorts a copy of the elements in parallel and writes them back through a list iterator.  Override in subclasses
+     * that can sort their backing array in place.
+     */
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        T[] array = (T[]) this.toArray();
+        ParallelArraySort.sort(array, comparator, executor);
+        ListIterator<T> iterator = this.listIterator();
+        for (T each : array)
+        {
+            iterator.next();
+            iterator.set(each);
+        }
+        return this;
+    }
+
+    public MutableList<T> sortThisParallel(ExecutorService executor)
+    {
+        return this.sortThisParallel(Comparators.naturalOrder(), executor);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+    {
+        return this.sortThisParallel(Comparators.byFunction(function), executor);
+    }
+
     public MutableList<T> sortThisByInt(IntFunction<? super T> function)
     {
         return this.sortThis(Functions.toIntComparator(function));
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -87,6 +88,7 @@ import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.parallel.ParallelArraySort;
 import com.gs.collections.impl.partition.list.PartitionFastList;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ArrayListIterate;
@@ -264,6 +266,19 @@ public class FastList<T>
         return this;
     }
 
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        ParallelArraySort.sort(this.items, 0, this.size, comparator, executor);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisParallel(ExecutorService executor)
+    {
+        return this.sortThisParallel(null, executor);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -73,6 +73,7 @@ import com.gs.collections.api.partition.list.PartitionMutableList;
 import com.gs.collections.api.stack.MutableStack;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
@@ -142,6 +143,27 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<T>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates an empty list guarded by a {@link StripedReadWriteLock}, for read-mostly use by many threads. Simple reads
+     * such as contains() and size() then mark a per-core counter instead of taking the shared read lock. A
+     * deserialized copy uses a ReentrantReadWriteLock.
+     *
+     * @since 6.2
+     */
+    public static <T> MultiReaderFastList<T> newReadMostlyList()
+    {
+        return new MultiReaderFastList<T>(FastList.<T>newList(), new StripedReadWriteLock());
+    }
+
+    /**
+     * @see #newReadMostlyList()
+     * @since 6.2
+     */
+    public static <T> MultiReaderFastList<T> newReadMostlyList(Iterable<T> iterable)
+    {
+        return new MultiReaderFastList<T>(FastList.newList(iterable), new StripedReadWriteLock());
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -578,6 +600,50 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisParallel(comparator, executor);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
+    public MutableList<T> sortThisParallel(ExecutorService executor)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisParallel(executor);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(
+            Function<? super T, ? extends V> function,
+            ExecutorService executor)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisByParallel(function, executor);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
     public MutableList<T> sortThisByInt(IntFunction<? super T> function)
     {
         this.acquireWriteLock();
@@ -733,14 +799,14 @@ public final class MultiReaderFastList<T>
 
     public T get(int index)
     {
-        this.acquireReadLock();
+        int stamp = this.acquireSimpleReadLock();
         try
         {
             return this.delegate.get(index);
         }
         finally
         {
-            this.unlockReadLock();
+            this.unlockSimpleReadLock(stamp);
         }
     }
 
@@ -1277,6 +1343,24 @@ public final class MultiReaderFastList<T>
             return this;
         }
 
+        public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+        {
+            this.getDelegate().sortThisParallel(comparator, executor);
+            return this;
+        }
+
+        public MutableList<T> sortThisParallel(ExecutorService executor)
+        {
+            this.getDelegate().sortThisParallel(executor);
+            return this;
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+        {
+            this.getDelegate().sortThisByParallel(function, executor);
+            return this;
+        }
+
         public MutableList<T> sortThisByInt(IntFunction<? super T> function)
         {
             this.getDelegate().sortThisByInt(function);
@@ -379,6 +379,33 @@ public class SynchronizedMutableList<T>
         }
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(comparator, executor);
+            return this;
+        }
+    }
+
+    public MutableList<T> sortThisParallel(ExecutorService executor)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(executor);
+            return this;
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisByParallel(function, executor);
+            return this;
+        }
+    }
+
     public MutableList<T> sortThisByInt(IntFunction<? super T> function)
     {
         synchronized (this.getLock())
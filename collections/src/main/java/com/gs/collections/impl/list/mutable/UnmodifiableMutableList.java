@@ -197,6 +197,21 @@ public class UnmodifiableMutableList<T>
         throw new UnsupportedOperationException("Cannot call sortThisBy() on " + this.getClass().getSimpleName());
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executor)
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisParallel() on " + this.getClass().getSimpleName());
+    }
+
+    public MutableList<T> sortThisParallel(ExecutorService executor)
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisParallel() on " + this.getClass().getSimpleName());
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function, ExecutorService executor)
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisByParallel() on " + this.getClass().getSimpleName());
+    }
+
     public MutableList<T> sortThisByInt(IntFunction<? super T> function)
     {
         throw new UnsupportedOperationException("Cannot call sortThisByInt() on " + this.getClass().getSimpleName());
@@ -55,6 +55,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.multimap.bag.ImmutableBagMultimap;
 import com.gs.collections.api.multimap.set.ImmutableSetMultimap;
 import com.gs.collections.api.ordered.OrderedIterable;
@@ -149,6 +150,11 @@ public abstract class AbstractImmutableMap<K, V>
         return set.toImmutable().castToSet();
     }
 
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientUnifiedMap<K, V>(UnifiedMap.newMap(this));
+    }
+
     public ImmutableMap<K, V> newWithKeyValue(K key, V value)
     {
         UnifiedMap<K, V> map = UnifiedMap.newMap(this);
@@ -0,0 +1,1024 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.LazyIterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableMap backed by a hash array mapped trie. Updates such as {@link #newWithKeyValue(Object, Object)} and
+ * {@link #newWithoutKey(Object)} copy only the path from the root to the affected entry, so they run in
+ * O(log<sub>32</sub> n) time and the new map shares every other node with this one.
+ * <p>
+ * Each trie node keeps its entries inline and its sub-nodes at the end of one array, indexed by two 32-bit bitmaps.
+ * Removal inlines sub-nodes that shrink to a single entry, so the shape of the trie depends only on its contents.
+ * Keys whose spread hash codes are fully equal share a collision node below the last level.
+ *
+ * @see ImmutableMapFactoryImpl
+ * @since 6.2
+ */
+@Immutable
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_LENGTH = 32;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY =
+            new ImmutableHashTrieMap<Object, Object>(new BitmapIndexedNode<Object, Object>(null, 0, 0, new Object[0]), 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node<K, V> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        TransientHashTrieMap<K, V> result = ImmutableHashTrieMap.<K, V>empty().toTransient();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            result.withKeyValue(entry.getKey(), entry.getValue());
+        }
+        return result.toTrie();
+    }
+
+    private static int hash(Object key)
+    {
+        if (key == null)
+        {
+            return 0;
+        }
+        int hashCode = key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ImmutableHashTrieMap.mask(hash, shift);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (V each : this.values())
+        {
+            if (Comparators.nullSafeEquals(each, value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        ChangeTracker tracker = new ChangeTracker();
+        Node<K, V> newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, null, tracker);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, tracker.sizeChanged ? this.size + 1 : this.size);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        return this.toTransient().withAllKeyValues(keyValues).toTrie();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        TransientHashTrieMap<K, V> result = this.toTransient();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            result.withKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result.toTrie();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        ChangeTracker tracker = new ChangeTracker();
+        Node<K, V> newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, null, tracker);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieMap.empty();
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        TransientHashTrieMap<K, V> result = this.toTransient();
+        for (K key : keys)
+        {
+            result.withoutKey(key);
+        }
+        return result.toTrie();
+    }
+
+    /**
+     * Returns a transient that shares every node of this map. The transient copies a node the first time it changes
+     * it and edits its own copies in place from then on, so bulk updates allocate little more than the final trie.
+     */
+    @Override
+    public TransientHashTrieMap<K, V> toTransient()
+    {
+        return new TransientHashTrieMap<K, V>(this);
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(final Procedure<? super K> procedure)
+    {
+        this.root.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key);
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(final Procedure<? super V> procedure)
+    {
+        this.root.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value);
+            }
+        });
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(new Iterable<Pair<K, V>>()
+        {
+            public Iterator<Pair<K, V>> iterator()
+            {
+                return new TrieIterator<Pair<K, V>>()
+                {
+                    @Override
+                    protected Pair<K, V> entry(K key, V value)
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size)
+        {
+            return false;
+        }
+        Iterator<K> keys = this.keySet().iterator();
+        for (V value : this.values())
+        {
+            if (!this.keyAndValueEquals(keys.next(), value, that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Iterator<K> keys = this.keySet().iterator();
+        for (V value : this.values())
+        {
+            hashCode += this.keyAndValueHashCode(keys.next(), value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        Iterator<K> keys = this.keySet().iterator();
+        Iterator<V> values = this.values().iterator();
+        while (keys.hasNext())
+        {
+            K key = keys.next();
+            V value = values.next();
+            builder.append(key == this ? "(this Map)" : String.valueOf(key));
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : String.valueOf(value));
+            if (keys.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new TrieIterator<K>()
+            {
+                @Override
+                protected K entry(K key, V value)
+                {
+                    return key;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new TrieIterator<V>()
+            {
+                @Override
+                protected V entry(K key, V value)
+                {
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+
+    /**
+     * Walks the trie depth first, returning the inline entries of each node before descending into its sub-nodes.
+     */
+    private abstract class TrieIterator<E> implements Iterator<E>
+    {
+        private static final int MAX_DEPTH = HASH_LENGTH / BITS + 2;
+
+        private final Node<K, V>[] nodes = new Node[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth;
+
+        private Node<K, V> current;
+        private int entryCursor;
+
+        private TrieIterator()
+        {
+            this.nodes[0] = ImmutableHashTrieMap.this.root;
+            this.current = ImmutableHashTrieMap.this.root;
+        }
+
+        protected abstract E entry(K key, V value);
+
+        public boolean hasNext()
+        {
+            while (this.entryCursor >= this.current.entryCount())
+            {
+                if (!this.advance())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean advance()
+        {
+            while (this.depth >= 0)
+            {
+                Node<K, V> node = this.nodes[this.depth];
+                int nodeCursor = this.nodeCursors[this.depth];
+                if (nodeCursor < node.nodeCount())
+                {
+                    this.nodeCursors[this.depth] = nodeCursor + 1;
+                    Node<K, V> child = node.nodeAt(nodeCursor);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nodeCursors[this.depth] = 0;
+                    this.current = child;
+                    this.entryCursor = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int index = this.entryCursor++;
+            return this.entry(this.current.keyAt(index), this.current.valueAt(index));
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieMap iterator");
+        }
+    }
+
+    /**
+     * A single-threaded builder over the nodes of an ImmutableHashTrieMap. Nodes created by the builder carry its
+     * owner token and are edited in place; {@link #toImmutable()} clears the token so that later edits would copy,
+     * and marks the builder as frozen.
+     */
+    public static final class TransientHashTrieMap<K, V> implements TransientMap<K, V>
+    {
+        private final ImmutableHashTrieMap<K, V> source;
+        private Object owner = new Object();
+        private Node<K, V> root;
+        private int size;
+
+        private TransientHashTrieMap(ImmutableHashTrieMap<K, V> source)
+        {
+            this.source = source;
+            this.root = source.root;
+            this.size = source.size;
+        }
+
+        private void ensureEditable()
+        {
+            if (this.owner == null)
+            {
+                throw new IllegalStateException("Transient used after toImmutable()");
+            }
+        }
+
+        public TransientHashTrieMap<K, V> withKeyValue(K key, V value)
+        {
+            this.ensureEditable();
+            ChangeTracker tracker = new ChangeTracker();
+            this.root = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, this.owner, tracker);
+            if (tracker.sizeChanged)
+            {
+                this.size++;
+            }
+            return this;
+        }
+
+        public TransientHashTrieMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+        {
+            for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+            {
+                this.withKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+            }
+            return this;
+        }
+
+        public TransientHashTrieMap<K, V> withoutKey(K key)
+        {
+            this.ensureEditable();
+            ChangeTracker tracker = new ChangeTracker();
+            this.root = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, this.owner, tracker);
+            if (tracker.sizeChanged)
+            {
+                this.size--;
+            }
+            return this;
+        }
+
+        public V get(Object key)
+        {
+            this.ensureEditable();
+            Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+            return result == NOT_FOUND ? null : (V) result;
+        }
+
+        public boolean containsKey(Object key)
+        {
+            this.ensureEditable();
+            return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+        }
+
+        public int size()
+        {
+            this.ensureEditable();
+            return this.size;
+        }
+
+        /**
+         * Freezes this transient into an ImmutableHashTrieMap regardless of its size.
+         */
+        public ImmutableHashTrieMap<K, V> toTrie()
+        {
+            this.ensureEditable();
+            this.owner = null;
+            if (this.root == this.source.root)
+            {
+                return this.source;
+            }
+            if (this.size == 0)
+            {
+                return ImmutableHashTrieMap.empty();
+            }
+            return new ImmutableHashTrieMap<K, V>(this.root, this.size);
+        }
+
+        /**
+         * Freezes this transient. Results above the factory threshold keep the trie without copying; smaller ones are
+         * converted by {@link ImmutableMapFactoryImpl#withAll(Map)} to the map shape the factory would have built.
+         */
+        public ImmutableMap<K, V> toImmutable()
+        {
+            return Maps.immutable.withAll(this.toTrie());
+        }
+    }
+
+    private static final class ChangeTracker
+    {
+        private boolean sizeChanged;
+    }
+
+    /**
+     * The base class of trie nodes. A node whose {@code owner} is the token of a live {@link TransientHashTrieMap} was
+     * created by that transient and is not yet visible to any ImmutableHashTrieMap, so the transient may edit it in
+     * place. Persistent updates pass a null owner and always copy.
+     */
+    private abstract static class Node<K, V>
+    {
+        protected final Object owner;
+
+        protected Node(Object owner)
+        {
+            this.owner = owner;
+        }
+
+        protected boolean isOwnedBy(Object editor)
+        {
+            return editor != null && this.owner == editor;
+        }
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node<K, V> put(K key, V value, int hash, int shift, Object editor, ChangeTracker tracker);
+
+        abstract Node<K, V> remove(Object key, int hash, int shift, Object editor, ChangeTracker tracker);
+
+        abstract int entryCount();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract int nodeCount();
+
+        abstract Node<K, V> nodeAt(int index);
+
+        abstract void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+        boolean hasSingleEntry()
+        {
+            return this.nodeCount() == 0 && this.entryCount() == 1;
+        }
+    }
+
+    /**
+     * A trie node holding its entries as key, value pairs at the front of {@code content} and its sub-nodes in
+     * reverse order at the back. Bit i of {@code dataMap} or {@code nodeMap} is set when the 5-bit hash fragment i
+     * at this level leads to an inline entry or to a sub-node.
+     */
+    private static final class BitmapIndexedNode<K, V> extends Node<K, V>
+    {
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        private BitmapIndexedNode(Object owner, int dataMap, int nodeMap, Object[] content)
+        {
+            super(owner);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        @Override
+        int entryCount()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.content[2 * index];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.content[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            return (Node<K, V>) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                return Comparators.nullSafeEquals(this.keyAt(index), key) ? this.valueAt(index) : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeAt(this.nodeIndex(bit)).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Object editor, ChangeTracker tracker)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                K currentKey = this.keyAt(index);
+                V currentValue = this.valueAt(index);
+                if (Comparators.nullSafeEquals(currentKey, key))
+                {
+                    if (currentValue == value)
+                    {
+                        return this;
+                    }
+                    return this.copyAndSet(editor, 2 * index + 1, value);
+                }
+                tracker.sizeChanged = true;
+                Node<K, V> subNode = ImmutableHashTrieMap.mergeTwoEntries(
+                        editor,
+                        currentKey, currentValue, ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS);
+                return this.copyAndMigrateFromInlineToNode(editor, bit, subNode);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeIndex(bit);
+                Node<K, V> subNode = this.nodeAt(index);
+                Node<K, V> newSubNode = subNode.put(key, value, hash, shift + BITS, editor, tracker);
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                return this.copyAndSet(editor, this.content.length - 1 - index, newSubNode);
+            }
+            tracker.sizeChanged = true;
+            return this.copyAndInsertEntry(editor, bit, key, value);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Object editor, ChangeTracker tracker)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                if (!Comparators.nullSafeEquals(this.keyAt(index), key))
+                {
+                    return this;
+                }
+                tracker.sizeChanged = true;
+                return this.copyAndRemoveEntry(editor, bit, index);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeIndex(bit);
+                Node<K, V> subNode = this.nodeAt(index);
+                Node<K, V> newSubNode = subNode.remove(key, hash, shift + BITS, editor, tracker);
+                if (!tracker.sizeChanged)
+                {
+                    return this;
+                }
+                if (newSubNode.hasSingleEntry())
+                {
+                    if (this.dataMap == 0 && this.nodeCount() == 1)
+                    {
+                        return new BitmapIndexedNode<K, V>(
+                                editor,
+                                bit,
+                                0,
+                                new Object[]{newSubNode.keyAt(0), newSubNode.valueAt(0)});
+                    }
+                    return this.copyAndMigrateFromNodeToInline(editor, bit, newSubNode.keyAt(0), newSubNode.valueAt(0));
+                }
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                return this.copyAndSet(editor, this.content.length - 1 - index, newSubNode);
+            }
+            return this;
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            int entryCount = this.entryCount();
+            for (int i = 0; i < entryCount; i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            int nodeCount = this.nodeCount();
+            for (int i = 0; i < nodeCount; i++)
+            {
+                this.nodeAt(i).forEachKeyValue(procedure);
+            }
+        }
+
+        private Node<K, V> copyAndSet(Object editor, int position, Object object)
+        {
+            if (this.isOwnedBy(editor))
+            {
+                this.content[position] = object;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[position] = object;
+            return new BitmapIndexedNode<K, V>(editor, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> withContent(Object editor, int newDataMap, int newNodeMap, Object[] newContent)
+        {
+            if (this.isOwnedBy(editor))
+            {
+                this.dataMap = newDataMap;
+                this.nodeMap = newNodeMap;
+                this.content = newContent;
+                return this;
+            }
+            return new BitmapIndexedNode<K, V>(editor, newDataMap, newNodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndInsertEntry(Object editor, int bit, K key, V value)
+        {
+            int position = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, position);
+            newContent[position] = key;
+            newContent[position + 1] = value;
+            System.arraycopy(this.content, position, newContent, position + 2, this.content.length - position);
+            return this.withContent(editor, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndRemoveEntry(Object editor, int bit, int index)
+        {
+            int position = 2 * index;
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, position);
+            System.arraycopy(this.content, position + 2, newContent, position, this.content.length - position - 2);
+            return this.withContent(editor, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndMigrateFromInlineToNode(Object editor, int bit, Node<K, V> node)
+        {
+            int oldPosition = 2 * this.dataIndex(bit);
+            int newPosition = this.content.length - 2 - this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldPosition);
+            System.arraycopy(this.content, oldPosition + 2, newContent, oldPosition, newPosition - oldPosition);
+            newContent[newPosition] = node;
+            System.arraycopy(this.content, newPosition + 2, newContent, newPosition + 1, this.content.length - newPosition - 2);
+            return this.withContent(editor, this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private Node<K, V> copyAndMigrateFromNodeToInline(Object editor, int bit, K key, V value)
+        {
+            int oldPosition = this.content.length - 1 - this.nodeIndex(bit);
+            int newPosition = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newPosition);
+            newContent[newPosition] = key;
+            newContent[newPosition + 1] = value;
+            System.arraycopy(this.content, newPosition, newContent, newPosition + 2, oldPosition - newPosition);
+            System.arraycopy(this.content, oldPosition + 1, newContent, oldPosition + 2, this.content.length - oldPosition - 1);
+            return this.withContent(editor, this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    /**
+     * Holds keys whose spread hash codes are equal in all 32 bits, below the deepest bitmap-indexed level.
+     */
+    private static final class HashCollisionNode<K, V> extends Node<K, V>
+    {
+        private Object[] keys;
+        private Object[] values;
+
+        private HashCollisionNode(Object owner, Object[] keys, Object[] values)
+        {
+            super(owner);
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.keys[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int entryCount()
+        {
+            return this.keys.length;
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.keys[index];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.values[index];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return 0;
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Hash collision nodes have no sub-nodes");
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index == -1 ? NOT_FOUND : this.values[index];
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Object editor, ChangeTracker tracker)
+        {
+            int index = this.indexOf(key);
+            if (index != -1)
+            {
+                if (this.values[index] == value)
+                {
+                    return this;
+                }
+                if (this.isOwnedBy(editor))
+                {
+                    this.values[index] = value;
+                    return this;
+                }
+                Object[] newValues = this.values.clone();
+                newValues[index] = value;
+                return new HashCollisionNode<K, V>(editor, this.keys, newValues);
+            }
+            tracker.sizeChanged = true;
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length + 1];
+            Object[] newValues = new Object[length + 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, length);
+            System.arraycopy(this.values, 0, newValues, 0, length);
+            newKeys[length] = key;
+            newValues[length] = value;
+            return this.withEntries(editor, newKeys, newValues);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Object editor, ChangeTracker tracker)
+        {
+            int index = this.indexOf(key);
+            if (index == -1)
+            {
+                return this;
+            }
+            tracker.sizeChanged = true;
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length - 1];
+            Object[] newValues = new Object[length - 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, index);
+            System.arraycopy(this.keys, index + 1, newKeys, index, length - index - 1);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index + 1, newValues, index, length - index - 1);
+            return this.withEntries(editor, newKeys, newValues);
+        }
+
+        private Node<K, V> withEntries(Object editor, Object[] newKeys, Object[] newValues)
+        {
+            if (this.isOwnedBy(editor))
+            {
+                this.keys = newKeys;
+                this.values = newValues;
+                return this;
+            }
+            return new HashCollisionNode<K, V>(editor, newKeys, newValues);
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                procedure.value((K) this.keys[i], (V) this.values[i]);
+            }
+        }
+    }
+
+    private static <K, V> Node<K, V> mergeTwoEntries(
+            Object editor,
+            K key0, V value0, int hash0,
+            K key1, V value1, int hash1,
+            int shift)
+    {
+        if (shift >= HASH_LENGTH)
+        {
+            return new HashCollisionNode<K, V>(editor, new Object[]{key0, key1}, new Object[]{value0, value1});
+        }
+        int mask0 = ImmutableHashTrieMap.mask(hash0, shift);
+        int mask1 = ImmutableHashTrieMap.mask(hash1, shift);
+        if (mask0 != mask1)
+        {
+            int dataMap = (1 << mask0) | (1 << mask1);
+            if (mask0 < mask1)
+            {
+                return new BitmapIndexedNode<K, V>(editor, dataMap, 0, new Object[]{key0, value0, key1, value1});
+            }
+            return new BitmapIndexedNode<K, V>(editor, dataMap, 0, new Object[]{key1, value1, key0, value0});
+        }
+        Node<K, V> subNode = ImmutableHashTrieMap.mergeTwoEntries(editor, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+        return new BitmapIndexedNode<K, V>(editor, 0, 1 << mask0, new Object[]{subNode});
+    }
+}
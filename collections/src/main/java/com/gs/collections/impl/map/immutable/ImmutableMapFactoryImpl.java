@@ -26,6 +26,36 @@ import net.jcip.annotations.Immutable;
 @Immutable
 public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
+    /**
+     * The default size above which {@link #withAll(Map)} returns an {@link ImmutableHashTrieMap}.
+     *
+     * @since 6.2
+     */
+    public static final int DEFAULT_HASH_TRIE_THRESHOLD = 1 << 14;
+
+    private final int hashTrieThreshold;
+
+    public ImmutableMapFactoryImpl()
+    {
+        this(DEFAULT_HASH_TRIE_THRESHOLD);
+    }
+
+    /**
+     * Creates a factory whose {@link #withAll(Map)} returns an {@link ImmutableHashTrieMap} for maps with more than
+     * hashTrieThreshold entries. Updating a hash trie map copies O(log n) nodes instead of the whole map, at the cost
+     * of somewhat slower lookups. Use {@link Integer#MAX_VALUE} to never create hash trie maps.
+     *
+     * @since 6.2
+     */
+    public ImmutableMapFactoryImpl(int hashTrieThreshold)
+    {
+        if (hashTrieThreshold < 0)
+        {
+            throw new IllegalArgumentException("hashTrieThreshold must not be negative: " + hashTrieThreshold);
+        }
+        this.hashTrieThreshold = hashTrieThreshold;
+    }
+
     public <K, V> ImmutableMap<K, V> empty()
     {
         return (ImmutableMap<K, V>) ImmutableEmptyMap.INSTANCE;
@@ -149,6 +179,14 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
 
         if (map.size() > 4)
         {
+            if (map.size() > this.hashTrieThreshold)
+            {
+                if (map instanceof ImmutableHashTrieMap<?, ?>)
+                {
+                    return (ImmutableMap<K, V>) map;
+                }
+                return ImmutableHashTrieMap.newMap(map);
+            }
             return new ImmutableUnifiedMap<K, V>(map);
         }
 
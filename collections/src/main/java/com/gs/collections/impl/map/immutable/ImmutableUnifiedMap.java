@@ -50,6 +50,14 @@ public class ImmutableUnifiedMap<K, V>
         this.delegate = UnifiedMap.newMap(delegate);
     }
 
+    /**
+     * Wraps {@code delegate} directly when {@code copy} is false. The caller must drop every other reference to it.
+     */
+    ImmutableUnifiedMap(UnifiedMap<K, V> delegate, boolean copy)
+    {
+        this.delegate = copy ? UnifiedMap.newMap(delegate) : delegate;
+    }
+
     public ImmutableUnifiedMap(Pair<K, V>... pairs)
     {
         this(UnifiedMap.newMapWith(pairs));
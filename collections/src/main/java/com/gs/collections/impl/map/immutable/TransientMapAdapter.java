@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A TransientMap that edits a private MutableMap and freezes it with {@link MutableMap#toImmutable()}. It is the
+ * transient of immutable maps that are not backed by a trie, such as those with a hashing strategy.
+ *
+ * @since 6.2
+ */
+public class TransientMapAdapter<K, V>
+        implements TransientMap<K, V>
+{
+    private MutableMap<K, V> delegate;
+
+    /**
+     * @param delegate a map that no other code refers to
+     */
+    public TransientMapAdapter(MutableMap<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    protected MutableMap<K, V> getEditableDelegate()
+    {
+        if (this.delegate == null)
+        {
+            throw new IllegalStateException("Transient used after toImmutable()");
+        }
+        return this.delegate;
+    }
+
+    public TransientMapAdapter<K, V> withKeyValue(K key, V value)
+    {
+        this.getEditableDelegate().put(key, value);
+        return this;
+    }
+
+    public TransientMapAdapter<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        MutableMap<K, V> map = this.getEditableDelegate();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            map.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return this;
+    }
+
+    public TransientMapAdapter<K, V> withoutKey(K key)
+    {
+        this.getEditableDelegate().removeKey(key);
+        return this;
+    }
+
+    public V get(Object key)
+    {
+        return this.getEditableDelegate().get(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.getEditableDelegate().containsKey(key);
+    }
+
+    public int size()
+    {
+        return this.getEditableDelegate().size();
+    }
+
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return this.freeze().toImmutable();
+    }
+
+    /**
+     * Returns the delegate and marks this transient as frozen.
+     */
+    protected MutableMap<K, V> freeze()
+    {
+        MutableMap<K, V> result = this.getEditableDelegate();
+        this.delegate = null;
+        return result;
+    }
+}
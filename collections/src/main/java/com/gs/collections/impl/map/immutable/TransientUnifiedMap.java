@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * The default transient of an immutable map. A result that the default factory would store in an
+ * {@link ImmutableUnifiedMap} takes over the UnifiedMap instead of copying it.
+ */
+final class TransientUnifiedMap<K, V>
+        extends TransientMapAdapter<K, V>
+{
+    TransientUnifiedMap(UnifiedMap<K, V> delegate)
+    {
+        super(delegate);
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        UnifiedMap<K, V> map = (UnifiedMap<K, V>) this.freeze();
+        if (map.size() > 4 && map.size() <= ImmutableMapFactoryImpl.DEFAULT_HASH_TRIE_THRESHOLD)
+        {
+            return new ImmutableUnifiedMap<K, V>(map, false);
+        }
+        return Maps.immutable.withAll(map);
+    }
+}
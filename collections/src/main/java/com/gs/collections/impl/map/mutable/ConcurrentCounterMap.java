@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.impl.ConcurrentCounter;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+
+/**
+ * A thread-safe map from keys to long totals, intended as the target of parallel {@code sumBy} and {@code countBy}
+ * style aggregations.  Each key is backed by a {@link ConcurrentCounter}, so many threads adding to the same hot key
+ * spread their updates over striped cells instead of retrying a compare-and-set on a single value.
+ * <p>
+ * Totals read while other threads are adding are not atomic snapshots; read them once the aggregation is complete.
+ * <p>
+ * e.g.
+ * <pre>
+ * {@code ConcurrentCounterMap<String> totals = ConcurrentCounterMap.newMap();}
+ * ParallelIterate.forEach(trades, totals.sumByProcedure(Trade.TO_ACCOUNT, Trade.TO_QUANTITY));
+ * </pre>
+ *
+ * @since 6.2
+ */
+public final class ConcurrentCounterMap<K>
+{
+    private final ConcurrentHashMap<K, ConcurrentCounter> counters;
+
+    private ConcurrentCounterMap(ConcurrentHashMap<K, ConcurrentCounter> counters)
+    {
+        this.counters = counters;
+    }
+
+    public static <K> ConcurrentCounterMap<K> newMap()
+    {
+        return new ConcurrentCounterMap<K>(ConcurrentHashMap.<K, ConcurrentCounter>newMap());
+    }
+
+    public static <K> ConcurrentCounterMap<K> newMap(int initialCapacity)
+    {
+        return new ConcurrentCounterMap<K>(ConcurrentHashMap.<K, ConcurrentCounter>newMap(initialCapacity));
+    }
+
+    public void addToValue(K key, long toBeAdded)
+    {
+        this.counters.getIfAbsentPut(key, Functions0.zeroConcurrentCounter()).add(toBeAdded);
+    }
+
+    public void increment(K key)
+    {
+        this.addToValue(key, 1L);
+    }
+
+    /**
+     * Returns the total for the specified key, or zero if nothing has been added for it.
+     */
+    public long get(K key)
+    {
+        ConcurrentCounter counter = this.counters.get(key);
+        return counter == null ? 0L : counter.getCount();
+    }
+
+    public boolean containsKey(K key)
+    {
+        return this.counters.containsKey(key);
+    }
+
+    public int size()
+    {
+        return this.counters.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return this.counters.isEmpty();
+    }
+
+    public void forEachKeyValue(final ObjectLongProcedure<? super K> procedure)
+    {
+        this.counters.forEachKeyValue(new Procedure2<K, ConcurrentCounter>()
+        {
+            public void value(K key, ConcurrentCounter counter)
+            {
+                procedure.value(key, counter.getCount());
+            }
+        });
+    }
+
+    /**
+     * Returns a copy of the current totals.
+     */
+    public MutableObjectLongMap<K> toObjectLongMap()
+    {
+        final ObjectLongHashMap<K> result = ObjectLongHashMap.newMap();
+        this.forEachKeyValue(new ObjectLongProcedure<K>()
+        {
+            public void value(K key, long total)
+            {
+                result.put(key, total);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a procedure which adds the value of {@code function} for each element to the total for its
+     * {@code groupBy} key.  The procedure is safe to share between threads.
+     */
+    public <T> Procedure<T> sumByProcedure(
+            final Function<? super T, ? extends K> groupBy,
+            final LongFunction<? super T> function)
+    {
+        return new Procedure<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public void value(T each)
+            {
+                ConcurrentCounterMap.this.addToValue(groupBy.valueOf(each), function.longValueOf(each));
+            }
+        };
+    }
+
+    /**
+     * Returns a procedure which increments the total for the {@code groupBy} key of each element.  The procedure is
+     * safe to share between threads.
+     */
+    public <T> Procedure<T> countByProcedure(final Function<? super T, ? extends K> groupBy)
+    {
+        return new Procedure<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public void value(T each)
+            {
+                ConcurrentCounterMap.this.increment(groupBy.valueOf(each));
+            }
+        };
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toObjectLongMap().toString();
+    }
+}
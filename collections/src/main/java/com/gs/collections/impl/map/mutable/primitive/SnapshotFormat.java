@@ -0,0 +1,225 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable.primitive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Describes the binary snapshot layout shared by the primitive-primitive hash maps and {@code Mapped*HashMap}.
+ * <p>
+ * A snapshot is a 64 byte header followed by the raw key slots and the raw value slots of the hash table, in probe
+ * order, so that a reader can probe the table in place without rehashing. All values are little-endian.
+ * <pre>
+ * offset  size  field
+ *      0     4  magic number
+ *      4     4  format version
+ *      8     1  key type, as a JVM type descriptor character
+ *      9     1  value type, as a JVM type descriptor character
+ *     10     1  flags: 1 = contains the EMPTY_KEY sentinel, 2 = contains the REMOVED_KEY sentinel
+ *     12     4  table capacity in slots
+ *     16     4  number of occupied slots
+ *     20     4  length of the initial linear probe, in slots
+ *     32     8  value mapped to the EMPTY_KEY sentinel
+ *     40     8  value mapped to the REMOVED_KEY sentinel
+ *     64        key slots, padded to a multiple of 8 bytes, followed by the value slots
+ * </pre>
+ *
+ * @since 6.2.
+ */
+final class SnapshotFormat
+{
+    static final int MAGIC = 0x534D5347;
+    static final int VERSION = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int KEY_TYPE_OFFSET = 8;
+    static final int VALUE_TYPE_OFFSET = 9;
+    static final int FLAGS_OFFSET = 10;
+    static final int CAPACITY_OFFSET = 12;
+    static final int OCCUPIED_OFFSET = 16;
+    static final int LINEAR_PROBE_OFFSET = 20;
+    static final int ZERO_VALUE_OFFSET = 32;
+    static final int ONE_VALUE_OFFSET = 40;
+    static final int HEADER_SIZE = 64;
+
+    static final byte CONTAINS_ZERO_KEY = 1;
+    static final byte CONTAINS_ONE_KEY = 2;
+
+    private static final int ALIGNMENT = 8;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(BYTE_ORDER);
+    private long position;
+
+    private SnapshotFormat(WritableByteChannel channel)
+    {
+        this.channel = channel;
+    }
+
+    static SnapshotFormat writer(WritableByteChannel channel)
+    {
+        return new SnapshotFormat(channel);
+    }
+
+    static long valuesOffset(int capacity, int keySize)
+    {
+        return HEADER_SIZE + SnapshotFormat.align((long) capacity * keySize);
+    }
+
+    static long snapshotSize(int capacity, int keySize, int valueSize)
+    {
+        return SnapshotFormat.valuesOffset(capacity, keySize) + (long) capacity * valueSize;
+    }
+
+    private static long align(long offset)
+    {
+        return (offset + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Validates the header of a snapshot which is {@code length} bytes long and returns the table capacity it declares.
+     */
+    static int readHeader(ByteBuffer header, long length, char keyType, char valueType, int keySize, int valueSize)
+    {
+        if (length < HEADER_SIZE || header.getInt(0) != MAGIC)
+        {
+            throw new IllegalArgumentException("Not a primitive map snapshot");
+        }
+        int version = header.getInt(4);
+        if (version != VERSION)
+        {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+        char actualKeyType = (char) header.get(KEY_TYPE_OFFSET);
+        char actualValueType = (char) header.get(VALUE_TYPE_OFFSET);
+        if (actualKeyType != keyType || actualValueType != valueType)
+        {
+            throw new IllegalArgumentException("Expected a snapshot of type " + keyType + valueType + " but was " + actualKeyType + actualValueType);
+        }
+        int capacity = header.getInt(CAPACITY_OFFSET);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || length < SnapshotFormat.snapshotSize(capacity, keySize, valueSize))
+        {
+            throw new IllegalArgumentException("Truncated or corrupt snapshot");
+        }
+        if ((long) capacity * Math.max(keySize, valueSize) > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Snapshot regions larger than 2GB cannot be mapped");
+        }
+        return capacity;
+    }
+
+    static ByteBuffer slice(ByteBuffer snapshot, long offset, long length)
+    {
+        ByteBuffer duplicate = snapshot.duplicate();
+        duplicate.position((int) offset);
+        duplicate.limit((int) (offset + length));
+        return duplicate.slice().order(BYTE_ORDER);
+    }
+
+    static ByteBuffer map(FileChannel channel, long offset, long length) throws IOException
+    {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(BYTE_ORDER);
+    }
+
+    void writeHeader(char keyType, char valueType, int capacity, int occupied, int linearProbe, boolean containsZeroKey, boolean containsOneKey) throws IOException
+    {
+        this.write(MAGIC);
+        this.write(VERSION);
+        this.write((byte) keyType);
+        this.write((byte) valueType);
+        this.write((byte) ((containsZeroKey ? CONTAINS_ZERO_KEY : 0) | (containsOneKey ? CONTAINS_ONE_KEY : 0)));
+        this.alignTo(4);
+        this.write(capacity);
+        this.write(occupied);
+        this.write(linearProbe);
+        this.alignTo(ZERO_VALUE_OFFSET);
+    }
+
+    void alignTo(int alignment) throws IOException
+    {
+        while (this.position % alignment != 0)
+        {
+            this.write((byte) 0);
+        }
+    }
+
+    void write(byte value) throws IOException
+    {
+        this.ensureRemaining(1);
+        this.buffer.put(value);
+    }
+
+    void write(short value) throws IOException
+    {
+        this.ensureRemaining(2);
+        this.buffer.putShort(value);
+    }
+
+    void write(char value) throws IOException
+    {
+        this.ensureRemaining(2);
+        this.buffer.putChar(value);
+    }
+
+    void write(int value) throws IOException
+    {
+        this.ensureRemaining(4);
+        this.buffer.putInt(value);
+    }
+
+    void write(long value) throws IOException
+    {
+        this.ensureRemaining(8);
+        this.buffer.putLong(value);
+    }
+
+    void write(float value) throws IOException
+    {
+        this.ensureRemaining(4);
+        this.buffer.putFloat(value);
+    }
+
+    void write(double value) throws IOException
+    {
+        this.ensureRemaining(8);
+        this.buffer.putDouble(value);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (this.buffer.remaining() < bytes)
+        {
+            this.flush();
+        }
+        this.position += bytes;
+    }
+
+    void flush() throws IOException
+    {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining())
+        {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
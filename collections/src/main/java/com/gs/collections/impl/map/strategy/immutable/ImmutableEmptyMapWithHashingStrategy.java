@@ -31,11 +31,14 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.map.immutable.AbstractImmutableMap;
+import com.gs.collections.impl.map.immutable.TransientMapAdapter;
+import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
 import com.gs.collections.impl.utility.LazyIterate;
 import net.jcip.annotations.Immutable;
 
@@ -224,6 +227,12 @@ final class ImmutableEmptyMapWithHashingStrategy<K, V>
         return this;
     }
 
+    @Override
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientMapAdapter<K, V>(UnifiedMapWithHashingStrategy.<K, V>newMap(this.hashingStrategy));
+    }
+
     private Object writeReplace()
     {
         return new ImmutableMapWithHashingStrategySerializationProxy<K, V>(this, this.hashingStrategy);
@@ -29,10 +29,12 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.HashingStrategies;
 import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import com.gs.collections.impl.map.immutable.AbstractImmutableMap;
+import com.gs.collections.impl.map.immutable.TransientMapAdapter;
 import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.mutable.UnmodifiableMutableSet;
@@ -251,6 +253,12 @@ public class ImmutableUnifiedMapWithHashingStrategy<K, V>
         return result.toImmutable();
     }
 
+    @Override
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientMapAdapter<K, V>(UnifiedMapWithHashingStrategy.newMap(this.delegate));
+    }
+
     protected Object writeReplace()
     {
         return new ImmutableMapWithHashingStrategySerializationProxy<K, V>(this, this.delegate.hashingStrategy());
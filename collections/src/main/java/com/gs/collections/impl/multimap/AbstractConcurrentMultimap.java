@@ -0,0 +1,292 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.collection.ImmutableCollection;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap for concurrent use that keeps the values of each key in an immutable collection stored in a
+ * {@link ConcurrentHashMap}. An update builds a new value collection and compare-and-sets it into the map, so writers
+ * only contend when they update the same key, and readers never block. The collections returned by {@code get} and
+ * passed to {@code forEachKeyMultiValues} are snapshots that later updates do not change.
+ * <p>
+ * Subclasses should start from a persistent collection in {@link #createCollection()}, so that an update copies
+ * O(log n) nodes rather than all the values of the key.
+ *
+ * @since 6.2
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends ImmutableCollection<V>>
+        extends AbstractMultimap<K, V, C>
+        implements MutableMultimap<K, V>
+{
+    protected ConcurrentHashMap<K, C> map;
+
+    protected AbstractConcurrentMultimap()
+    {
+        this.map = ConcurrentHashMap.newMap();
+    }
+
+    protected AbstractConcurrentMultimap(int initialCapacity)
+    {
+        this.map = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    @Override
+    protected ConcurrentHashMap<K, C> getMap()
+    {
+        return this.map;
+    }
+
+    /**
+     * Creates a mutable copy of the values of one key, for {@link #toMap()}.
+     */
+    protected abstract MutableCollection<V> toMutableCollection(C values);
+
+    // Query Operations
+
+    /**
+     * Sums the sizes of the value collections, so this is O(sizeDistinct()). A shared counter would make it O(1),
+     * but every put and remove would then contend on it.
+     */
+    public int size()
+    {
+        int size = 0;
+        for (C values : this.map.values())
+        {
+            size += values.size();
+        }
+        return size;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.map.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    protected C getSnapshot(Object key)
+    {
+        C values = this.map.get(key);
+        return values == null ? this.createCollection() : values;
+    }
+
+    // Modification Operations
+
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C values = this.map.get(key);
+            C current = values == null ? this.createCollection() : values;
+            C newValues = (C) current.newWith(value);
+            if (newValues.size() == current.size())
+            {
+                return false;
+            }
+            if (this.compareAndSet(key, values, newValues))
+            {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(Pair<K, V> keyValuePair)
+    {
+        return this.put(keyValuePair.getOne(), keyValuePair.getTwo());
+    }
+
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            C values = this.map.get(key);
+            if (values == null)
+            {
+                return false;
+            }
+            C newValues = (C) values.newWithout((V) value);
+            if (newValues.size() == values.size())
+            {
+                return false;
+            }
+            if (this.compareAndSet((K) key, values, newValues))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Replaces the values of key if they are still the same instance as expected, which is null for an absent key.
+     * Keys whose values become empty are removed rather than mapped to an empty collection.
+     */
+    private boolean compareAndSet(K key, C expected, C newValues)
+    {
+        if (expected == null)
+        {
+            return this.map.putIfAbsent(key, newValues) == null;
+        }
+        if (newValues.isEmpty())
+        {
+            return this.map.remove(key, expected);
+        }
+        return this.map.replace(key, expected, newValues);
+    }
+
+    // Bulk Operations
+
+    public boolean putAllPairs(Pair<K, V>... pairs)
+    {
+        boolean changed = false;
+        for (Pair<K, V> pair : pairs)
+        {
+            changed |= this.put(pair.getOne(), pair.getTwo());
+        }
+        return changed;
+    }
+
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        // Copied once, so a lazy iterable is not evaluated again on every retry
+        FastList<V> valuesToAdd = FastList.newList(values);
+        if (valuesToAdd.isEmpty())
+        {
+            return false;
+        }
+        while (true)
+        {
+            C oldValues = this.map.get(key);
+            C current = oldValues == null ? this.createCollection() : oldValues;
+            C newValues = (C) current.newWithAll(valuesToAdd);
+            if (newValues.size() == current.size())
+            {
+                return false;
+            }
+            if (this.compareAndSet(key, oldValues, newValues))
+            {
+                return true;
+            }
+        }
+    }
+
+    public <KK extends K, VV extends V> boolean putAll(Multimap<KK, VV> multimap)
+    {
+        class PutProcedure implements Procedure2<KK, Iterable<VV>>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private boolean changed;
+
+            public void value(KK key, Iterable<VV> values)
+            {
+                this.changed |= AbstractConcurrentMultimap.this.putAll(key, values);
+            }
+        }
+
+        PutProcedure putProcedure = new PutProcedure();
+        multimap.forEachKeyMultiValues(putProcedure);
+        return putProcedure.changed;
+    }
+
+    protected C replaceSnapshot(K key, Iterable<? extends V> values)
+    {
+        C newValues = (C) this.createCollection().newWithAll(values);
+        C oldValues = newValues.isEmpty() ? this.map.remove(key) : this.map.put(key, newValues);
+        return oldValues == null ? this.createCollection() : oldValues;
+    }
+
+    protected C removeSnapshot(Object key)
+    {
+        C oldValues = this.map.remove(key);
+        return oldValues == null ? this.createCollection() : oldValues;
+    }
+
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        final MutableMap<K, RichIterable<V>> result = (MutableMap<K, RichIterable<V>>) (MutableMap<?, ?>) this.map.newEmpty();
+        this.map.forEachKeyValue(new Procedure2<K, C>()
+        {
+            public void value(K key, C values)
+            {
+                result.put(key, AbstractConcurrentMultimap.this.toMutableCollection(values));
+            }
+        });
+        return result;
+    }
+
+    public <R extends Collection<V>> MutableMap<K, R> toMap(final Function0<R> collectionFactory)
+    {
+        final MutableMap<K, R> result = (MutableMap<K, R>) (MutableMap<?, ?>) this.map.newEmpty();
+        this.map.forEachKeyValue(new Procedure2<K, C>()
+        {
+            public void value(K key, C values)
+            {
+                result.put(key, Iterate.addAllTo(values, collectionFactory.value()));
+            }
+        });
+        return result;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.map.size());
+        this.map.forEachKeyValue(new MultimapKeyValuesSerializingProcedure<K, V>(out));
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int keyCount = in.readInt();
+        this.map = ConcurrentHashMap.newMap(keyCount);
+        for (int k = 0; k < keyCount; k++)
+        {
+            K key = (K) in.readObject();
+            int valuesSize = in.readInt();
+            FastList<V> values = FastList.newList(valuesSize);
+            for (int v = 0; v < valuesSize; v++)
+            {
+                values.add((V) in.readObject());
+            }
+            this.map.put(key, (C) this.createCollection().newWithAll(values));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.bag.MutableBagMultimap;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.immutable.ImmutableTrieList;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.UnmodifiableMutableList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractConcurrentMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A MutableListMultimap that is safe for concurrent reads and writes. The values of each key are held in an
+ * {@link ImmutableTrieList} and replaced by compare-and-set, so puts to different keys never block each other and
+ * appending to a key copies at most the 32-element tail of its list. {@link #get(Object)} returns an unmodifiable
+ * snapshot of the values.
+ *
+ * @since 6.2
+ */
+public final class ConcurrentFastListMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, ImmutableList<V>>
+        implements MutableListMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentFastListMultimap()
+    {
+    }
+
+    public ConcurrentFastListMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentFastListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentFastListMultimap(Pair<K, V>... pairs)
+    {
+        super(pairs.length);
+        this.putAllPairs(pairs);
+    }
+
+    public ConcurrentFastListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentFastListMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentFastListMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentFastListMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentFastListMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentFastListMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentFastListMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected ImmutableList<V> createCollection()
+    {
+        return ImmutableTrieList.empty();
+    }
+
+    @Override
+    protected MutableList<V> toMutableCollection(ImmutableList<V> values)
+    {
+        return FastList.newList(values);
+    }
+
+    public MutableList<V> get(K key)
+    {
+        return UnmodifiableMutableList.of(this.getSnapshot(key).castToList());
+    }
+
+    public MutableList<V> replaceValues(K key, Iterable<? extends V> values)
+    {
+        return UnmodifiableMutableList.of(this.replaceSnapshot(key, values).castToList());
+    }
+
+    public MutableList<V> removeAll(Object key)
+    {
+        return UnmodifiableMutableList.of(this.removeSnapshot(key).castToList());
+    }
+
+    public ConcurrentFastListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentFastListMultimap<K, V>();
+    }
+
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentFastListMultimap<K, V>(this);
+    }
+
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        return new ImmutableListMultimapImpl<K, V>(UnifiedMap.newMap(this.map));
+    }
+
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.set;
+
+import java.io.Externalizable;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.set.ImmutableSetMultimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractConcurrentMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.set.immutable.ImmutableHashTrieSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.UnmodifiableMutableSet;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A MutableSetMultimap that is safe for concurrent reads and writes. The values of each key are held in an
+ * {@link ImmutableHashTrieSet} and replaced by compare-and-set, so puts to different keys never block each other and
+ * adding to a key copies O(log n) trie nodes. {@link #get(Object)} returns an unmodifiable snapshot of the values.
+ *
+ * @since 6.2
+ */
+public final class ConcurrentUnifiedSetMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, ImmutableSet<V>>
+        implements MutableSetMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentUnifiedSetMultimap()
+    {
+    }
+
+    public ConcurrentUnifiedSetMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentUnifiedSetMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentUnifiedSetMultimap(Pair<K, V>... pairs)
+    {
+        super(pairs.length);
+        this.putAllPairs(pairs);
+    }
+
+    public ConcurrentUnifiedSetMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentUnifiedSetMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected ImmutableSet<V> createCollection()
+    {
+        return ImmutableHashTrieSet.empty();
+    }
+
+    @Override
+    protected MutableSet<V> toMutableCollection(ImmutableSet<V> values)
+    {
+        return UnifiedSet.newSet(values);
+    }
+
+    public MutableSet<V> get(K key)
+    {
+        return UnmodifiableMutableSet.of(this.getSnapshot(key).castToSet());
+    }
+
+    public MutableSet<V> replaceValues(K key, Iterable<? extends V> values)
+    {
+        return UnmodifiableMutableSet.of(this.replaceSnapshot(key, values).castToSet());
+    }
+
+    public MutableSet<V> removeAll(Object key)
+    {
+        return UnmodifiableMutableSet.of(this.removeSnapshot(key).castToSet());
+    }
+
+    public ConcurrentUnifiedSetMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>();
+    }
+
+    public MutableSetMultimap<K, V> toMutable()
+    {
+        return new ConcurrentUnifiedSetMultimap<K, V>(this);
+    }
+
+    public ImmutableSetMultimap<K, V> toImmutable()
+    {
+        return new ImmutableSetMultimapImpl<K, V>(UnifiedMap.newMap(this.map));
+    }
+
+    public MutableSetMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public UnifiedSetMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> HashBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.<K, V2>newMultimap());
+    }
+}
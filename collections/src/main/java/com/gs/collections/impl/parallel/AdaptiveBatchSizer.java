@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.procedure.Procedure;
+
+/**
+ * A cost model for {@link ParallelIterate#forEach(Iterable, Procedure, AdaptiveBatchSizer, java.util.concurrent.Executor)}.
+ * Leading elements are run on the calling thread and timed in runs of doubling length, until either
+ * {@link #getSampleSize() sampleSize} elements or a quarter of the target batch time has been spent, so that sampling
+ * an expensive procedure never runs much more than half a batch serially.  The remaining elements are split into
+ * batches that are each expected to take about the target batch time, estimated from however many elements were
+ * sampled.  Batches are never
+ * made so large that fewer than {@link #getParallelism() parallelism} tasks are available, and if the estimated cost
+ * of the remaining elements is below the target batch time they are run on the calling thread without forking.
+ * <p>
+ * Every decision is passed to the listener, if one is set, before any tasks are submitted.
+ *
+ * @since 6.2
+ */
+public final class AdaptiveBatchSizer
+{
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    private final long targetBatchNanos;
+    private final int sampleSize;
+    private final int parallelism;
+    private final Procedure<? super BatchingDecision> listener;
+
+    private AdaptiveBatchSizer(
+            long targetBatchNanos,
+            int sampleSize,
+            int parallelism,
+            Procedure<? super BatchingDecision> listener)
+    {
+        if (targetBatchNanos <= 0L)
+        {
+            throw new IllegalArgumentException("Target batch time must be positive: " + targetBatchNanos + "ns");
+        }
+        if (sampleSize <= 0)
+        {
+            throw new IllegalArgumentException("Sample size must be positive: " + sampleSize);
+        }
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.targetBatchNanos = targetBatchNanos;
+        this.sampleSize = sampleSize;
+        this.parallelism = parallelism;
+        this.listener = listener;
+    }
+
+    public static AdaptiveBatchSizer withTargetBatchTime(long duration, TimeUnit unit)
+    {
+        return new AdaptiveBatchSizer(
+                unit.toNanos(duration),
+                DEFAULT_SAMPLE_SIZE,
+                ParallelIterate.getDefaultMaxThreadPoolSize(),
+                null);
+    }
+
+    public AdaptiveBatchSizer withSampleSize(int newSampleSize)
+    {
+        return new AdaptiveBatchSizer(this.targetBatchNanos, newSampleSize, this.parallelism, this.listener);
+    }
+
+    public AdaptiveBatchSizer withParallelism(int newParallelism)
+    {
+        return new AdaptiveBatchSizer(this.targetBatchNanos, this.sampleSize, newParallelism, this.listener);
+    }
+
+    /**
+     * Returns a copy of this sizer which reports each of its decisions to the specified listener.
+     */
+    public AdaptiveBatchSizer withListener(Procedure<? super BatchingDecision> newListener)
+    {
+        return new AdaptiveBatchSizer(this.targetBatchNanos, this.sampleSize, this.parallelism, newListener);
+    }
+
+    public long getTargetBatchNanos()
+    {
+        return this.targetBatchNanos;
+    }
+
+    public int getSampleSize()
+    {
+        return this.sampleSize;
+    }
+
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Returns the time after which sampling stops, even if fewer than sampleSize elements have been run.
+     */
+    public long getSampleNanosLimit()
+    {
+        return Math.max(1L, this.targetBatchNanos >>> 2);
+    }
+
+    BatchingDecision decide(int size, int sampleCount, long sampleNanos)
+    {
+        int remaining = size - sampleCount;
+        double nanosPerElement = Math.max(1.0, (double) sampleNanos / (double) Math.max(1, sampleCount));
+        double idealBatchSize = (double) this.targetBatchNanos / nanosPerElement;
+        int batchSize;
+        int taskCount;
+        if (remaining == 0)
+        {
+            batchSize = 0;
+            taskCount = 0;
+        }
+        else if (idealBatchSize >= remaining)
+        {
+            batchSize = remaining;
+            taskCount = 1;
+        }
+        else
+        {
+            int maxBatchSize = Math.max(1, (remaining + this.parallelism - 1) / this.parallelism);
+            batchSize = (int) Math.max(1L, Math.min((long) idealBatchSize, (long) maxBatchSize));
+            taskCount = (remaining + batchSize - 1) / batchSize;
+        }
+        BatchingDecision decision = new BatchingDecision(size, sampleCount, sampleNanos, nanosPerElement, batchSize, taskCount);
+        if (this.listener != null)
+        {
+            this.listener.value(decision);
+        }
+        return decision;
+    }
+}
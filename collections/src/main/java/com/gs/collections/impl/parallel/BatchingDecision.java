@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+/**
+ * Records how an {@link AdaptiveBatchSizer} split an iteration: how many elements were sampled on the calling
+ * thread, what they cost, and the batch size and task count chosen for the remaining elements.  A task count of
+ * zero or one means the remaining elements were run on the calling thread.
+ *
+ * @since 6.2
+ */
+public final class BatchingDecision
+{
+    private final int size;
+    private final int sampleCount;
+    private final long sampleNanos;
+    private final double nanosPerElement;
+    private final int batchSize;
+    private final int taskCount;
+
+    BatchingDecision(int size, int sampleCount, long sampleNanos, double nanosPerElement, int batchSize, int taskCount)
+    {
+        this.size = size;
+        this.sampleCount = sampleCount;
+        this.sampleNanos = sampleNanos;
+        this.nanosPerElement = nanosPerElement;
+        this.batchSize = batchSize;
+        this.taskCount = taskCount;
+    }
+
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    public int getSampleCount()
+    {
+        return this.sampleCount;
+    }
+
+    public long getSampleNanos()
+    {
+        return this.sampleNanos;
+    }
+
+    public double getNanosPerElement()
+    {
+        return this.nanosPerElement;
+    }
+
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    public int getTaskCount()
+    {
+        return this.taskCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BatchingDecision{"
+                + "size=" + this.size
+                + ", sampleCount=" + this.sampleCount
+                + ", sampleNanos=" + this.sampleNanos
+                + ", nanosPerElement=" + this.nanosPerElement
+                + ", batchSize=" + this.batchSize
+                + ", taskCount=" + this.taskCount
+                + '}';
+    }
+}
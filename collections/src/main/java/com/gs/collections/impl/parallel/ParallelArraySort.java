@@ -0,0 +1,303 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * The ParallelArraySort class sorts a range of an array using the threads of an {@link Executor}.  The range is cut
+ * into runs which are sorted concurrently with {@link Arrays#sort(Object[], int, int, Comparator)}, and the runs are
+ * then merged pairwise in rounds.  Every merge is split into pieces of equal output size by a binary search on the
+ * two inputs, so the last rounds, which have only one or two merges left, still keep every task busy.
+ * <p>
+ * The sort is stable and needs a buffer as large as the range being sorted.  Ranges too small to be worth splitting
+ * are sorted on the calling thread.
+ *
+ * @since 6.2
+ */
+public final class ParallelArraySort
+{
+    static final int MIN_RUN_SIZE = 1 << 13;
+
+    private ParallelArraySort()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, Executor executor)
+    {
+        ParallelArraySort.sort(array, 0, array.length, comparator, executor);
+    }
+
+    public static <T> void sort(T[] array, int fromIndex, int toIndex, Comparator<? super T> comparator, Executor executor)
+    {
+        ParallelArraySort.sort(array, fromIndex, toIndex, comparator, executor, ParallelIterate.getDefaultTaskCount());
+    }
+
+    /**
+     * Sorts array[fromIndex, toIndex) with at most taskCount concurrent tasks.  A null comparator sorts by the
+     * natural order of the elements.
+     */
+    public static <T> void sort(
+            final T[] array,
+            final int fromIndex,
+            int toIndex,
+            Comparator<? super T> comparator,
+            Executor executor,
+            int taskCount)
+    {
+        ParallelArraySort.checkRange(array.length, fromIndex, toIndex);
+        int size = toIndex - fromIndex;
+        int runCount = ParallelArraySort.runCount(size, taskCount);
+        final Comparator<? super T> order = ParallelArraySort.orNaturalOrder(comparator);
+        if (runCount == 1)
+        {
+            Arrays.sort(array, fromIndex, toIndex, order);
+            return;
+        }
+
+        final int[] bounds = ParallelArraySort.runBounds(size, runCount);
+        MutableList<Runnable> runSorts = FastList.newList(runCount);
+        for (int i = 0; i < runCount; i++)
+        {
+            final int run = i;
+            runSorts.add(new Runnable()
+            {
+                public void run()
+                {
+                    Arrays.sort(array, fromIndex + bounds[run], fromIndex + bounds[run + 1], order);
+                }
+            });
+        }
+        ParallelArraySort.invokeAll(executor, runSorts);
+
+        T[] source = array;
+        int sourceOffset = fromIndex;
+        T[] target = (T[]) new Object[size];
+        int targetOffset = 0;
+        for (int width = 1; width < runCount; width *= 2)
+        {
+            ParallelArraySort.mergeRound(source, sourceOffset, target, targetOffset, bounds, width, order, executor, taskCount);
+            T[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, 0, array, fromIndex, size);
+        }
+    }
+
+    private static <T> Comparator<? super T> orNaturalOrder(Comparator<? super T> comparator)
+    {
+        if (comparator == null)
+        {
+            return Comparators.naturalOrder();
+        }
+        return comparator;
+    }
+
+    private static <T> void mergeRound(
+            final T[] source,
+            final int sourceOffset,
+            final T[] target,
+            final int targetOffset,
+            int[] bounds,
+            int width,
+            final Comparator<? super T> comparator,
+            Executor executor,
+            int taskCount)
+    {
+        int runCount = bounds.length - 1;
+        int mergeCount = runCount / (2 * width);
+        MutableList<Runnable> pieces = FastList.newList(taskCount);
+        for (int run = 0; run < runCount; run += 2 * width)
+        {
+            final int low = bounds[run];
+            final int middle = bounds[run + width];
+            final int high = bounds[run + 2 * width];
+            final int pieceCount = ParallelArraySort.pieceCount(high - low, taskCount / mergeCount);
+            for (int i = 0; i < pieceCount; i++)
+            {
+                final int piece = i;
+                pieces.add(new Runnable()
+                {
+                    public void run()
+                    {
+                        int leftSize = middle - low;
+                        int rightSize = high - middle;
+                        int outputStart = ParallelArraySort.pieceStart(leftSize + rightSize, piece, pieceCount);
+                        int outputEnd = ParallelArraySort.pieceStart(leftSize + rightSize, piece + 1, pieceCount);
+                        int leftStart = ParallelArraySort.coRank(outputStart, source, sourceOffset + low, leftSize, sourceOffset + middle, rightSize, comparator);
+                        int leftEnd = ParallelArraySort.coRank(outputEnd, source, sourceOffset + low, leftSize, sourceOffset + middle, rightSize, comparator);
+                        ParallelArraySort.merge(
+                                source,
+                                sourceOffset + low + leftStart,
+                                sourceOffset + low + leftEnd,
+                                sourceOffset + middle + outputStart - leftStart,
+                                sourceOffset + middle + outputEnd - leftEnd,
+                                target,
+                                targetOffset + low + outputStart,
+                                comparator);
+                    }
+                });
+            }
+        }
+        ParallelArraySort.invokeAll(executor, pieces);
+    }
+
+    /**
+     * Returns how many of the first k elements of the stable merge of the two sorted ranges come from the left range.
+     */
+    private static <T> int coRank(int k, T[] array, int leftStart, int leftSize, int rightStart, int rightSize, Comparator<? super T> comparator)
+    {
+        int low = Math.max(0, k - rightSize);
+        int high = Math.min(k, leftSize);
+        while (low < high)
+        {
+            int i = (low + high) >>> 1;
+            int j = k - i;
+            if (comparator.compare(array[leftStart + i], array[rightStart + j - 1]) <= 0)
+            {
+                low = i + 1;
+            }
+            else
+            {
+                high = i;
+            }
+        }
+        return low;
+    }
+
+    private static <T> void merge(
+            T[] source,
+            int leftStart,
+            int leftEnd,
+            int rightStart,
+            int rightEnd,
+            T[] target,
+            int targetStart,
+            Comparator<? super T> comparator)
+    {
+        int i = leftStart;
+        int j = rightStart;
+        int k = targetStart;
+        while (i < leftEnd && j < rightEnd)
+        {
+            target[k++] = comparator.compare(source[j], source[i]) < 0 ? source[j++] : source[i++];
+        }
+        System.arraycopy(source, i, target, k, leftEnd - i);
+        System.arraycopy(source, j, target, k + leftEnd - i, rightEnd - j);
+    }
+
+    /**
+     * Returns the largest power of two that is at most taskCount and leaves every run at least
+     * {@link #MIN_RUN_SIZE} elements long.
+     */
+    static int runCount(int size, int taskCount)
+    {
+        int limit = Math.min(taskCount, size / MIN_RUN_SIZE);
+        return limit <= 1 ? 1 : Integer.highestOneBit(limit);
+    }
+
+    static int[] runBounds(int size, int runCount)
+    {
+        int[] bounds = new int[runCount + 1];
+        for (int i = 0; i <= runCount; i++)
+        {
+            bounds[i] = ParallelArraySort.pieceStart(size, i, runCount);
+        }
+        return bounds;
+    }
+
+    static int pieceCount(int mergeSize, int tasksPerMerge)
+    {
+        return Math.max(1, Math.min(tasksPerMerge, mergeSize / MIN_RUN_SIZE));
+    }
+
+    static int pieceStart(int size, int piece, int pieceCount)
+    {
+        return (int) ((long) size * piece / pieceCount);
+    }
+
+    static void checkRange(int length, int fromIndex, int toIndex)
+    {
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        if (fromIndex < 0)
+        {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length)
+        {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    static void invokeAll(Executor executor, MutableList<Runnable> tasks)
+    {
+        final CountDownLatch latch = new CountDownLatch(tasks.size());
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        for (final Runnable task : tasks)
+        {
+            executor.execute(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        task.run();
+                    }
+                    catch (Throwable t)
+                    {
+                        error.compareAndSet(null, t);
+                    }
+                    finally
+                    {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (error.get() != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", error.get());
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -45,7 +46,9 @@ import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.impl.bag.mutable.ConcurrentHashBag;
 import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.block.procedure.CollectProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
@@ -56,6 +59,7 @@ import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.ListIterate;
 
 import static com.gs.collections.impl.factory.Iterables.*;
 
@@ -307,6 +311,75 @@ public final class ParallelIterate
         ParallelIterate.forEach(iterable, procedure, batchSize, ParallelIterate.calculateTaskCount(iterable, batchSize), executor);
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches sized by the specified {@link AdaptiveBatchSizer}
+     * rather than by a fixed batch size.  The first elements are run and timed on the calling thread until the sizer's
+     * sample size or sample time limit is reached, and the remaining elements are split into contiguous batches sized
+     * to the sizer's target batch time.
+     * The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
+     * <p>
+     * e.g.
+     * <pre>
+     * AdaptiveBatchSizer sizer = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.MILLISECONDS);
+     * ParallelIterate.<b>forEach</b>(collection, procedure, sizer);
+     * </pre>
+     *
+     * @since 6.2
+     */
+    public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, AdaptiveBatchSizer batchSizer)
+    {
+        ParallelIterate.forEach(iterable, procedure, batchSizer, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * @see #forEach(Iterable, Procedure, AdaptiveBatchSizer)
+     * @since 6.2
+     */
+    public static <T> void forEach(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            AdaptiveBatchSizer batchSizer,
+            Executor executor)
+    {
+        if (Iterate.isEmpty(iterable))
+        {
+            return;
+        }
+        List<T> list = (iterable instanceof RandomAccess || iterable instanceof ListIterable) && iterable instanceof List
+                ? (List<T>) iterable
+                : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        int size = list.size();
+        int sampleLimit = Math.min(size, batchSizer.getSampleSize());
+        long sampleNanosLimit = batchSizer.getSampleNanosLimit();
+        int sampleCount = 0;
+        int runLength = 1;
+        long sampleNanos = 0L;
+        long start = System.nanoTime();
+        while (sampleCount < sampleLimit && sampleNanos < sampleNanosLimit)
+        {
+            int end = Math.min(sampleLimit, sampleCount + runLength);
+            ListIterate.forEach(list, sampleCount, end - 1, procedure);
+            sampleCount = end;
+            runLength = Math.min(runLength << 1, sampleLimit);
+            sampleNanos = System.nanoTime() - start;
+        }
+        BatchingDecision decision = batchSizer.decide(size, sampleCount, sampleNanos);
+        if (decision.getTaskCount() > 1)
+        {
+            ParallelIterate.forEachInListOnExecutor(
+                    list.subList(sampleCount, size),
+                    new PassThruProcedureFactory<Procedure<? super T>>(procedure),
+                    new PassThruCombiner<Procedure<? super T>>(),
+                    1,
+                    decision.getTaskCount(),
+                    executor);
+        }
+        else if (sampleCount < size)
+        {
+            ListIterate.forEach(list, sampleCount, size - 1, procedure);
+        }
+    }
+
     /**
      * Iterate over the collection specified in parallel batches using default runtime parameter values
      * and the specified executor.
@@ -1241,6 +1314,55 @@ public final class ParallelIterate
         return concurrentMultimap;
     }
 
+    /**
+     * Counts the occurrences of the value the function computes for each element, executed in parallel batches and
+     * writing output into a ConcurrentHashBag.
+     *
+     * @since 6.2
+     */
+    public static <T, V> MutableBag<V> countBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> function)
+    {
+        return ParallelIterate.countBy(iterable, function, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Counts the occurrences of the value the function computes for each element, executed in parallel batches and
+     * writing output into a ConcurrentHashBag.
+     *
+     * @since 6.2
+     */
+    public static <T, V> MutableBag<V> countBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> function,
+            int batchSize)
+    {
+        return ParallelIterate.countBy(iterable, function, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Counts the occurrences of the value the function computes for each element, executed in parallel batches and
+     * writing output into a ConcurrentHashBag.
+     *
+     * @since 6.2
+     */
+    public static <T, V> MutableBag<V> countBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> function,
+            int batchSize,
+            Executor executor)
+    {
+        ConcurrentHashBag<V> result = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<Procedure<T>>(new CollectProcedure<T, V>(function, result)),
+                Combiners.<Procedure<T>>passThru(),
+                batchSize,
+                executor);
+        return result;
+    }
+
     public static <T, V> ObjectDoubleMap<V> sumByDouble(
             Iterable<T> iterable,
             Function<T, V> groupBy,
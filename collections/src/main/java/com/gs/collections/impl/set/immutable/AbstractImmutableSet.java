@@ -45,6 +45,7 @@ import com.gs.collections.api.set.ImmutableSet;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.SetIterable;
+import com.gs.collections.api.set.TransientSet;
 import com.gs.collections.api.set.UnsortedSetIterable;
 import com.gs.collections.api.set.primitive.ImmutableBooleanSet;
 import com.gs.collections.api.set.primitive.ImmutableByteSet;
@@ -118,6 +119,11 @@ public abstract class AbstractImmutableSet<T> extends AbstractImmutableCollectio
         return element == null ? 0 : element.hashCode();
     }
 
+    public TransientSet<T> toTransient()
+    {
+        return new TransientUnifiedSet<T>(UnifiedSet.newSet(this));
+    }
+
     public ImmutableSet<T> newWith(T element)
     {
         if (!this.contains(element))
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.TransientSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap.TransientHashTrieMap;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableSet backed by an {@link ImmutableHashTrieMap} from each element to itself, so that
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} copy O(log n) trie nodes rather than the whole set.
+ *
+ * @since 6.2
+ */
+@Immutable
+public final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<Object>(ImmutableHashTrieMap.<Object, Object>empty());
+
+    private final ImmutableHashTrieMap<T, T> delegate;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, T> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableSet<T> newSetWith(T... elements)
+    {
+        TransientHashTrieSet<T> set = new TransientHashTrieSet<T>(ImmutableHashTrieMap.<T, T>empty().toTransient());
+        for (T element : elements)
+        {
+            set.with(element);
+        }
+        return set.toTrie();
+    }
+
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return set.size() == this.size() && this.containsAll(set);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (T each : this.delegate.keySet())
+        {
+            hashCode += this.nullSafeHashCode(each);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.delegate.containsKey(object);
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.delegate.keySet().iterator();
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this.delegate.keySet())
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        ImmutableHashTrieMap<T, T> newDelegate = this.delegate.newWithKeyValue(element, element);
+        return newDelegate == this.delegate ? this : new ImmutableHashTrieSet<T>(newDelegate);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        ImmutableHashTrieMap<T, T> newDelegate = this.delegate.newWithoutKey(element);
+        return newDelegate == this.delegate ? this : new ImmutableHashTrieSet<T>(newDelegate);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toTransient().withAll(elements).toTrie();
+    }
+
+    @Override
+    public ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        TransientHashTrieSet<T> set = this.toTransient();
+        for (T element : elements)
+        {
+            set.without(element);
+        }
+        return set.toTrie();
+    }
+
+    @Override
+    public TransientHashTrieSet<T> toTransient()
+    {
+        return new TransientHashTrieSet<T>(this.delegate.toTransient(), this);
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+
+    /**
+     * Edits the nodes of a {@link TransientHashTrieMap} from each element to itself. Sets above the factory threshold
+     * freeze without copying; smaller ones are copied into the shape the default factory would have built.
+     */
+    static final class TransientHashTrieSet<T> implements TransientSet<T>
+    {
+        private final TransientHashTrieMap<T, T> delegate;
+        private final ImmutableHashTrieSet<T> source;
+
+        private TransientHashTrieSet(TransientHashTrieMap<T, T> delegate)
+        {
+            this(delegate, null);
+        }
+
+        private TransientHashTrieSet(TransientHashTrieMap<T, T> delegate, ImmutableHashTrieSet<T> source)
+        {
+            this.delegate = delegate;
+            this.source = source;
+        }
+
+        public TransientHashTrieSet<T> with(T element)
+        {
+            this.delegate.withKeyValue(element, element);
+            return this;
+        }
+
+        public TransientHashTrieSet<T> withAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.delegate.withKeyValue(element, element);
+            }
+            return this;
+        }
+
+        public TransientHashTrieSet<T> without(T element)
+        {
+            this.delegate.withoutKey(element);
+            return this;
+        }
+
+        public boolean contains(Object element)
+        {
+            return this.delegate.containsKey(element);
+        }
+
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        private ImmutableHashTrieSet<T> toTrie()
+        {
+            ImmutableHashTrieMap<T, T> map = this.delegate.toTrie();
+            if (this.source != null && map == this.source.delegate)
+            {
+                return this.source;
+            }
+            return new ImmutableHashTrieSet<T>(map);
+        }
+
+        public ImmutableSet<T> toImmutable()
+        {
+            ImmutableHashTrieSet<T> set = this.toTrie();
+            if (set.size() > ImmutableSetFactoryImpl.DEFAULT_HASH_TRIE_THRESHOLD)
+            {
+                return set;
+            }
+            return Sets.immutable.with((T[]) set.toArray());
+        }
+    }
+}
@@ -25,6 +25,36 @@ import net.jcip.annotations.Immutable;
 @Immutable
 public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
 {
+    /**
+     * The default number of elements above which {@link #with(Object[])} returns a set backed by a hash trie.
+     *
+     * @since 6.2
+     */
+    public static final int DEFAULT_HASH_TRIE_THRESHOLD = 1 << 14;
+
+    private final int hashTrieThreshold;
+
+    public ImmutableSetFactoryImpl()
+    {
+        this(DEFAULT_HASH_TRIE_THRESHOLD);
+    }
+
+    /**
+     * Creates a factory that backs sets of more than hashTrieThreshold elements with a hash array mapped trie, so
+     * that newWith and newWithout copy O(log n) nodes instead of the whole set. Use {@link Integer#MAX_VALUE} to
+     * never create hash trie sets.
+     *
+     * @since 6.2
+     */
+    public ImmutableSetFactoryImpl(int hashTrieThreshold)
+    {
+        if (hashTrieThreshold < 0)
+        {
+            throw new IllegalArgumentException("hashTrieThreshold must not be negative: " + hashTrieThreshold);
+        }
+        this.hashTrieThreshold = hashTrieThreshold;
+    }
+
     public <T> ImmutableSet<T> empty()
     {
         return (ImmutableSet<T>) ImmutableEmptySet.INSTANCE;
@@ -143,6 +173,10 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
             case 4:
                 return this.of(items[0], items[1], items[2], items[3]);
             default:
+                if (items.length > this.hashTrieThreshold)
+                {
+                    return ImmutableHashTrieSet.newSetWith(items);
+                }
                 return ImmutableUnifiedSet.newSetWith(items);
         }
     }
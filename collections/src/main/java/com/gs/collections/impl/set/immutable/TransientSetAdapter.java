@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.TransientSet;
+
+/**
+ * A TransientSet that edits a private MutableSet and freezes it with {@link MutableSet#toImmutable()}. It is the
+ * transient of immutable sets that are not backed by a trie, such as those with a hashing strategy.
+ *
+ * @since 6.2
+ */
+public class TransientSetAdapter<T>
+        implements TransientSet<T>
+{
+    private MutableSet<T> delegate;
+
+    /**
+     * @param delegate a set that no other code refers to
+     */
+    public TransientSetAdapter(MutableSet<T> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    protected MutableSet<T> getEditableDelegate()
+    {
+        if (this.delegate == null)
+        {
+            throw new IllegalStateException("Transient used after toImmutable()");
+        }
+        return this.delegate;
+    }
+
+    public TransientSetAdapter<T> with(T element)
+    {
+        this.getEditableDelegate().add(element);
+        return this;
+    }
+
+    public TransientSetAdapter<T> withAll(Iterable<? extends T> elements)
+    {
+        this.getEditableDelegate().addAllIterable(elements);
+        return this;
+    }
+
+    public TransientSetAdapter<T> without(T element)
+    {
+        this.getEditableDelegate().remove(element);
+        return this;
+    }
+
+    public boolean contains(Object element)
+    {
+        return this.getEditableDelegate().contains(element);
+    }
+
+    public int size()
+    {
+        return this.getEditableDelegate().size();
+    }
+
+    public ImmutableSet<T> toImmutable()
+    {
+        return this.freeze().toImmutable();
+    }
+
+    /**
+     * Returns the delegate and marks this transient as frozen.
+     */
+    protected MutableSet<T> freeze()
+    {
+        MutableSet<T> result = this.getEditableDelegate();
+        this.delegate = null;
+        return result;
+    }
+}
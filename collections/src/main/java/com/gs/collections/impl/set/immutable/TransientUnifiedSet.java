@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * The default transient of an immutable set. A result that the default factory would store in an
+ * {@link ImmutableUnifiedSet} takes over the UnifiedSet instead of copying it.
+ */
+final class TransientUnifiedSet<T>
+        extends TransientSetAdapter<T>
+{
+    TransientUnifiedSet(UnifiedSet<T> delegate)
+    {
+        super(delegate);
+    }
+
+    @Override
+    public ImmutableSet<T> toImmutable()
+    {
+        UnifiedSet<T> set = (UnifiedSet<T>) this.freeze();
+        if (set.size() > 4 && set.size() <= ImmutableSetFactoryImpl.DEFAULT_HASH_TRIE_THRESHOLD)
+        {
+            return new ImmutableUnifiedSet<T>(set);
+        }
+        return Sets.immutable.with((T[]) set.toArray());
+    }
+}
@@ -70,6 +70,7 @@ import com.gs.collections.api.set.primitive.MutableLongSet;
 import com.gs.collections.api.set.primitive.MutableShortSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -136,6 +137,27 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<T>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates an empty set guarded by a {@link StripedReadWriteLock}, for read-mostly use by many threads. Simple reads
+     * such as contains() and size() then mark a per-core counter instead of taking the shared read lock. A
+     * deserialized copy uses a ReentrantReadWriteLock.
+     *
+     * @since 6.2
+     */
+    public static <T> MultiReaderUnifiedSet<T> newReadMostlySet()
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.<T>newSet(), new StripedReadWriteLock());
+    }
+
+    /**
+     * @see #newReadMostlySet()
+     * @since 6.2
+     */
+    public static <T> MultiReaderUnifiedSet<T> newReadMostlySet(Iterable<T> iterable)
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.newSet(iterable), new StripedReadWriteLock());
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
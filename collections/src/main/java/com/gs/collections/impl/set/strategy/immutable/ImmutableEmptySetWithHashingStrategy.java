@@ -29,10 +29,13 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.TransientSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.EmptyIterator;
 import com.gs.collections.impl.factory.HashingStrategySets;
 import com.gs.collections.impl.set.immutable.AbstractImmutableSet;
+import com.gs.collections.impl.set.immutable.TransientSetAdapter;
+import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -179,6 +182,12 @@ final class ImmutableEmptySetWithHashingStrategy<T>
         return null;
     }
 
+    @Override
+    public TransientSet<T> toTransient()
+    {
+        return new TransientSetAdapter<T>(UnifiedSetWithHashingStrategy.<T>newSet(this.hashingStrategy));
+    }
+
     private Object writeReplace()
     {
         return new ImmutableSetWithHashingStrategySerializationProxy<T>(this, this.hashingStrategy);
@@ -24,9 +24,11 @@ import com.gs.collections.api.block.HashingStrategy;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.set.ImmutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.set.TransientSet;
 import com.gs.collections.impl.UnmodifiableIteratorAdapter;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.immutable.AbstractImmutableSet;
+import com.gs.collections.impl.set.immutable.TransientSetAdapter;
 import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import net.jcip.annotations.Immutable;
 
@@ -107,6 +109,12 @@ final class ImmutableUnifiedSetWithHashingStrategy<T>
         this.delegate.batchForEach(procedure, sectionIndex, sectionCount);
     }
 
+    @Override
+    public TransientSet<T> toTransient()
+    {
+        return new TransientSetAdapter<T>(UnifiedSetWithHashingStrategy.newSet(this.delegate));
+    }
+
     private Object writeReplace()
     {
         return new ImmutableSetWithHashingStrategySerializationProxy<T>(this, this.delegate.hashingStrategy());
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+
+/**
+ * Finds the n-th largest or n-th smallest of a stream of occurrence counts using a heap bounded to n counts. Feeding
+ * it m counts costs O(m log n) time and O(n) space, which lets bags answer topOccurrences and bottomOccurrences
+ * without sorting every distinct item.
+ *
+ * @since 6.2
+ */
+public final class OccurrencesThreshold implements IntProcedure
+{
+    private static final long serialVersionUID = 1L;
+
+    // Min-heap of the n largest keys seen so far; keys are negated counts when selecting the smallest counts
+    private final int[] heap;
+    private final boolean largest;
+    private int size;
+
+    private OccurrencesThreshold(int n, boolean largest)
+    {
+        if (n <= 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n <= 0");
+        }
+        this.heap = new int[n];
+        this.largest = largest;
+    }
+
+    public static OccurrencesThreshold largest(int n)
+    {
+        return new OccurrencesThreshold(n, true);
+    }
+
+    public static OccurrencesThreshold smallest(int n)
+    {
+        return new OccurrencesThreshold(n, false);
+    }
+
+    public void value(int count)
+    {
+        int key = this.largest ? count : -count;
+        if (this.size < this.heap.length)
+        {
+            this.heap[this.size] = key;
+            this.siftUp(this.size);
+            this.size++;
+        }
+        else if (key > this.heap[0])
+        {
+            this.heap[0] = key;
+            this.siftDown(0);
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the n-th largest (or smallest) count offered, or the smallest (or largest) count if fewer than n counts
+     * were offered. Every count that ties with it belongs in the result as well.
+     */
+    public int getThreshold()
+    {
+        if (this.size == 0)
+        {
+            throw new IllegalStateException("No counts have been offered");
+        }
+        return this.largest ? this.heap[0] : -this.heap[0];
+    }
+
+    /**
+     * Returns true if a count belongs among the top (or bottom) n, ties with the threshold included.
+     */
+    public boolean accepts(int count)
+    {
+        int threshold = this.getThreshold();
+        return this.largest ? count >= threshold : count <= threshold;
+    }
+
+    private void siftUp(int index)
+    {
+        int[] localHeap = this.heap;
+        int key = localHeap[index];
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (localHeap[parent] <= key)
+            {
+                break;
+            }
+            localHeap[child] = localHeap[parent];
+            child = parent;
+        }
+        localHeap[child] = key;
+    }
+
+    private void siftDown(int index)
+    {
+        int[] localHeap = this.heap;
+        int localSize = this.size;
+        int key = localHeap[index];
+        int parent = index;
+        int half = localSize >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < localSize && localHeap[right] < localHeap[child])
+            {
+                child = right;
+            }
+            if (key <= localHeap[child])
+            {
+                break;
+            }
+            localHeap[parent] = localHeap[child];
+            parent = child;
+        }
+        localHeap[parent] = key;
+    }
+}
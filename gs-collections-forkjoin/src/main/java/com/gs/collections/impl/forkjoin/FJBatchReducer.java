@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import com.gs.collections.impl.lazy.parallel.Batch;
+
+/**
+ * Reduces each {@link Batch} visited by an {@link FJBatchTask} to a result, and combines the results of sibling tasks.
+ * A reducer may short-circuit, in which case batches not yet visited are reduced to {@link #emptyResult()}.
+ */
+public abstract class FJBatchReducer<T, R>
+{
+    private volatile boolean shortCircuited;
+
+    public abstract R reduceBatch(Batch<T> batch);
+
+    public abstract R combine(R left, R right);
+
+    public abstract R emptyResult();
+
+    /**
+     * Returns true if no further batches need to be visited once a batch has been reduced to the given result.
+     */
+    public boolean shouldShortCircuit(R result)
+    {
+        return false;
+    }
+
+    public boolean isShortCircuited()
+    {
+        return this.shortCircuited;
+    }
+
+    public void shortCircuit()
+    {
+        this.shortCircuited = true;
+    }
+}
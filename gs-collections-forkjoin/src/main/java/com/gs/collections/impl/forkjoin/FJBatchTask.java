@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import com.gs.collections.impl.lazy.parallel.Batch;
+
+/**
+ * Reduces a range of the batches produced by splitting a parallel iterable.  Ranges holding more than one batch are
+ * split in half recursively, so that idle workers can steal the unvisited half of a range from a busy worker.  A
+ * single batch is always reduced by one worker.
+ */
+public class FJBatchTask<T, R> extends RecursiveTask<R>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends Batch<T>> batches;
+    private final int low;
+    private final int high;
+    private final FJBatchReducer<T, R> reducer;
+
+    public FJBatchTask(List<? extends Batch<T>> batches, FJBatchReducer<T, R> reducer)
+    {
+        this(batches, 0, batches.size(), reducer);
+    }
+
+    public FJBatchTask(List<? extends Batch<T>> batches, int low, int high, FJBatchReducer<T, R> reducer)
+    {
+        this.batches = batches;
+        this.low = low;
+        this.high = high;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected R compute()
+    {
+        if (this.high - this.low <= 1)
+        {
+            return this.computeLeaf();
+        }
+        int middle = (this.low + this.high) >>> 1;
+        FJBatchTask<T, R> left = new FJBatchTask<>(this.batches, this.low, middle, this.reducer);
+        FJBatchTask<T, R> right = new FJBatchTask<>(this.batches, middle, this.high, this.reducer);
+        left.fork();
+        R rightResult = right.compute();
+        R leftResult = left.join();
+        return this.reducer.combine(leftResult, rightResult);
+    }
+
+    private R computeLeaf()
+    {
+        if (this.low == this.high || this.reducer.isShortCircuited())
+        {
+            return this.reducer.emptyResult();
+        }
+        R result = this.reducer.reduceBatch(this.batches.get(this.low));
+        if (this.reducer.shouldShortCircuit(result))
+        {
+            this.reducer.shortCircuit();
+        }
+        return result;
+    }
+}
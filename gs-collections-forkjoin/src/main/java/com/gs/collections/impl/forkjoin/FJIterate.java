@@ -75,10 +75,9 @@ import com.gs.collections.impl.utility.Iterate;
 public final class FJIterate
 {
     public static final int DEFAULT_MIN_FORK_SIZE = 5000;
+    static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(ParallelIterate.getDefaultMaxThreadPoolSize());
     private static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount() * 4;
 
-    private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(ParallelIterate.getDefaultMaxThreadPoolSize());
-
     private FJIterate()
     {
         // utility class only
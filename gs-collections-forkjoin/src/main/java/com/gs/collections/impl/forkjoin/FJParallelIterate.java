@@ -0,0 +1,407 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.Batch;
+import com.gs.collections.impl.lazy.parallel.RootBatch;
+
+/**
+ * The FJParallelIterate class runs the batches of a {@link ParallelIterable} on a {@link ForkJoinPool}.  The batches
+ * produced by {@link AbstractParallelIterable#split()} are visited by an {@link FJBatchTask}, which splits the range of
+ * batches in half recursively and lets idle workers steal the unvisited halves.  A parallel iterable normally submits
+ * every batch to its executor up front, so a handful of expensive batches can leave most of the cores idle; here the
+ * expensive batches end up spread over all of the workers.
+ * <p>
+ * Batches are opaque, so they are never split further: the granularity of the work stealing is bounded by the batch
+ * size of the parallel iterable, and a single expensive batch is still visited by one worker.  When the cost of the
+ * elements is very uneven, pass a smaller batch size to {@code asParallel}.
+ * <p>
+ * The engine is selected per call, e.g.
+ * <pre>
+ * int count = FJParallelIterate.count(list.asParallel(executorService, 100), predicate, forkJoinPool);
+ * </pre>
+ * The executor of the parallel iterable is not used.  Parallel iterables that cannot be split into batches, such as
+ * synchronized or multi-reader views, are evaluated by the parallel iterable itself.
+ *
+ * @see FJIterate
+ */
+public final class FJParallelIterate
+{
+    private FJParallelIterate()
+    {
+        // utility class only
+    }
+
+    public static <T> void forEach(ParallelIterable<T> parallelIterable, Procedure<? super T> procedure)
+    {
+        FJParallelIterate.forEach(parallelIterable, procedure, FJIterate.FORK_JOIN_POOL);
+    }
+
+    public static <T> void forEach(ParallelIterable<T> parallelIterable, final Procedure<? super T> procedure, ForkJoinPool executor)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            parallelIterable.forEach(procedure);
+            return;
+        }
+        FJParallelIterate.invoke(parallelIterable, executor, new FJBatchReducer<T, Void>()
+        {
+            @Override
+            public Void reduceBatch(Batch<T> batch)
+            {
+                batch.forEach(procedure);
+                return null;
+            }
+
+            @Override
+            public Void combine(Void left, Void right)
+            {
+                return null;
+            }
+
+            @Override
+            public Void emptyResult()
+            {
+                return null;
+            }
+        });
+    }
+
+    public static <T> int count(ParallelIterable<T> parallelIterable, Predicate<? super T> predicate)
+    {
+        return FJParallelIterate.count(parallelIterable, predicate, FJIterate.FORK_JOIN_POOL);
+    }
+
+    public static <T> int count(ParallelIterable<T> parallelIterable, final Predicate<? super T> predicate, ForkJoinPool executor)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            return parallelIterable.count(predicate);
+        }
+        return FJParallelIterate.invoke(parallelIterable, executor, new FJBatchReducer<T, Integer>()
+        {
+            @Override
+            public Integer reduceBatch(Batch<T> batch)
+            {
+                return batch.count(predicate);
+            }
+
+            @Override
+            public Integer combine(Integer left, Integer right)
+            {
+                return left + right;
+            }
+
+            @Override
+            public Integer emptyResult()
+            {
+                return 0;
+            }
+        });
+    }
+
+    public static <T> boolean anySatisfy(ParallelIterable<T> parallelIterable, Predicate<? super T> predicate)
+    {
+        return FJParallelIterate.anySatisfy(parallelIterable, predicate, FJIterate.FORK_JOIN_POOL);
+    }
+
+    /**
+     * Stops visiting batches as soon as any batch contains an element which satisfies the predicate.
+     */
+    public static <T> boolean anySatisfy(ParallelIterable<T> parallelIterable, final Predicate<? super T> predicate, ForkJoinPool executor)
+    {
+        List<? extends RootBatch<T>> batches = FJParallelIterate.rootBatches(parallelIterable);
+        if (batches == null)
+        {
+            return parallelIterable.anySatisfy(predicate);
+        }
+        return executor.invoke(new FJBatchTask<>(batches, new FJBatchReducer<T, Boolean>()
+        {
+            @Override
+            public Boolean reduceBatch(Batch<T> batch)
+            {
+                return ((RootBatch<T>) batch).anySatisfy(predicate);
+            }
+
+            @Override
+            public Boolean combine(Boolean left, Boolean right)
+            {
+                return left || right;
+            }
+
+            @Override
+            public Boolean emptyResult()
+            {
+                return Boolean.FALSE;
+            }
+
+            @Override
+            public boolean shouldShortCircuit(Boolean result)
+            {
+                return result;
+            }
+        }));
+    }
+
+    public static <T> boolean allSatisfy(ParallelIterable<T> parallelIterable, Predicate<? super T> predicate)
+    {
+        return FJParallelIterate.allSatisfy(parallelIterable, predicate, FJIterate.FORK_JOIN_POOL);
+    }
+
+    /**
+     * Stops visiting batches as soon as any batch contains an element which does not satisfy the predicate.
+     */
+    public static <T> boolean allSatisfy(ParallelIterable<T> parallelIterable, final Predicate<? super T> predicate, ForkJoinPool executor)
+    {
+        List<? extends RootBatch<T>> batches = FJParallelIterate.rootBatches(parallelIterable);
+        if (batches == null)
+        {
+            return parallelIterable.allSatisfy(predicate);
+        }
+        return executor.invoke(new FJBatchTask<>(batches, new FJBatchReducer<T, Boolean>()
+        {
+            @Override
+            public Boolean reduceBatch(Batch<T> batch)
+            {
+                return ((RootBatch<T>) batch).allSatisfy(predicate);
+            }
+
+            @Override
+            public Boolean combine(Boolean left, Boolean right)
+            {
+                return left && right;
+            }
+
+            @Override
+            public Boolean emptyResult()
+            {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public boolean shouldShortCircuit(Boolean result)
+            {
+                return !result;
+            }
+        }));
+    }
+
+    public static <T> T detect(ParallelIterable<T> parallelIterable, Predicate<? super T> predicate)
+    {
+        return FJParallelIterate.detect(parallelIterable, predicate, FJIterate.FORK_JOIN_POOL);
+    }
+
+    /**
+     * Stops visiting batches as soon as any batch contains an element which satisfies the predicate.  The element
+     * returned is not necessarily the first one in iteration order.
+     */
+    public static <T> T detect(ParallelIterable<T> parallelIterable, final Predicate<? super T> predicate, ForkJoinPool executor)
+    {
+        List<? extends RootBatch<T>> batches = FJParallelIterate.rootBatches(parallelIterable);
+        if (batches == null)
+        {
+            return parallelIterable.detect(predicate);
+        }
+        return executor.invoke(new FJBatchTask<>(batches, new FJBatchReducer<T, T>()
+        {
+            @Override
+            public T reduceBatch(Batch<T> batch)
+            {
+                return ((RootBatch<T>) batch).detect(predicate);
+            }
+
+            @Override
+            public T combine(T left, T right)
+            {
+                return left == null ? right : left;
+            }
+
+            @Override
+            public T emptyResult()
+            {
+                return null;
+            }
+
+            @Override
+            public boolean shouldShortCircuit(T result)
+            {
+                return result != null;
+            }
+        }));
+    }
+
+    public static <T> long sumOfInt(ParallelIterable<T> parallelIterable, IntFunction<? super T> function)
+    {
+        return FJParallelIterate.sumOfInt(parallelIterable, function, FJIterate.FORK_JOIN_POOL);
+    }
+
+    public static <T> long sumOfInt(ParallelIterable<T> parallelIterable, final IntFunction<? super T> function, ForkJoinPool executor)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            return parallelIterable.sumOfInt(function);
+        }
+        return FJParallelIterate.invoke(parallelIterable, executor, new LongSumReducer<T>()
+        {
+            @Override
+            public Long reduceBatch(Batch<T> batch)
+            {
+                return batch.sumOfInt(function);
+            }
+        });
+    }
+
+    public static <T> long sumOfLong(ParallelIterable<T> parallelIterable, LongFunction<? super T> function)
+    {
+        return FJParallelIterate.sumOfLong(parallelIterable, function, FJIterate.FORK_JOIN_POOL);
+    }
+
+    public static <T> long sumOfLong(ParallelIterable<T> parallelIterable, final LongFunction<? super T> function, ForkJoinPool executor)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            return parallelIterable.sumOfLong(function);
+        }
+        return FJParallelIterate.invoke(parallelIterable, executor, new LongSumReducer<T>()
+        {
+            @Override
+            public Long reduceBatch(Batch<T> batch)
+            {
+                return batch.sumOfLong(function);
+            }
+        });
+    }
+
+    public static <T> double sumOfDouble(ParallelIterable<T> parallelIterable, DoubleFunction<? super T> function)
+    {
+        return FJParallelIterate.sumOfDouble(parallelIterable, function, FJIterate.FORK_JOIN_POOL);
+    }
+
+    /**
+     * The partial sums of the batches are combined with the same compensated summation as
+     * {@link ParallelIterable#sumOfDouble(DoubleFunction)}.
+     */
+    public static <T> double sumOfDouble(ParallelIterable<T> parallelIterable, final DoubleFunction<? super T> function, ForkJoinPool executor)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            return parallelIterable.sumOfDouble(function);
+        }
+        return FJParallelIterate.invoke(parallelIterable, executor, new FJBatchReducer<T, DoubleSumResultHolder>()
+        {
+            @Override
+            public DoubleSumResultHolder reduceBatch(Batch<T> batch)
+            {
+                return batch.sumOfDouble(function);
+            }
+
+            @Override
+            public DoubleSumResultHolder combine(DoubleSumResultHolder left, DoubleSumResultHolder right)
+            {
+                double compensation = left.getCompensation() + right.getCompensation();
+                double adjustedValue = right.getResult() - compensation;
+                double nextSum = left.getResult() + adjustedValue;
+                return new CompensatedSum(nextSum, nextSum - left.getResult() - adjustedValue);
+            }
+
+            @Override
+            public DoubleSumResultHolder emptyResult()
+            {
+                return new CompensatedSum(0.0d, 0.0d);
+            }
+        }).getResult();
+    }
+
+    private static <T, R> R invoke(ParallelIterable<T> parallelIterable, ForkJoinPool executor, FJBatchReducer<T, R> reducer)
+    {
+        List<? extends Batch<T>> batches = ((AbstractParallelIterable<T, ?>) parallelIterable).split().toList();
+        return executor.invoke(new FJBatchTask<>(batches, reducer));
+    }
+
+    /**
+     * Returns the batches of the parallel iterable if they support the short-circuiting operations of
+     * {@link RootBatch}, and null otherwise.
+     */
+    private static <T> List<? extends RootBatch<T>> rootBatches(ParallelIterable<T> parallelIterable)
+    {
+        if (!(parallelIterable instanceof AbstractParallelIterable))
+        {
+            return null;
+        }
+        List<? extends Batch<T>> batches = ((AbstractParallelIterable<T, ?>) parallelIterable).split().toList();
+        for (Batch<T> batch : batches)
+        {
+            if (!(batch instanceof RootBatch))
+            {
+                return null;
+            }
+        }
+        return (List<? extends RootBatch<T>>) batches;
+    }
+
+    private abstract static class LongSumReducer<T> extends FJBatchReducer<T, Long>
+    {
+        @Override
+        public Long combine(Long left, Long right)
+        {
+            return left + right;
+        }
+
+        @Override
+        public Long emptyResult()
+        {
+            return 0L;
+        }
+    }
+
+    private static final class CompensatedSum implements DoubleSumResultHolder
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final double result;
+        private final double compensation;
+
+        private CompensatedSum(double result, double compensation)
+        {
+            this.result = result;
+            this.compensation = compensation;
+        }
+
+        @Override
+        public double getResult()
+        {
+            return this.result;
+        }
+
+        @Override
+        public double getCompensation()
+        {
+            return this.compensation;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FJParallelIterateTest
+{
+    private static final int SIZE = 10_000;
+    private static final int BATCH_SIZE = 100;
+
+    private static final IntFunction<Integer> INT_VALUE = new IntFunction<Integer>()
+    {
+        @Override
+        public int intValueOf(Integer each)
+        {
+            return each;
+        }
+    };
+
+    private ExecutorService executorService;
+    private ForkJoinPool forkJoinPool;
+    private ImmutableList<ParallelIterable<Integer>> parallelIterables;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(2);
+        this.forkJoinPool = new ForkJoinPool(4);
+        Interval interval = Interval.oneTo(SIZE);
+        this.parallelIterables = Lists.immutable.of(
+                interval.toList().asParallel(this.executorService, BATCH_SIZE),
+                interval.toList().asParallel(this.executorService, 1),
+                interval.toList().asParallel(this.executorService, SIZE * 2),
+                interval.toSet().asParallel(this.executorService, BATCH_SIZE),
+                HashBag.newBag(interval).asParallel(this.executorService, BATCH_SIZE),
+                MultiReaderFastList.newList(interval).asParallel(this.executorService, BATCH_SIZE),
+                FastList.newList(interval).asParallel(this.executorService, BATCH_SIZE).select(Predicates.alwaysTrue()));
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdown();
+        this.forkJoinPool.shutdown();
+    }
+
+    @Test
+    public void forEach()
+    {
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            final AtomicInteger sum = new AtomicInteger();
+            FJParallelIterate.forEach(parallelIterable, new Procedure<Integer>()
+            {
+                @Override
+                public void value(Integer each)
+                {
+                    sum.addAndGet(each);
+                }
+            }, this.forkJoinPool);
+            Assert.assertEquals(SIZE * (SIZE + 1) / 2, sum.get());
+        }
+    }
+
+    @Test
+    public void forEachOnDefaultPool()
+    {
+        final AtomicInteger count = new AtomicInteger();
+        FJParallelIterate.forEach(Interval.oneTo(SIZE).toList().asParallel(this.executorService, BATCH_SIZE), new Procedure<Integer>()
+        {
+            @Override
+            public void value(Integer each)
+            {
+                count.incrementAndGet();
+            }
+        });
+        Assert.assertEquals(SIZE, count.get());
+    }
+
+    @Test
+    public void count()
+    {
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            Assert.assertEquals(SIZE / 2, FJParallelIterate.count(parallelIterable, IntegerPredicates.isEven(), this.forkJoinPool));
+            Assert.assertEquals(0, FJParallelIterate.count(parallelIterable, Predicates.greaterThan(SIZE), this.forkJoinPool));
+        }
+    }
+
+    @Test
+    public void anySatisfy()
+    {
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            Assert.assertTrue(FJParallelIterate.anySatisfy(parallelIterable, Predicates.equal(SIZE), this.forkJoinPool));
+            Assert.assertTrue(FJParallelIterate.anySatisfy(parallelIterable, Predicates.equal(1), this.forkJoinPool));
+            Assert.assertFalse(FJParallelIterate.anySatisfy(parallelIterable, Predicates.greaterThan(SIZE), this.forkJoinPool));
+        }
+    }
+
+    @Test
+    public void allSatisfy()
+    {
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            Assert.assertTrue(FJParallelIterate.allSatisfy(parallelIterable, Predicates.lessThanOrEqualTo(SIZE), this.forkJoinPool));
+            Assert.assertFalse(FJParallelIterate.allSatisfy(parallelIterable, Predicates.lessThan(SIZE), this.forkJoinPool));
+            Assert.assertFalse(FJParallelIterate.allSatisfy(parallelIterable, Predicates.greaterThan(1), this.forkJoinPool));
+        }
+    }
+
+    @Test
+    public void detect()
+    {
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            Assert.assertEquals(Integer.valueOf(SIZE / 2), FJParallelIterate.detect(parallelIterable, Predicates.equal(SIZE / 2), this.forkJoinPool));
+            Assert.assertNull(FJParallelIterate.detect(parallelIterable, Predicates.greaterThan(SIZE), this.forkJoinPool));
+            Integer found = FJParallelIterate.detect(parallelIterable, Predicates.greaterThan(SIZE / 2), this.forkJoinPool);
+            Assert.assertTrue(found > SIZE / 2);
+        }
+    }
+
+    @Test
+    public void sums()
+    {
+        long expected = (long) SIZE * (SIZE + 1) / 2;
+        for (ParallelIterable<Integer> parallelIterable : this.parallelIterables)
+        {
+            Assert.assertEquals(expected, FJParallelIterate.sumOfInt(parallelIterable, INT_VALUE, this.forkJoinPool));
+            Assert.assertEquals(expected, FJParallelIterate.sumOfLong(parallelIterable, new LongFunction<Integer>()
+            {
+                @Override
+                public long longValueOf(Integer each)
+                {
+                    return each.longValue();
+                }
+            }, this.forkJoinPool));
+            Assert.assertEquals((double) expected, FJParallelIterate.sumOfDouble(parallelIterable, new DoubleFunction<Integer>()
+            {
+                @Override
+                public double doubleValueOf(Integer each)
+                {
+                    return each.doubleValue();
+                }
+            }, this.forkJoinPool), 0.0);
+        }
+    }
+
+    @Test
+    public void sumOfDoubleIsCompensated()
+    {
+        FastList<Double> values = FastList.newList();
+        for (int i = 0; i < SIZE; i++)
+        {
+            values.add(1.0e-10);
+        }
+        values.add(0, 1.0e10);
+        double sum = FJParallelIterate.sumOfDouble(values.asParallel(this.executorService, 7), new DoubleFunction<Double>()
+        {
+            @Override
+            public double doubleValueOf(Double each)
+            {
+                return each;
+            }
+        }, this.forkJoinPool);
+        Assert.assertEquals(values.asParallel(this.executorService, 7).sumOfDouble(new DoubleFunction<Double>()
+        {
+            @Override
+            public double doubleValueOf(Double each)
+            {
+                return each;
+            }
+        }), sum, 1.0e-6);
+        Assert.assertEquals(1.0e10 + SIZE * 1.0e-10, sum, 1.0e-6);
+    }
+
+    @Test
+    public void skewedBatchesAreVisitedOnce()
+    {
+        final AtomicInteger visits = new AtomicInteger();
+        int count = FJParallelIterate.count(Interval.oneTo(SIZE).toList().asParallel(this.executorService, 10), new Predicate<Integer>()
+        {
+            @Override
+            public boolean accept(Integer each)
+            {
+                visits.incrementAndGet();
+                if (each > SIZE - 100)
+                {
+                    Thread.yield();
+                }
+                return each % 3 == 0;
+            }
+        }, this.forkJoinPool);
+        Assert.assertEquals(SIZE / 3, count);
+        Assert.assertEquals(SIZE, visits.get());
+    }
+
+    @Test
+    public void exceptionIsPropagated()
+    {
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                FJParallelIterate.forEach(Interval.oneTo(SIZE).toList().asParallel(FJParallelIterateTest.this.executorService, BATCH_SIZE), new Procedure<Integer>()
+                {
+                    @Override
+                    public void value(Integer each)
+                    {
+                        if (each == SIZE / 2)
+                        {
+                            throw new IllegalStateException();
+                        }
+                    }
+                }, FJParallelIterateTest.this.forkJoinPool);
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import com.gs.collections.api.block.procedure.primitive.DoubleProcedure;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.parallel.DoubleBatchIterable;
+
+/**
+ * The Spliterator.OfDouble counterpart of {@link BatchIterableSpliterator}, over the hash table behind a
+ * DoubleBatchIterable such as DoubleHashSet or the key set and values of a primitive hash map. Only the unsplit
+ * Spliterator reports {@link Spliterator#SIZED}.
+ */
+final class DoubleBatchIterableSpliterator implements Spliterator.OfDouble
+{
+    private static final int SLOTS_PER_SECTION = 64;
+
+    private final DoubleBatchIterable batchIterable;
+    private final int characteristics;
+    private int sectionIndex;
+    private int sectionFence;
+    private int sectionCount;
+    private long estimate;
+    private boolean split;
+    private DoubleArrayList buffer;
+    private int bufferIndex;
+
+    DoubleBatchIterableSpliterator(DoubleBatchIterable batchIterable, int characteristics)
+    {
+        this(batchIterable, characteristics, 0, -1, -1, 0L);
+    }
+
+    private DoubleBatchIterableSpliterator(
+            DoubleBatchIterable batchIterable,
+            int characteristics,
+            int sectionIndex,
+            int sectionFence,
+            int sectionCount,
+            long estimate)
+    {
+        this.batchIterable = batchIterable;
+        this.characteristics = characteristics;
+        this.sectionIndex = sectionIndex;
+        this.sectionFence = sectionFence;
+        this.sectionCount = sectionCount;
+        this.estimate = estimate;
+    }
+
+    private int getSectionFence()
+    {
+        if (this.sectionFence < 0)
+        {
+            this.sectionCount = this.batchIterable.getBatchCount(SLOTS_PER_SECTION);
+            this.sectionFence = this.sectionCount;
+            this.estimate = (long) this.batchIterable.size();
+        }
+        return this.sectionFence;
+    }
+
+    public boolean tryAdvance(DoubleConsumer action)
+    {
+        int sectionFence = this.getSectionFence();
+        if (this.buffer == null)
+        {
+            this.buffer = new DoubleArrayList();
+        }
+        while (this.bufferIndex == this.buffer.size())
+        {
+            if (this.sectionIndex >= sectionFence)
+            {
+                return false;
+            }
+            this.buffer.clear();
+            this.bufferIndex = 0;
+            this.batchIterable.batchForEach(this.buffer::add, this.sectionIndex++, this.sectionCount);
+        }
+        double each = this.buffer.get(this.bufferIndex++);
+        if (this.estimate > 0L)
+        {
+            this.estimate--;
+        }
+        action.accept(each);
+        return true;
+    }
+
+    public void forEachRemaining(DoubleConsumer action)
+    {
+        int sectionFence = this.getSectionFence();
+        if (this.buffer != null)
+        {
+            int bufferSize = this.buffer.size();
+            while (this.bufferIndex < bufferSize)
+            {
+                action.accept(this.buffer.get(this.bufferIndex++));
+            }
+        }
+        DoubleProcedure procedure = action::accept;
+        if (this.sectionIndex == 0 && sectionFence == this.sectionCount)
+        {
+            this.batchIterable.forEach(procedure);
+        }
+        else
+        {
+            for (int i = this.sectionIndex; i < sectionFence; i++)
+            {
+                this.batchIterable.batchForEach(procedure, i, this.sectionCount);
+            }
+        }
+        this.sectionIndex = sectionFence;
+        this.estimate = 0L;
+    }
+
+    public Spliterator.OfDouble trySplit()
+    {
+        int sectionFence = this.getSectionFence();
+        int middle = this.sectionIndex + sectionFence >>> 1;
+        if (this.sectionIndex >= middle)
+        {
+            return null;
+        }
+        this.estimate >>>= 1;
+        this.split = true;
+        DoubleBatchIterableSpliterator prefix = new DoubleBatchIterableSpliterator(
+                this.batchIterable,
+                this.characteristics,
+                this.sectionIndex,
+                middle,
+                this.sectionCount,
+                this.estimate);
+        prefix.split = true;
+        this.sectionIndex = middle;
+        return prefix;
+    }
+
+    public long estimateSize()
+    {
+        this.getSectionFence();
+        return this.estimate;
+    }
+
+    public int characteristics()
+    {
+        return this.split ? this.characteristics : this.characteristics | Spliterator.SIZED;
+    }
+}
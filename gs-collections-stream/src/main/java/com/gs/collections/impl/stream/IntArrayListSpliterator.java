@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+
+/**
+ * A Spliterator.OfInt over a range of an IntArrayList that splits the range in half. It binds to the size of the list
+ * on first use.
+ */
+final class IntArrayListSpliterator implements Spliterator.OfInt
+{
+    private final IntArrayList list;
+    private int index;
+    private int fence;
+
+    IntArrayListSpliterator(IntArrayList list)
+    {
+        this(list, 0, -1);
+    }
+
+    private IntArrayListSpliterator(IntArrayList list, int index, int fence)
+    {
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    private int getFence()
+    {
+        if (this.fence < 0)
+        {
+            this.fence = this.list.size();
+        }
+        return this.fence;
+    }
+
+    public boolean tryAdvance(IntConsumer action)
+    {
+        if (this.index < this.getFence())
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(IntConsumer action)
+    {
+        int fence = this.getFence();
+        for (int i = this.index; i < fence; i++)
+        {
+            action.accept(this.list.get(i));
+        }
+        this.index = fence;
+    }
+
+    public Spliterator.OfInt trySplit()
+    {
+        int fence = this.getFence();
+        int middle = this.index + fence >>> 1;
+        if (this.index >= middle)
+        {
+            return null;
+        }
+        Spliterator.OfInt prefix = new IntArrayListSpliterator(this.list, this.index, middle);
+        this.index = middle;
+        return prefix;
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.getFence() - this.index);
+    }
+
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
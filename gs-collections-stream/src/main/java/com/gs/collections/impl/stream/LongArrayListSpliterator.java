@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+
+/**
+ * A Spliterator.OfLong over a range of a LongArrayList that splits the range in half. It binds to the size of the list
+ * on first use.
+ */
+final class LongArrayListSpliterator implements Spliterator.OfLong
+{
+    private final LongArrayList list;
+    private int index;
+    private int fence;
+
+    LongArrayListSpliterator(LongArrayList list)
+    {
+        this(list, 0, -1);
+    }
+
+    private LongArrayListSpliterator(LongArrayList list, int index, int fence)
+    {
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    private int getFence()
+    {
+        if (this.fence < 0)
+        {
+            this.fence = this.list.size();
+        }
+        return this.fence;
+    }
+
+    public boolean tryAdvance(LongConsumer action)
+    {
+        if (this.index < this.getFence())
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(LongConsumer action)
+    {
+        int fence = this.getFence();
+        for (int i = this.index; i < fence; i++)
+        {
+            action.accept(this.list.get(i));
+        }
+        this.index = fence;
+    }
+
+    public Spliterator.OfLong trySplit()
+    {
+        int fence = this.getFence();
+        int middle = this.index + fence >>> 1;
+        if (this.index >= middle)
+        {
+            return null;
+        }
+        Spliterator.OfLong prefix = new LongArrayListSpliterator(this.list, this.index, middle);
+        this.index = middle;
+        return prefix;
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.getFence() - this.index);
+    }
+
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
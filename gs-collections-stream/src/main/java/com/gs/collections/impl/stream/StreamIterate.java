@@ -0,0 +1,253 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.iterator.DoubleIterator;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.set.primitive.DoubleSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.LongSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.parallel.DoubleBatchIterable;
+import com.gs.collections.impl.parallel.IntBatchIterable;
+import com.gs.collections.impl.parallel.LongBatchIterable;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * The StreamIterate class creates Spliterators and Streams that split the backing arrays of GS Collections containers
+ * instead of buffering batches out of an Iterator, so parallel Streams over them divide the work evenly. The
+ * Spliterators over lists report {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}. The Spliterators over
+ * UnifiedSet, UnifiedMap and HashBag split the hash table by bucket, including chained buckets, and report their exact
+ * size until they are split. The same holds for the int, long and double Spliterators over the primitive hash sets and
+ * over the key sets and values of the primitive hash maps; any other primitive iterable falls back to a Spliterator
+ * over its iterator.
+ * <p>
+ * The Spliterators bind to the container on first use, and the container must not be structurally modified while
+ * they are in use.
+ *
+ * @since 6.2
+ */
+public final class StreamIterate
+{
+    private StreamIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> Spliterator<T> spliterator(FastList<T> list)
+    {
+        return new FastListSpliterator<>(list);
+    }
+
+    public static <T> Spliterator<T> spliterator(UnifiedSet<T> set)
+    {
+        return new BatchIterableSpliterator<>(set, Spliterator.DISTINCT);
+    }
+
+    public static <K> Spliterator<K> keySpliterator(UnifiedMap<K, ?> map)
+    {
+        return new BatchIterableSpliterator<>((BatchIterable<K>) map.keySet(), Spliterator.DISTINCT);
+    }
+
+    public static <V> Spliterator<V> valueSpliterator(UnifiedMap<?, V> map)
+    {
+        return new BatchIterableSpliterator<>(map, 0);
+    }
+
+    public static <K, V> Spliterator<Map.Entry<K, V>> entrySpliterator(UnifiedMap<K, V> map)
+    {
+        return new BatchIterableSpliterator<>((BatchIterable<Map.Entry<K, V>>) map.entrySet(), Spliterator.DISTINCT);
+    }
+
+    public static <T> Spliterator<T> spliterator(HashBag<T> bag)
+    {
+        return new BatchIterableSpliterator<>(bag, 0);
+    }
+
+    public static Spliterator.OfInt spliterator(IntArrayList list)
+    {
+        return new IntArrayListSpliterator(list);
+    }
+
+    public static Spliterator.OfLong spliterator(LongArrayList list)
+    {
+        return new LongArrayListSpliterator(list);
+    }
+
+    public static Spliterator.OfDouble spliterator(DoubleArrayList list)
+    {
+        return new DoubleArrayListSpliterator(list);
+    }
+
+    public static Spliterator.OfInt spliterator(IntIterable iterable)
+    {
+        if (iterable instanceof IntArrayList)
+        {
+            return StreamIterate.spliterator((IntArrayList) iterable);
+        }
+        int characteristics = iterable instanceof IntSet ? Spliterator.DISTINCT : 0;
+        if (iterable instanceof IntBatchIterable)
+        {
+            return new IntBatchIterableSpliterator((IntBatchIterable) iterable, characteristics);
+        }
+        IntIterator iterator = iterable.intIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfInt()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public int nextInt()
+            {
+                return iterator.next();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+
+    public static Spliterator.OfLong spliterator(LongIterable iterable)
+    {
+        if (iterable instanceof LongArrayList)
+        {
+            return StreamIterate.spliterator((LongArrayList) iterable);
+        }
+        int characteristics = iterable instanceof LongSet ? Spliterator.DISTINCT : 0;
+        if (iterable instanceof LongBatchIterable)
+        {
+            return new LongBatchIterableSpliterator((LongBatchIterable) iterable, characteristics);
+        }
+        LongIterator iterator = iterable.longIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfLong()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public long nextLong()
+            {
+                return iterator.next();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+
+    public static Spliterator.OfDouble spliterator(DoubleIterable iterable)
+    {
+        if (iterable instanceof DoubleArrayList)
+        {
+            return StreamIterate.spliterator((DoubleArrayList) iterable);
+        }
+        int characteristics = iterable instanceof DoubleSet ? Spliterator.DISTINCT : 0;
+        if (iterable instanceof DoubleBatchIterable)
+        {
+            return new DoubleBatchIterableSpliterator((DoubleBatchIterable) iterable, characteristics);
+        }
+        DoubleIterator iterator = iterable.doubleIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfDouble()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public double nextDouble()
+            {
+                return iterator.next();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+
+    public static <T> Stream<T> stream(FastList<T> list, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.spliterator(list), parallel);
+    }
+
+    public static <T> Stream<T> stream(UnifiedSet<T> set, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.spliterator(set), parallel);
+    }
+
+    public static <K> Stream<K> keyStream(UnifiedMap<K, ?> map, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.keySpliterator(map), parallel);
+    }
+
+    public static <V> Stream<V> valueStream(UnifiedMap<?, V> map, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.valueSpliterator(map), parallel);
+    }
+
+    public static <K, V> Stream<Map.Entry<K, V>> entryStream(UnifiedMap<K, V> map, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.entrySpliterator(map), parallel);
+    }
+
+    public static <T> Stream<T> stream(HashBag<T> bag, boolean parallel)
+    {
+        return StreamSupport.stream(StreamIterate.spliterator(bag), parallel);
+    }
+
+    public static IntStream stream(IntArrayList list, boolean parallel)
+    {
+        return StreamSupport.intStream(StreamIterate.spliterator(list), parallel);
+    }
+
+    public static LongStream stream(LongArrayList list, boolean parallel)
+    {
+        return StreamSupport.longStream(StreamIterate.spliterator(list), parallel);
+    }
+
+    public static DoubleStream stream(DoubleArrayList list, boolean parallel)
+    {
+        return StreamSupport.doubleStream(StreamIterate.spliterator(list), parallel);
+    }
+
+    public static IntStream stream(IntIterable iterable, boolean parallel)
+    {
+        return StreamSupport.intStream(StreamIterate.spliterator(iterable), parallel);
+    }
+
+    public static LongStream stream(LongIterable iterable, boolean parallel)
+    {
+        return StreamSupport.longStream(StreamIterate.spliterator(iterable), parallel);
+    }
+
+    public static DoubleStream stream(DoubleIterable iterable, boolean parallel)
+    {
+        return StreamSupport.doubleStream(StreamIterate.spliterator(iterable), parallel);
+    }
+}
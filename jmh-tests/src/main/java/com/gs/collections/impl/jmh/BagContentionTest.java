@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.impl.bag.mutable.ConcurrentHashBag;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.MultiReaderHashBag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares counting into a shared bag that is guarded by a lock against ConcurrentHashBag. All threads share one bag.
+ * {@link com.gs.collections.impl.jmh.runner.ContentionRunner} runs it with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BagContentionTest
+{
+    private static final int KEYS = 1024;
+
+    @Param({"SYNCHRONIZED", "MULTI_READER", "CONCURRENT"})
+    public String type;
+    private MutableBag<Integer> bag;
+
+    @Setup
+    public void setUp()
+    {
+        if ("SYNCHRONIZED".equals(this.type))
+        {
+            this.bag = HashBag.<Integer>newBag().asSynchronized();
+        }
+        else if ("MULTI_READER".equals(this.type))
+        {
+            this.bag = MultiReaderHashBag.newBag();
+        }
+        else
+        {
+            this.bag = ConcurrentHashBag.newBag();
+        }
+        for (int i = 0; i < KEYS; i++)
+        {
+            this.bag.addOccurrences(i, 8);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+
+        private int next()
+        {
+            return this.next++;
+        }
+    }
+
+    @Benchmark
+    public void addOccurrences(Cursor cursor)
+    {
+        this.bag.addOccurrences(cursor.next() & (KEYS - 1), 1);
+    }
+
+    @Benchmark
+    public boolean addAndRemoveOccurrences(Cursor cursor)
+    {
+        Integer key = cursor.next() & (KEYS - 1);
+        this.bag.addOccurrences(key, 2);
+        return this.bag.removeOccurrences(key, 2);
+    }
+
+    @Benchmark
+    public int occurrencesOf(Cursor cursor)
+    {
+        return this.bag.occurrencesOf(cursor.next() & (KEYS - 1));
+    }
+}
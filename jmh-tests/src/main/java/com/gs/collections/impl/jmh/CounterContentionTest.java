@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.impl.ConcurrentCounter;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.map.mutable.ConcurrentCounterMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares adding to a single shared AtomicLong against ConcurrentCounter, and summing into a few hot keys of a
+ * ConcurrentHashMap of AtomicLongs against ConcurrentCounterMap. All threads share the same counters.
+ * {@link com.gs.collections.impl.jmh.runner.ContentionRunner} runs it with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CounterContentionTest
+{
+    private static final int HOT_KEYS = 4;
+
+    private final AtomicLong atomicLong = new AtomicLong();
+    private final ConcurrentCounter concurrentCounter = new ConcurrentCounter();
+    private final ConcurrentHashMap<Integer, AtomicLong> atomicLongMap = ConcurrentHashMap.newMap();
+    private final ConcurrentCounterMap<Integer> concurrentCounterMap = ConcurrentCounterMap.newMap();
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+
+        private int next()
+        {
+            return this.next++;
+        }
+    }
+
+    @Benchmark
+    public void increment_atomicLong()
+    {
+        this.atomicLong.incrementAndGet();
+    }
+
+    @Benchmark
+    public void increment_concurrentCounter()
+    {
+        this.concurrentCounter.increment();
+    }
+
+    @Benchmark
+    public void sumBy_atomicLongMap(Cursor cursor)
+    {
+        int value = cursor.next();
+        this.atomicLongMap.getIfAbsentPut(value & (HOT_KEYS - 1), Functions0.zeroAtomicLong()).addAndGet(value);
+    }
+
+    @Benchmark
+    public void sumBy_concurrentCounterMap(Cursor cursor)
+    {
+        int value = cursor.next();
+        this.concurrentCounterMap.addToValue(value & (HOT_KEYS - 1), value);
+    }
+}
@@ -18,6 +18,8 @@ package com.gs.collections.impl.jmh;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -32,7 +34,9 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Thread)
@@ -41,9 +45,25 @@ import org.openjdk.jmh.annotations.Warmup;
 public class GroupByListTest
 {
     private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
     private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
     private final MutableList<Integer> integersGSC = Interval.oneTo(SIZE).toList();
 
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
     @Warmup(iterations = 20)
     @Measurement(iterations = 10)
     @Benchmark
@@ -140,6 +160,38 @@ public class GroupByListTest
         Assert.assertEquals(10_000, this.integersGSC.asLazy().groupBy(each -> each % 10_000).sizeDistinct());
     }
 
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_2_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(2, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each % 2 == 0).sizeDistinct());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_100_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(100, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each % 100).sizeDistinct());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_10000_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(10_000, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each % 10_000).sizeDistinct());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_1000000_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(1_000_000, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each).sizeDistinct());
+    }
+
     @Warmup(iterations = 20)
     @Measurement(iterations = 10)
     @Benchmark
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.carrotsearch.hppc.IntIntOpenHashMap;
+import com.gs.collections.api.map.primitive.MutableIntIntMap;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.SwissIntIntHashMap;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import net.openhft.koloboke.collect.map.IntIntMap;
+import net.openhft.koloboke.collect.map.hash.HashIntIntMaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Looks up a mix of present and absent keys, the access pattern of the build side of a hash join where most probes
+ * miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntIntMapLookupTest
+{
+    private static final int LOOKUP_COUNT = 1_000_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"0", "10", "50", "100"})
+    public int hitPercentage;
+
+    private int[] lookups;
+    private MutableIntIntMap gscMap;
+    private SwissIntIntHashMap swissMap;
+    private IntIntMap kolobokeMap;
+    private IntIntOpenHashMap hppcMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        MutableIntSet keys = new IntHashSet(this.size * 2);
+        while (keys.size() < this.size * 2)
+        {
+            int key = random.nextInt();
+            if (key != 0)
+            {
+                keys.add(key);
+            }
+        }
+        int[] allKeys = keys.toArray();
+        int[] presentKeys = new int[this.size];
+        int[] absentKeys = new int[this.size];
+        System.arraycopy(allKeys, 0, presentKeys, 0, this.size);
+        System.arraycopy(allKeys, this.size, absentKeys, 0, this.size);
+
+        this.gscMap = new IntIntHashMap();
+        this.swissMap = new SwissIntIntHashMap();
+        this.kolobokeMap = HashIntIntMaps.newMutableMap();
+        this.hppcMap = new IntIntOpenHashMap();
+        for (int key : presentKeys)
+        {
+            this.gscMap.put(key, 1);
+            this.swissMap.put(key, 1);
+            this.kolobokeMap.put(key, 1);
+            this.hppcMap.put(key, 1);
+        }
+
+        this.lookups = new int[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            boolean hit = random.nextInt(100) < this.hitPercentage;
+            this.lookups[i] = hit ? presentKeys[random.nextInt(this.size)] : absentKeys[random.nextInt(this.size)];
+        }
+    }
+
+    @Benchmark
+    public int gscGet()
+    {
+        int[] localLookups = this.lookups;
+        MutableIntIntMap localMap = this.gscMap;
+        int hits = 0;
+        for (int key : localLookups)
+        {
+            hits += localMap.get(key);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int swissGet()
+    {
+        int[] localLookups = this.lookups;
+        SwissIntIntHashMap localMap = this.swissMap;
+        int hits = 0;
+        for (int key : localLookups)
+        {
+            hits += localMap.get(key);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int kolobokeGet()
+    {
+        int[] localLookups = this.lookups;
+        IntIntMap localMap = this.kolobokeMap;
+        int hits = 0;
+        for (int key : localLookups)
+        {
+            hits += localMap.get(key);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int hppcGet()
+    {
+        int[] localLookups = this.lookups;
+        IntIntOpenHashMap localMap = this.hppcMap;
+        int hits = 0;
+        for (int key : localLookups)
+        {
+            hits += localMap.get(key);
+        }
+        return hits;
+    }
+}
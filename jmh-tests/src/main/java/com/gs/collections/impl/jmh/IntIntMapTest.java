@@ -19,8 +19,10 @@ package com.gs.collections.impl.jmh;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import com.gs.collections.api.map.primitive.IntIntMap;
 import com.gs.collections.api.map.primitive.MutableIntIntMap;
 import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.SwissIntIntHashMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
@@ -44,6 +46,9 @@ public class IntIntMapTest
     @Param({"true", "false"})
     public boolean fullyRandom;
 
+    @Param({"IntIntHashMap", "SwissIntIntHashMap"})
+    public String mapType;
+
     private MutableIntIntMap intIntMap;
     private int[] randomIntsForKeys;
     private int[] randomIntsForValues;
@@ -55,6 +60,21 @@ public class IntIntMapTest
         arr[j] = tmp;
     }
 
+    private MutableIntIntMap newMap()
+    {
+        return "SwissIntIntHashMap".equals(this.mapType) ? new SwissIntIntHashMap() : new IntIntHashMap();
+    }
+
+    private MutableIntIntMap newMap(int initialCapacity)
+    {
+        return "SwissIntIntHashMap".equals(this.mapType) ? new SwissIntIntHashMap(initialCapacity) : new IntIntHashMap(initialCapacity);
+    }
+
+    private MutableIntIntMap newMap(IntIntMap map)
+    {
+        return "SwissIntIntHashMap".equals(this.mapType) ? new SwissIntIntHashMap(map) : new IntIntHashMap(map);
+    }
+
     @Setup
     public void setUp()
     {
@@ -84,7 +104,7 @@ public class IntIntMapTest
         }
         this.randomIntsForValues = new Random(0x123456789ABCDL).ints().limit((long) (this.mapSizeDividedBy64 * 64)).toArray();
 
-        this.intIntMap = new IntIntHashMap();
+        this.intIntMap = this.newMap();
         for (int i = 0; i < this.mapSizeDividedBy64 * 64; i++)
         {
             this.intIntMap.put(this.randomIntsForKeys[i], this.randomIntsForValues[i]);
@@ -113,7 +133,7 @@ public class IntIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy64 / 64; j++)
         {
-            MutableIntIntMap newMap = new IntIntHashMap();
+            MutableIntIntMap newMap = this.newMap();
             for (int i = 0; i < this.mapSizeDividedBy64 * 64; i++)
             {
                 newMap.put(this.randomIntsForKeys[i], this.randomIntsForValues[i]);
@@ -128,7 +148,7 @@ public class IntIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy64 / 64; j++)
         {
-            MutableIntIntMap newMap = new IntIntHashMap(this.mapSizeDividedBy64);
+            MutableIntIntMap newMap = this.newMap(this.mapSizeDividedBy64);
             for (int i = 0; i < this.mapSizeDividedBy64 * 64; i++)
             {
                 newMap.put(this.randomIntsForKeys[i], this.randomIntsForValues[i]);
@@ -143,7 +163,7 @@ public class IntIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy64 / 64; j++)
         {
-            MutableIntIntMap newMap = new IntIntHashMap(this.intIntMap);
+            MutableIntIntMap newMap = this.newMap(this.intIntMap);
             for (int i = 0; i < this.mapSizeDividedBy64 * 64; i++)
             {
                 newMap.remove(this.randomIntsForKeys[i]);
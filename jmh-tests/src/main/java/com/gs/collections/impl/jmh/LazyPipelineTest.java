@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.lazy.CollectIterable;
+import com.gs.collections.impl.lazy.SelectIterable;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares a fused select.collect.select.sumOfDouble chain with the same chain built from nested lazy iterables and
+ * with a hand-written loop. The fused chain should stay within 20% of the loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyPipelineTest
+{
+    private static final int SIZE = 1_000_000;
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
+
+    @Benchmark
+    public double manual_loop()
+    {
+        double sum = 0.0;
+        FastList<Integer> integers = this.integersGSC;
+        for (int i = 0; i < integers.size(); i++)
+        {
+            Integer each = integers.get(i);
+            if (each % 3 == 0)
+            {
+                double value = each * 1.5;
+                if (value > 100.0)
+                {
+                    sum += value;
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double serial_lazy_jdk()
+    {
+        return this.integersJDK.stream()
+                .filter(each -> each % 3 == 0)
+                .map(each -> each * 1.5)
+                .filter(each -> each > 100.0)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+
+    @Benchmark
+    public double serial_lazy_gsc_fused()
+    {
+        return this.integersGSC.asLazy()
+                .select(each -> each % 3 == 0)
+                .collect(each -> each * 1.5)
+                .select(each -> each > 100.0)
+                .sumOfDouble(Double::doubleValue);
+    }
+
+    @Benchmark
+    public double serial_lazy_gsc_nested()
+    {
+        SelectIterable<Integer> multiplesOfThree = new SelectIterable<>(this.integersGSC, each -> each % 3 == 0);
+        CollectIterable<Integer, Double> scaled = new CollectIterable<>(multiplesOfThree, each -> each * 1.5);
+        return new SelectIterable<>(scaled, each -> each > 100.0).sumOfDouble(Double::doubleValue);
+    }
+}
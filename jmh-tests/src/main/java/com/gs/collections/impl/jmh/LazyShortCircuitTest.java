@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Short-circuiting operations at the end of lazy select, collect and flatCollect chains, which stop the source's
+ * internal iteration rather than pulling through iterators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyShortCircuitTest
+{
+    private static final int SIZE = 1_000_000;
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersGSC = new FastList<>(Interval.oneTo(SIZE));
+
+    @Benchmark
+    public void any_satisfy_middle_serial_lazy_jdk()
+    {
+        Assert.assertTrue(this.integersJDK.stream().filter(each -> each % 2 == 0).map(each -> each * 3).anyMatch(each -> each > SIZE * 3 / 2));
+    }
+
+    @Benchmark
+    public void any_satisfy_middle_serial_lazy_gsc()
+    {
+        Assert.assertTrue(this.integersGSC.asLazy().select(each -> each % 2 == 0).collect(each -> each * 3).anySatisfy(each -> each > SIZE * 3 / 2));
+    }
+
+    @Benchmark
+    public void detect_middle_serial_lazy_jdk()
+    {
+        Assert.assertNotNull(this.integersJDK.stream().filter(each -> each % 2 == 0).map(each -> each * 3).filter(each -> each > SIZE * 3 / 2).findFirst().orElse(null));
+    }
+
+    @Benchmark
+    public void detect_middle_serial_lazy_gsc()
+    {
+        Assert.assertNotNull(this.integersGSC.asLazy().select(each -> each % 2 == 0).collect(each -> each * 3).detect(each -> each > SIZE * 3 / 2));
+    }
+
+    @Benchmark
+    public void all_satisfy_middle_serial_lazy_jdk()
+    {
+        Assert.assertFalse(this.integersJDK.stream().filter(each -> each % 2 == 0).map(each -> each * 3).allMatch(each -> each < SIZE * 3 / 2));
+    }
+
+    @Benchmark
+    public void all_satisfy_middle_serial_lazy_gsc()
+    {
+        Assert.assertFalse(this.integersGSC.asLazy().select(each -> each % 2 == 0).collect(each -> each * 3).allSatisfy(each -> each < SIZE * 3 / 2));
+    }
+
+    @Benchmark
+    public void take_serial_lazy_jdk()
+    {
+        List<Integer> result = this.integersJDK.stream().filter(each -> each % 2 == 0).map(each -> each * 3).limit(SIZE / 4).collect(Collectors.toList());
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_serial_lazy_gsc()
+    {
+        MutableList<Integer> result = this.integersGSC.asLazy().select(each -> each % 2 == 0).collect(each -> each * 3).take(SIZE / 4).toList();
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_select_serial_lazy_jdk()
+    {
+        List<Integer> result = this.integersJDK.stream().filter(each -> each % 2 == 0).limit(SIZE / 4).collect(Collectors.toList());
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_select_serial_lazy_gsc()
+    {
+        MutableList<Integer> result = this.integersGSC.asLazy().select(each -> each % 2 == 0).take(SIZE / 4).toList();
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_collect_serial_lazy_jdk()
+    {
+        List<Integer> result = this.integersJDK.stream().map(each -> each * 3).limit(SIZE / 4).collect(Collectors.toList());
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_collect_serial_lazy_gsc()
+    {
+        MutableList<Integer> result = this.integersGSC.asLazy().collect(each -> each * 3).take(SIZE / 4).toList();
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_flat_collect_serial_lazy_jdk()
+    {
+        List<Integer> result = this.integersJDK.stream().flatMap(each -> Stream.of(each, -each)).limit(SIZE / 4).collect(Collectors.toList());
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_flat_collect_serial_lazy_gsc()
+    {
+        MutableList<Integer> result = this.integersGSC.asLazy().flatCollect(each -> FastList.newListWith(each, -each)).take(SIZE / 4).toList();
+        Assert.assertEquals(SIZE / 4, result.size());
+    }
+
+    @Benchmark
+    public void take_any_satisfy_select_collect_flat_collect_serial_lazy_jdk()
+    {
+        Assert.assertFalse(this.integersJDK.stream()
+                .filter(each -> each % 2 == 0)
+                .map(each -> each * 3)
+                .flatMap(each -> Stream.of(each, -each))
+                .limit(SIZE / 4)
+                .anyMatch(each -> each == 0));
+    }
+
+    @Benchmark
+    public void take_any_satisfy_select_collect_flat_collect_serial_lazy_gsc()
+    {
+        Assert.assertFalse(this.integersGSC.asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .flatCollect(each -> FastList.newListWith(each, -each))
+                .take(SIZE / 4)
+                .anySatisfy(each -> each == 0));
+    }
+}
@@ -19,8 +19,10 @@ package com.gs.collections.impl.jmh;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import com.gs.collections.api.map.primitive.LongIntMap;
 import com.gs.collections.api.map.primitive.MutableLongIntMap;
 import com.gs.collections.impl.map.mutable.primitive.LongIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.SwissLongIntHashMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
@@ -42,10 +44,28 @@ public class LongIntMapTest
     public int mapSizeDividedBy16000;
     @Param({"true", "false"})
     public boolean fullyRandom;
+
+    @Param({"LongIntHashMap", "SwissLongIntHashMap"})
+    public String mapType;
     private MutableLongIntMap longIntMap;
     private int[] randomIntegersForMap;
     private long[] randomLongsForMap;
 
+    private MutableLongIntMap newMap()
+    {
+        return "SwissLongIntHashMap".equals(this.mapType) ? new SwissLongIntHashMap() : new LongIntHashMap();
+    }
+
+    private MutableLongIntMap newMap(int initialCapacity)
+    {
+        return "SwissLongIntHashMap".equals(this.mapType) ? new SwissLongIntHashMap(initialCapacity) : new LongIntHashMap(initialCapacity);
+    }
+
+    private MutableLongIntMap newMap(LongIntMap map)
+    {
+        return "SwissLongIntHashMap".equals(this.mapType) ? new SwissLongIntHashMap(map) : new LongIntHashMap(map);
+    }
+
     @Setup
     public void setUp()
     {
@@ -75,7 +95,7 @@ public class LongIntMapTest
         }
         this.randomIntegersForMap = new Random(0x123456789ABCDL).ints().limit((long) (this.mapSizeDividedBy16000 * 64)).toArray();
 
-        this.longIntMap = new LongIntHashMap();
+        this.longIntMap = this.newMap();
         for (int i = 0; i < this.mapSizeDividedBy16000 * 64; i++)
         {
             this.longIntMap.put(this.randomLongsForMap[i], this.randomIntegersForMap[i]);
@@ -112,7 +132,7 @@ public class LongIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy16000 / 64; j++)
         {
-            MutableLongIntMap newMap = new LongIntHashMap();
+            MutableLongIntMap newMap = this.newMap();
             for (int i = 0; i < this.mapSizeDividedBy16000 * 64; i++)
             {
                 newMap.put(this.randomLongsForMap[i], this.randomIntegersForMap[i]);
@@ -127,7 +147,7 @@ public class LongIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy16000 / 64; j++)
         {
-            MutableLongIntMap newMap = new LongIntHashMap(this.mapSizeDividedBy16000);
+            MutableLongIntMap newMap = this.newMap(this.mapSizeDividedBy16000);
             for (int i = 0; i < this.mapSizeDividedBy16000 * 64; i++)
             {
                 newMap.put(this.randomLongsForMap[i], this.randomIntegersForMap[i]);
@@ -142,7 +162,7 @@ public class LongIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy16000 / 64; j++)
         {
-            MutableLongIntMap newMap = new LongIntHashMap(this.longIntMap);
+            MutableLongIntMap newMap = this.newMap(this.longIntMap);
             for (int i = 0; i < this.mapSizeDividedBy16000 * 64; i++)
             {
                 newMap.remove(this.randomLongsForMap[i]);
@@ -157,7 +177,7 @@ public class LongIntMapTest
     {
         for (int j = 0; j < 10_000_000 / this.mapSizeDividedBy16000 / 64; j++)
         {
-            MutableLongIntMap newMap = new LongIntHashMap(this.longIntMap);
+            MutableLongIntMap newMap = this.newMap(this.longIntMap);
             blackHole.consume(newMap.get(0));
         }
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.impl.bag.mutable.MultiReaderHashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import com.gs.collections.impl.set.mutable.MultiReaderUnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares simple reads on MultiReader collections guarded by a ReentrantReadWriteLock and by a StripedReadWriteLock.
+ * All threads share one collection. {@link com.gs.collections.impl.jmh.runner.ContentionRunner} runs it with 1 to
+ * 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiReaderContentionTest
+{
+    private static final int SIZE = 64;
+    private static final int WRITE_INTERVAL = 1024;
+
+    @Param({"FAST_LIST", "UNIFIED_SET", "HASH_BAG"})
+    public String collection;
+    @Param({"REENTRANT", "STRIPED"})
+    public String lock;
+    private MutableCollection<Integer> multiReader;
+
+    @Setup
+    public void setUp()
+    {
+        boolean striped = "STRIPED".equals(this.lock);
+        Interval elements = Interval.zeroTo(SIZE - 1);
+        if ("FAST_LIST".equals(this.collection))
+        {
+            this.multiReader = striped ? MultiReaderFastList.newReadMostlyList(elements) : MultiReaderFastList.newList(elements);
+        }
+        else if ("UNIFIED_SET".equals(this.collection))
+        {
+            this.multiReader = striped ? MultiReaderUnifiedSet.newReadMostlySet(elements) : MultiReaderUnifiedSet.newSet(elements);
+        }
+        else
+        {
+            this.multiReader = striped ? MultiReaderHashBag.newReadMostlyBag(elements) : MultiReaderHashBag.newBag(elements);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+
+        private int next()
+        {
+            return this.next++;
+        }
+    }
+
+    @Benchmark
+    public boolean contains(Cursor cursor)
+    {
+        return this.multiReader.contains(cursor.next() & (SIZE - 1));
+    }
+
+    @Benchmark
+    public int size()
+    {
+        return this.multiReader.size();
+    }
+
+    @Benchmark
+    public boolean containsWithOccasionalWrite(Cursor cursor)
+    {
+        int next = cursor.next();
+        if (next % WRITE_INTERVAL == 0)
+        {
+            this.multiReader.remove(SIZE);
+            this.multiReader.add(SIZE);
+        }
+        return this.multiReader.contains(next & (SIZE - 1));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.impl.multimap.list.ConcurrentFastListMultimap;
+import com.gs.collections.impl.multimap.list.MultiReaderFastListMultimap;
+import com.gs.collections.impl.multimap.set.ConcurrentUnifiedSetMultimap;
+import com.gs.collections.impl.multimap.set.MultiReaderUnifiedSetMultimap;
+import com.gs.collections.impl.utility.Iterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the thread-safe multimaps when all threads share one multimap. SynchronizedPut multimaps are left out
+ * because they do not guard remove or reads. {@link com.gs.collections.impl.jmh.runner.ContentionRunner} runs it
+ * with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultimapContentionTest
+{
+    private static final int KEYS = 1024;
+    private static final int VALUES_PER_KEY = 8;
+
+    @Param({"MULTI_READER_LIST", "CONCURRENT_LIST", "MULTI_READER_SET", "CONCURRENT_SET"})
+    public String type;
+    private MutableMultimap<Integer, Integer> multimap;
+
+    @Setup
+    public void setUp()
+    {
+        if ("MULTI_READER_LIST".equals(this.type))
+        {
+            this.multimap = MultiReaderFastListMultimap.newMultimap();
+        }
+        else if ("CONCURRENT_LIST".equals(this.type))
+        {
+            this.multimap = ConcurrentFastListMultimap.newMultimap();
+        }
+        else if ("MULTI_READER_SET".equals(this.type))
+        {
+            this.multimap = MultiReaderUnifiedSetMultimap.newMultimap();
+        }
+        else
+        {
+            this.multimap = ConcurrentUnifiedSetMultimap.newMultimap();
+        }
+        for (int i = 0; i < KEYS * VALUES_PER_KEY; i++)
+        {
+            this.multimap.put(i % KEYS, i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+
+        private int next()
+        {
+            return this.next++;
+        }
+    }
+
+    @Benchmark
+    public boolean putAndRemove(Cursor cursor)
+    {
+        int next = cursor.next();
+        Integer key = next & (KEYS - 1);
+        Integer value = -1 - next;
+        this.multimap.put(key, value);
+        return this.multimap.remove(key, value);
+    }
+
+    @Benchmark
+    public int get(Cursor cursor)
+    {
+        return this.multimap.get(cursor.next() & (KEYS - 1)).size();
+    }
+
+    @Benchmark
+    public int forEachKeyMultiValues()
+    {
+        int[] count = new int[1];
+        this.multimap.forEachKeyMultiValues((key, values) -> count[0] += Iterate.sizeOf(values));
+        return count[0];
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
+import com.gs.collections.api.multimap.list.ListMultimap;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AggregationStrategy;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares per-batch pre-aggregation with a shared concurrent map across key cardinalities, to check that
+ * {@link AggregationStrategy#ADAPTIVE} tracks whichever of the two is faster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelAggregationStrategyTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"10", "10000", "1000000"})
+    public int keyCount;
+
+    @Param({"PER_BATCH", "SHARED_MAP", "ADAPTIVE"})
+    public AggregationStrategy strategy;
+
+    private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_parallel_lazy_gsc()
+    {
+        int keys = this.keyCount;
+        AbstractParallelIterable<Integer, ?> parallel =
+                (AbstractParallelIterable<Integer, ?>) this.integersGSC.asParallel(this.executorService, BATCH_SIZE);
+        MapIterable<Integer, Long> result = parallel.<Integer, Long>aggregateBy(
+                each -> each % keys,
+                () -> 0L,
+                (sum, each) -> sum + each,
+                (sum1, sum2) -> sum1 + sum2,
+                this.strategy);
+        Assert.assertEquals(keys, result.size());
+        return result;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_sharedMapBaseline_parallel_lazy_gsc()
+    {
+        int keys = this.keyCount;
+        MapIterable<Integer, Long> result = this.integersGSC.asParallel(this.executorService, BATCH_SIZE).<Integer, Long>aggregateBy(
+                each -> each % keys,
+                () -> 0L,
+                (sum, each) -> sum + each);
+        Assert.assertEquals(keys, result.size());
+        return result;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ListMultimap<Integer, Integer> groupBy_parallel_lazy_gsc()
+    {
+        int keys = this.keyCount;
+        ListMultimap<Integer, Integer> result = this.integersGSC.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each % keys);
+        Assert.assertEquals(keys, result.sizeDistinct());
+        return result;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ObjectLongMap<Integer> sumByInt_parallel_lazy_gsc()
+    {
+        int keys = this.keyCount;
+        ObjectLongMap<Integer> result = this.integersGSC.asParallel(this.executorService, BATCH_SIZE).sumByInt(each -> each % keys, Integer::intValue);
+        Assert.assertEquals(keys, result.size());
+        return result;
+    }
+}
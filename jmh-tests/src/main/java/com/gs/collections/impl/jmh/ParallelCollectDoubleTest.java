@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Filters and aggregates doubles in parallel, comparing primitive parallel iterables with the boxed
+ * select/sumOfDouble pipeline and with JDK DoubleStreams.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelCollectDoubleTest
+{
+    private static final int SIZE = 3_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final Stream<Double> DOUBLES = new Random().doubles(1.0d, 100.0d).boxed();
+
+    private final List<Double> doublesJDK = DOUBLES.limit(SIZE).collect(Collectors.toList());
+    private final MutableList<Double> doublesGSC = FastList.newListWith(this.doublesJDK.toArray(new Double[SIZE]));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public double parallel_lazy_selectSum_jdk()
+    {
+        return this.doublesJDK.parallelStream().mapToDouble(Double::doubleValue).filter(each -> each > 50.0d).sum();
+    }
+
+    @Benchmark
+    public double parallel_lazy_selectSumOfDouble_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).select(each -> each > 50.0d).sumOfDouble(Double::doubleValue);
+    }
+
+    @Benchmark
+    public double parallel_lazy_collectDoubleSelectSum_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).collectDouble(Double::doubleValue).select(each -> each > 50.0d).sum();
+    }
+
+    @Benchmark
+    public double parallel_lazy_max_jdk()
+    {
+        return this.doublesJDK.parallelStream().mapToDouble(Double::doubleValue).max().getAsDouble();
+    }
+
+    @Benchmark
+    public double parallel_lazy_collectDoubleMax_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).collectDouble(Double::doubleValue).max();
+    }
+
+    @Benchmark
+    public double parallel_lazy_average_jdk()
+    {
+        return this.doublesJDK.parallelStream().mapToDouble(Double::doubleValue).average().getAsDouble();
+    }
+
+    @Benchmark
+    public double parallel_lazy_collectDoubleAverage_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).collectDouble(Double::doubleValue).average();
+    }
+
+    @Benchmark
+    public double[] parallel_lazy_toArray_jdk()
+    {
+        return this.doublesJDK.parallelStream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Benchmark
+    public double[] parallel_lazy_collectDoubleToArray_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).collectDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how sortThisParallel scales with the number of threads, against the serial sortThis baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelSortTest
+{
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private FastList<Integer> shuffledIntegers;
+    private LongArrayList shuffledLongs;
+
+    private FastList<Integer> integersGSC;
+    private LongArrayList longsGSC;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(this.threads);
+        Random random = new Random(123456789L);
+        this.shuffledIntegers = FastList.newList(Interval.oneTo(this.size));
+        Collections.shuffle(this.shuffledIntegers, random);
+        this.shuffledLongs = new LongArrayList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.shuffledLongs.add(random.nextLong());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy()
+    {
+        this.integersGSC = FastList.newList(this.shuffledIntegers);
+        this.longsGSC = LongArrayList.newList(this.shuffledLongs);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public FastList<Integer> sortThis_serial_gsc()
+    {
+        return this.integersGSC.sortThis();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public FastList<Integer> sortThis_parallel_gsc()
+    {
+        return this.integersGSC.sortThisParallel(this.executorService);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongArrayList sortThis_long_serial_gsc()
+    {
+        return this.longsGSC.sortThis();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongArrayList sortThis_long_parallel_gsc()
+    {
+        return this.longsGSC.sortThisParallel(this.executorService);
+    }
+}
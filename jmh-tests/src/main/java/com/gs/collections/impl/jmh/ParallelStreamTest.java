@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.stream.StreamIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Filters and sums a list and a set in parallel, comparing JDK parallel streams over JDK and GS collections with
+ * asParallel. Collection.parallelStream() over GS collections uses the default iterator-based spliterator, which does
+ * not report SUBSIZED and splits by copying batches out of the iterator, while the spliterators from
+ * {@link StreamIterate} and asParallel partition the backing arrays directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelStreamTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
+    private final Set<Integer> setJDK = new HashSet<>(Interval.oneTo(SIZE));
+    private final UnifiedSet<Integer> setGSC = UnifiedSet.newSet(Interval.oneTo(SIZE));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public long parallel_stream_list_jdk()
+    {
+        return this.integersJDK.parallelStream().filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_stream_list_gsc()
+    {
+        return this.integersGSC.parallelStream().filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_spliterator_list_gsc()
+    {
+        return StreamIterate.stream(this.integersGSC, true).filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_lazy_list_gsc()
+    {
+        return this.integersGSC.asParallel(this.executorService, BATCH_SIZE).select(each -> each % 3 == 0).sumOfLong(Integer::longValue);
+    }
+
+    @Benchmark
+    public long parallel_stream_set_jdk()
+    {
+        return this.setJDK.parallelStream().filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_stream_set_gsc()
+    {
+        return this.setGSC.parallelStream().filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_spliterator_set_gsc()
+    {
+        return StreamIterate.stream(this.setGSC, true).filter(each -> each % 3 == 0).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallel_lazy_set_gsc()
+    {
+        return this.setGSC.asParallel(this.executorService, BATCH_SIZE).select(each -> each % 3 == 0).sumOfLong(Integer::longValue);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.impl.forkjoin.FJIterate;
+import com.gs.collections.impl.forkjoin.FJParallelIterate;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Counts with a predicate whose cost is concentrated at the end of the list, so that a few batches take far longer
+ * than the rest.  Compares the executor-based parallel iterable, which submits every batch up front, with the same
+ * batches run by {@link FJParallelIterate} on a fork-join pool with work stealing.
+ * <p>
+ * With {@code expensiveRange=lastTenth} the expensive elements span many batches, which work stealing spreads over
+ * the workers.  With {@code expensiveRange=lastBatch} they all fall in the last batch.  A batch is the smallest unit
+ * {@link FJParallelIterate} hands to a worker, so that case runs no faster than one worker visiting the last batch,
+ * and only the JDK stream, which splits the list further, can spread the cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SkewedPredicateTest
+{
+    private static final int SIZE = 100_000;
+
+    @Param({"100", "1000", "10000"})
+    public int batchSize;
+
+    @Param({"0", "100"})
+    public int expensiveWork;
+
+    @Param({"lastTenth", "lastBatch"})
+    public String expensiveRange;
+
+    private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
+
+    private ExecutorService executorService;
+    private ForkJoinPool forkJoinPool;
+    private Predicate<Integer> skewedPredicate;
+
+    @Setup
+    public void setUp()
+    {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+        this.forkJoinPool = new ForkJoinPool(parallelism);
+        int work = this.expensiveWork;
+        int expensiveStart = "lastBatch".equals(this.expensiveRange) ? SIZE - this.batchSize : SIZE - SIZE / 10;
+        this.skewedPredicate = each -> {
+            int value = each;
+            if (value > expensiveStart)
+            {
+                for (int i = 0; i < work; i++)
+                {
+                    value = value * 31 + i;
+                }
+                value = value == Integer.MIN_VALUE ? 0 : Math.abs(value);
+            }
+            return value % 2 == 0;
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+        this.forkJoinPool.shutdownNow();
+        this.forkJoinPool.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int serial_eager_gsc()
+    {
+        return this.integersGSC.count(this.skewedPredicate);
+    }
+
+    @Benchmark
+    public int parallel_eager_gsc()
+    {
+        return ParallelIterate.count(this.integersGSC, this.skewedPredicate, this.batchSize, this.executorService);
+    }
+
+    @Benchmark
+    public int parallel_eager_forkjoin_gsc()
+    {
+        return FJIterate.count(this.integersGSC, this.skewedPredicate, this.batchSize, this.forkJoinPool);
+    }
+
+    @Benchmark
+    public int parallel_lazy_gsc()
+    {
+        return this.integersGSC.asParallel(this.executorService, this.batchSize).count(this.skewedPredicate);
+    }
+
+    @Benchmark
+    public int parallel_lazy_forkjoin_gsc()
+    {
+        return FJParallelIterate.count(this.integersGSC.asParallel(this.executorService, this.batchSize), this.skewedPredicate, this.forkJoinPool);
+    }
+
+    @Benchmark
+    public int parallel_lazy_jdk()
+    {
+        return (int) this.integersGSC.parallelStream().filter(this.skewedPredicate::accept).count();
+    }
+}
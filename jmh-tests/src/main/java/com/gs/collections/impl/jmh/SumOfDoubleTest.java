@@ -98,6 +98,12 @@ public class SumOfDoubleTest
         return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).sumOfDouble(Double::doubleValue);
     }
 
+    @Benchmark
+    public double parallel_lazy_collectDoubleSum_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).collectDouble(Double::doubleValue).sum();
+    }
+
     @Benchmark
     public double serial_lazy_directSumOfDouble_gsc()
     {
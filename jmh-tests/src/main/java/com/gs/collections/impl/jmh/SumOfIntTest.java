@@ -110,6 +110,12 @@ public class SumOfIntTest
         return this.integersGSC.asParallel(this.executorService, BATCH_SIZE).sumOfInt(each -> each);
     }
 
+    @Benchmark
+    public long parallel_lazy_collectIntSum_gsc()
+    {
+        return this.integersGSC.asParallel(this.executorService, BATCH_SIZE).collectInt(Integer::intValue).sum();
+    }
+
     @Benchmark
     public long serial_lazy_directSumOfInt_gsc()
     {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Multisets;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.HeavyHitters;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TopOccurrencesTest
+{
+    private static final int TOP = 10;
+
+    @Param({"10000", "1000000"})
+    public int distinct;
+    private Multiset<Integer> integersGuava;
+    private MutableBag<Integer> integersGSC;
+    private MutableList<Integer> stream;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.integersGuava = HashMultiset.create();
+        this.integersGSC = HashBag.newBag();
+        this.stream = FastList.newList(this.distinct * 4);
+        for (int i = 0; i < this.distinct * 4; i++)
+        {
+            int item = (int) Math.abs(random.nextGaussian() * this.distinct / 4.0);
+            this.integersGuava.add(item);
+            this.integersGSC.add(item);
+            this.stream.add(item);
+        }
+    }
+
+    @Benchmark
+    public Iterable<Multiset.Entry<Integer>> guava()
+    {
+        return Iterables.limit(Multisets.copyHighestCountFirst(this.integersGuava).entrySet(), TOP);
+    }
+
+    @Benchmark
+    public MutableList<ObjectIntPair<Integer>> gsc()
+    {
+        return this.integersGSC.topOccurrences(TOP);
+    }
+
+    @Benchmark
+    public MutableList<ObjectIntPair<Integer>> gscHeavyHitters()
+    {
+        return HeavyHitters.<Integer>newHeavyHitters(TOP * 10).withAll(this.stream).topOccurrences(TOP);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.allocation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.function.primitive.IntToIntFunction;
+import com.gs.collections.impl.map.mutable.primitive.ConcurrentIntIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentIntIntMapAllocationTest
+{
+    private static final int SIZE = 1_000;
+
+    private final IntToIntFunction increment = value -> value + 1;
+
+    private ConcurrentIntIntHashMap map;
+
+    @Setup
+    public void setUp()
+    {
+        this.map = new ConcurrentIntIntHashMap();
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long get()
+    {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            result += this.map.get(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public int put()
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.map.put(i, i);
+        }
+        return this.map.size();
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long addToValue()
+    {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            result += this.map.addToValue(i, 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long updateValue()
+    {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            result += this.map.updateValue(i, 0, this.increment);
+        }
+        return result;
+    }
+}
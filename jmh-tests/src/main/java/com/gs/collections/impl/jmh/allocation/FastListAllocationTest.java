@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.allocation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FastListAllocationTest
+{
+    private static final int SIZE = 1_000;
+
+    private final FastList<Integer> integers = FastList.newList(Interval.zeroTo(SIZE - 1));
+    private final FastList<Integer> target = FastList.newList(SIZE);
+
+    private final Predicate<Integer> isEven = each -> (each & 1) == 0;
+    private final Function<Integer, Integer> identity = Functions.identity();
+    private final IntFunction<Integer> intValue = Integer::intValue;
+
+    private long sum;
+    private final Procedure<Integer> sumProcedure = each -> this.sum += each;
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long get()
+    {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            result += this.integers.get(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public int put()
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.target.add(this.integers.get(i));
+        }
+        int size = this.target.size();
+        this.target.clear();
+        return size;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long forEach()
+    {
+        this.sum = 0L;
+        this.integers.forEach(this.sumProcedure);
+        return this.sum;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long sumOfInt()
+    {
+        return this.integers.sumOfInt(this.intValue);
+    }
+
+    @Benchmark
+    @AllocationBudget(8216)
+    public MutableList<Integer> select()
+    {
+        return this.integers.select(this.isEven);
+    }
+
+    @Benchmark
+    @AllocationBudget(4040)
+    public MutableList<Integer> collect()
+    {
+        return this.integers.collect(this.identity);
+    }
+}
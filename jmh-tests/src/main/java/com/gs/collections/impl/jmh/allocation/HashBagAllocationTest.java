@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.allocation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashBagAllocationTest
+{
+    private static final int SIZE = 1_000;
+    private static final int OCCURRENCES = 4;
+
+    private final Integer[] items = Interval.zeroTo(SIZE - 1).toArray();
+    private final HashBag<Integer> bag = HashBag.newBag();
+
+    private final Predicate<Integer> isEven = each -> (each & 1) == 0;
+    private final Function<Integer, Integer> identity = Functions.identity();
+    private final IntFunction<Integer> intValue = Integer::intValue;
+
+    private long sum;
+    private final ObjectIntProcedure<Integer> sumProcedure = (each, occurrences) -> this.sum += each * occurrences;
+
+    public HashBagAllocationTest()
+    {
+        for (Integer item : this.items)
+        {
+            this.bag.addOccurrences(item, OCCURRENCES);
+        }
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long get()
+    {
+        long result = 0L;
+        for (Integer item : this.items)
+        {
+            result += this.bag.occurrencesOf(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public int put()
+    {
+        for (Integer item : this.items)
+        {
+            this.bag.add(item);
+            this.bag.remove(item);
+        }
+        return this.bag.size();
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long forEach()
+    {
+        this.sum = 0L;
+        this.bag.forEachWithOccurrences(this.sumProcedure);
+        return this.sum;
+    }
+
+    /**
+     * AbstractMutableBag.sumOfInt allocates a one-element long[] to hold the sum on every call, which escape analysis
+     * does not remove.
+     */
+    @Benchmark
+    @AllocationBudget(24)
+    public long sumOfInt()
+    {
+        return this.bag.sumOfInt(this.intValue);
+    }
+
+    @Benchmark
+    @AllocationBudget(24560)
+    public MutableBag<Integer> select()
+    {
+        return this.bag.select(this.isEven);
+    }
+
+    @Benchmark
+    @AllocationBudget(16472)
+    public MutableBag<Integer> collect()
+    {
+        return this.bag.collect(this.identity);
+    }
+}
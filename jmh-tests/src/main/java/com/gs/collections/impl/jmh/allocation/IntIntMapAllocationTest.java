@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.allocation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntIntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.map.primitive.MutableIntIntMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.RobinHoodIntIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntIntMapAllocationTest
+{
+    private static final int SIZE = 1_000;
+    private static final Integer[] BOXED = Interval.zeroTo(SIZE - 1).toArray();
+
+    @Param({"IntIntHashMap", "RobinHoodIntIntHashMap"})
+    public String type;
+
+    private MutableIntIntMap map;
+
+    private final IntIntPredicate isEvenKey = (key, value) -> (key & 1) == 0;
+    private final IntToObjectFunction<Integer> boxed = value -> BOXED[value];
+
+    private long sum;
+    private final IntIntProcedure sumProcedure = (key, value) -> this.sum += value;
+
+    @Setup
+    public void setUp()
+    {
+        this.map = "IntIntHashMap".equals(this.type) ? new IntIntHashMap() : new RobinHoodIntIntHashMap();
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long get()
+    {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            result += this.map.get(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public int put()
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.map.put(i, i);
+        }
+        return this.map.size();
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long forEach()
+    {
+        this.sum = 0L;
+        this.map.forEachKeyValue(this.sumProcedure);
+        return this.sum;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long sumOf()
+    {
+        return this.map.sum();
+    }
+
+    @Benchmark
+    @AllocationBudget(16960)
+    public MutableIntIntMap select()
+    {
+        return this.map.select(this.isEvenKey);
+    }
+
+    @Benchmark
+    @AllocationBudget(4040)
+    public MutableCollection<Integer> collect()
+    {
+        return this.map.collect(this.boxed);
+    }
+}
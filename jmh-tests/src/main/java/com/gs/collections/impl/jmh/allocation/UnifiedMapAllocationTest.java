@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.allocation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UnifiedMapAllocationTest
+{
+    private static final int SIZE = 1_000;
+
+    private final Integer[] keys = Interval.zeroTo(SIZE - 1).toArray();
+    private final UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+
+    private final Predicate2<Integer, Integer> isEvenKey = (key, value) -> (key & 1) == 0;
+    private final Function<Integer, Integer> identity = Functions.identity();
+    private final IntFunction<Integer> intValue = Integer::intValue;
+
+    private long sum;
+    private final Procedure2<Integer, Integer> sumProcedure = (key, value) -> this.sum += value;
+
+    public UnifiedMapAllocationTest()
+    {
+        for (Integer key : this.keys)
+        {
+            this.map.put(key, key);
+        }
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long get()
+    {
+        long result = 0L;
+        for (Integer key : this.keys)
+        {
+            result += this.map.get(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public int put()
+    {
+        for (Integer key : this.keys)
+        {
+            this.map.put(key, key);
+        }
+        return this.map.size();
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long forEach()
+    {
+        this.sum = 0L;
+        this.map.forEachKeyValue(this.sumProcedure);
+        return this.sum;
+    }
+
+    @Benchmark
+    @AllocationBudget(0)
+    public long sumOfInt()
+    {
+        return this.map.sumOfInt(this.intValue);
+    }
+
+    @Benchmark
+    @AllocationBudget(21376)
+    public MutableMap<Integer, Integer> select()
+    {
+        return this.map.select(this.isEvenKey);
+    }
+
+    @Benchmark
+    @AllocationBudget(32952)
+    public MutableBag<Integer> collect()
+    {
+        return this.map.collect(this.identity);
+    }
+}
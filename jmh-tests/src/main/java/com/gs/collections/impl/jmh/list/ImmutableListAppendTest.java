@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.list;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.immutable.ImmutableListFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListAppendTest
+{
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+    @Param({"TRIE", "ARRAY"})
+    public String type;
+    private ImmutableList<Integer> list;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        int trieThreshold = "TRIE".equals(this.type) ? 0 : Integer.MAX_VALUE;
+        this.list = new ImmutableListFactoryImpl(trieThreshold).withAll(Interval.zeroTo(this.size - 1));
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith()
+    {
+        return this.list.newWith(this.size);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithReplaced()
+    {
+        this.index = (this.index + 1) % this.size;
+        return this.list.newWithReplaced(this.index, -1);
+    }
+
+    @Benchmark
+    public int get()
+    {
+        int sum = 0;
+        ImmutableList<Integer> localList = this.list;
+        int localSize = this.size;
+        for (int i = 0; i < localSize; i++)
+        {
+            sum += localList.get(i);
+        }
+        return sum;
+    }
+}
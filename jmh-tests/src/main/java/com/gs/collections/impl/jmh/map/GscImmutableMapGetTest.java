@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.map.immutable.ImmutableMapFactoryImpl;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -44,6 +45,8 @@ public class GscImmutableMapGetTest
             "6250000", "6500000", "6750000", "7000000", "7250000", "7500000", "7750000", "8000000", "8250000", "8500000", "8750000", "9000000",
             "9250000", "9500000", "9750000", "10000000"})
     public int size;
+    @Param({"HASH_TRIE", "UNIFIED"})
+    public String type;
     private String[] elements;
     private ImmutableMap<String, String> gscMap;
 
@@ -62,7 +65,8 @@ public class GscImmutableMapGetTest
             map.put(element, "dummy");
         }
 
-        this.gscMap = map.toImmutable();
+        int hashTrieThreshold = "HASH_TRIE".equals(this.type) ? 0 : Integer.MAX_VALUE;
+        this.gscMap = new ImmutableMapFactoryImpl(hashTrieThreshold).withAll(map);
     }
 
     @Benchmark
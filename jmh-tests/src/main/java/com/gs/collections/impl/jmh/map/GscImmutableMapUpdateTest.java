@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.impl.map.immutable.ImmutableMapFactoryImpl;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GscImmutableMapUpdateTest
+{
+    private static final int RANDOM_COUNT = 9;
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"10000", "100000", "250000", "500000", "1000000"})
+    public int size;
+    @Param({"HASH_TRIE", "UNIFIED"})
+    public String type;
+    private String[] elements;
+    private ImmutableMap<String, String> gscMap;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+
+        this.elements = new String[this.size];
+        UnifiedMap<String, String> map = UnifiedMap.newMap(this.size);
+
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            map.put(element, "dummy");
+        }
+
+        int hashTrieThreshold = "HASH_TRIE".equals(this.type) ? 0 : Integer.MAX_VALUE;
+        this.gscMap = new ImmutableMapFactoryImpl(hashTrieThreshold).withAll(map);
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithKeyValue()
+    {
+        String key = this.elements[this.index];
+        this.index = (this.index + 1) % this.size;
+        return this.gscMap.newWithKeyValue(key, "updated");
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithoutKey()
+    {
+        String key = this.elements[this.index];
+        this.index = (this.index + 1) % this.size;
+        return this.gscMap.newWithoutKey(key);
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> rebuildWithTransient()
+    {
+        TransientMap<String, String> transientMap = this.gscMap.toTransient();
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            transientMap.withKeyValue(this.nextElement(), "updated");
+        }
+        return transientMap.toImmutable();
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> rebuildWithMutableCopy()
+    {
+        MutableMap<String, String> map = UnifiedMap.newMap(this.gscMap.castToMap());
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            map.put(this.nextElement(), "updated");
+        }
+        return map.toImmutable();
+    }
+
+    private String nextElement()
+    {
+        String element = this.elements[this.index];
+        this.index = (this.index + 1) % this.size;
+        return element;
+    }
+}
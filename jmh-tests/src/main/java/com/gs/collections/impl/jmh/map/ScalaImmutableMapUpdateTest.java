@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scala.collection.immutable.HashMap$;
+import scala.collection.immutable.Map;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScalaImmutableMapUpdateTest
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"10000", "100000", "250000", "500000", "1000000"})
+    public int size;
+    private String[] elements;
+    private Map<String, String> scalaMap;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+
+        this.elements = new String[this.size];
+        Map<String, String> map = HashMap$.MODULE$.empty();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            map = map.updated(element, "dummy");
+        }
+
+        this.scalaMap = map;
+    }
+
+    @Benchmark
+    public Map<String, String> updated()
+    {
+        String key = this.elements[this.index];
+        this.index = (this.index + 1) % this.size;
+        return this.scalaMap.updated(key, "updated");
+    }
+
+    @Benchmark
+    public Map<String, String> minus()
+    {
+        String key = this.elements[this.index];
+        this.index = (this.index + 1) % this.size;
+        return (Map<String, String>) this.scalaMap.$minus(key);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.runner;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.jmh.allocation.AllocationBudget;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks in com.gs.collections.impl.jmh.allocation with the GC profiler and fails if any of them
+ * allocates more bytes per operation than its {@link AllocationBudget}. The CI build runs it after the unit tests with
+ * {@code mvn test -pl jmh-tests -P allocation-budgets}. The profile forks surefire so that JMH can fork benchmark VMs
+ * with the test classpath.
+ */
+public class AllocationBudgetTest
+{
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * Smaller than the smallest object, so a single extra allocation per operation exceeds the budget.
+     */
+    private static final double TOLERANCE_BYTES = 8.0;
+
+    @Test
+    public void allocationsWithinBudget() throws Exception
+    {
+        Options opts = new OptionsBuilder()
+                .include(".*com.gs.collections.impl.jmh.allocation.*")
+                .addProfiler(GCProfiler.class)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(10)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        Collection<RunResult> results = new Runner(opts).run();
+        Assert.assertFalse("No allocation benchmarks ran", results.isEmpty());
+
+        MutableList<String> failures = FastList.newList();
+        for (RunResult result : results)
+        {
+            BenchmarkParams params = result.getParams();
+            String benchmark = AllocationBudgetTest.describe(params);
+            long budget = AllocationBudgetTest.budgetOf(params.getBenchmark());
+            double allocated = AllocationBudgetTest.allocatedBytesPerOp(result, benchmark);
+            if (allocated > budget + TOLERANCE_BYTES)
+            {
+                failures.add(benchmark + " allocated " + allocated + " bytes/op, budget is " + budget);
+            }
+        }
+        Assert.assertTrue(failures.makeString("\n"), failures.isEmpty());
+    }
+
+    private static long budgetOf(String benchmark) throws ClassNotFoundException
+    {
+        int lastDot = benchmark.lastIndexOf('.');
+        Class<?> benchmarkClass = Class.forName(benchmark.substring(0, lastDot));
+        String methodName = benchmark.substring(lastDot + 1);
+        for (Method method : benchmarkClass.getMethods())
+        {
+            if (method.getName().equals(methodName))
+            {
+                AllocationBudget budget = method.getAnnotation(AllocationBudget.class);
+                Assert.assertNotNull(benchmark + " has no @" + AllocationBudget.class.getSimpleName(), budget);
+                return budget.value();
+            }
+        }
+        throw new AssertionError("No method found for " + benchmark);
+    }
+
+    private static double allocatedBytesPerOp(RunResult result, String benchmark)
+    {
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet())
+        {
+            if (entry.getKey().endsWith(ALLOCATION_METRIC))
+            {
+                return entry.getValue().getScore();
+            }
+        }
+        throw new AssertionError("The GC profiler did not report " + ALLOCATION_METRIC + " for " + benchmark);
+    }
+
+    private static String describe(BenchmarkParams params)
+    {
+        StringBuilder builder = new StringBuilder(params.getBenchmark());
+        for (String key : params.getParamsKeys())
+        {
+            builder.append(' ').append(key).append('=').append(params.getParam(key));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.runner;
+
+import org.junit.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks matching the {@code jmh.include} system property with 1, 2, 4, ... 64 threads, since JMH cannot
+ * take the thread count as a parameter. The pattern defaults to every *ContentionTest. Run it with
+ * {@code mvn test -P contention} from jmh-tests, adding for instance {@code -Djmh.include=.*BagContentionTest.*} to
+ * run a single benchmark.
+ */
+public class ContentionRunner
+{
+    private static final int MAX_THREADS = 64;
+
+    @Test
+    public void runTests() throws RunnerException
+    {
+        String include = System.getProperty("jmh.include", ".*ContentionTest.*");
+        for (int threads = 1; threads <= MAX_THREADS; threads <<= 1)
+        {
+            Options opts = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .warmupTime(TimeValue.seconds(1))
+                    .warmupIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .forks(1)
+                    .build();
+
+            new Runner(opts).run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.bag;
+
+import com.google.common.collect.TreeMultiset;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SortedBagMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SortedBagMemoryTest.class);
+
+    @Test
+    public void memoryForScaledSortedBags()
+    {
+        LOGGER.info("Comparing Items: Guava {}, GSC {}", TreeMultiset.class.getSimpleName(), TreeBag.class.getSimpleName());
+
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledSortedBags(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledSortedBags(int size)
+    {
+        MemoryTestBench.on(TreeMultiset.class).printContainerMemoryUsage("SortedBag", size, new SizedGuavaTreeMultisetFactory(size));
+        MemoryTestBench.on(TreeBag.class).printContainerMemoryUsage("SortedBag", size, new SizedGscTreeBagFactory(size));
+    }
+
+    public static class SizedGuavaTreeMultisetFactory implements Function0<TreeMultiset<Integer>>
+    {
+        private final ImmutableList<Integer> data;
+
+        public SizedGuavaTreeMultisetFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+        }
+
+        @Override
+        public TreeMultiset<Integer> value()
+        {
+            final TreeMultiset<Integer> treeMultiset = TreeMultiset.create();
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    treeMultiset.add(each, 10);
+                }
+            });
+            return treeMultiset;
+        }
+    }
+
+    public static class SizedGscTreeBagFactory implements Function0<TreeBag<Integer>>
+    {
+        private final ImmutableList<Integer> data;
+
+        public SizedGscTreeBagFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+        }
+
+        @Override
+        public TreeBag<Integer> value()
+        {
+            final TreeBag<Integer> treeBag = TreeBag.newBag();
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    treeBag.addOccurrences(each, 10);
+                }
+            });
+            return treeBag;
+        }
+    }
+}
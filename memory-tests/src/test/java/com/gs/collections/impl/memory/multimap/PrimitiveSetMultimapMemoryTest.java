@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.multimap;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.multimap.set.primitive.LongLongSetMultimap;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PrimitiveSetMultimapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrimitiveSetMultimapMemoryTest.class);
+
+    @Test
+    public void memoryForScaledMultimaps()
+    {
+        LOGGER.info("Comparing Items: GSC {}, GSC {}",
+                UnifiedSetMultimap.class.getSimpleName(),
+                LongLongSetMultimap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledMultimaps(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledMultimaps(int size)
+    {
+        MemoryTestBench.on(UnifiedSetMultimap.class)
+                .printContainerMemoryUsage("SetMultimap", size, new SizedBoxedMultimapFactory(size));
+        MemoryTestBench.on(LongLongSetMultimap.class)
+                .printContainerMemoryUsage("SetMultimap", size, new SizedPrimitiveMultimapFactory(size));
+    }
+
+    public static class SizedBoxedMultimapFactory implements Function0<UnifiedSetMultimap<Long, Long>>
+    {
+        private final ImmutableList<Integer> data;
+
+        public SizedBoxedMultimapFactory(int size)
+        {
+            this.data = TestDataFactory.createImmutableList(size);
+        }
+
+        @Override
+        public UnifiedSetMultimap<Long, Long> value()
+        {
+            final UnifiedSetMultimap<Long, Long> mm = UnifiedSetMultimap.newMultimap();
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    for (int j = 0; j < 10; j++)
+                    {
+                        mm.put(Long.valueOf(each.longValue()), Long.valueOf(each.longValue() * 10L + j));
+                    }
+                }
+            });
+            return mm;
+        }
+    }
+
+    public static class SizedPrimitiveMultimapFactory implements Function0<LongLongSetMultimap>
+    {
+        private final ImmutableList<Integer> data;
+
+        public SizedPrimitiveMultimapFactory(int size)
+        {
+            this.data = TestDataFactory.createImmutableList(size);
+        }
+
+        @Override
+        public LongLongSetMultimap value()
+        {
+            final LongLongSetMultimap mm = LongLongSetMultimap.newMultimap();
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    for (int j = 0; j < 10; j++)
+                    {
+                        mm.put(each.longValue(), each.longValue() * 10L + j);
+                    }
+                }
+            });
+            return mm;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongDoubleHashMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.DoubleHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.tuple.ImmutableEntry;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamIterateTest
+{
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void fastList()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(SIZE));
+        Spliterator<Integer> spliterator = StreamIterate.spliterator(list);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assert.assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(SIZE / 2, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(SIZE / 2, spliterator.getExactSizeIfKnown());
+        Assert.assertTrue(prefix.tryAdvance(each -> Assert.assertEquals(Integer.valueOf(1), each)));
+        Assert.assertEquals(SIZE / 2 - 1, prefix.getExactSizeIfKnown());
+
+        Assert.assertEquals(list, StreamIterate.stream(list, false).collect(Collectors.toList()));
+        Assert.assertEquals(list, StreamIterate.stream(list, true).collect(Collectors.toList()));
+        Assert.assertEquals(list.select(each -> each % 3 == 0), StreamIterate.stream(list, true).filter(each -> each % 3 == 0).collect(Collectors.toList()));
+        Assert.assertEquals(0L, StreamIterate.stream(FastList.<Integer>newList(), true).count());
+        StreamIterateTest.assertSplitsCoverAllElements(list.toBag(), StreamIterate.spliterator(list));
+    }
+
+    @Test
+    public void unifiedSet()
+    {
+        UnifiedSet<Collider> set = UnifiedSet.newSet(Interval.oneTo(SIZE).collect(Collider::new));
+        Spliterator<Collider> spliterator = StreamIterate.spliterator(set);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        Assert.assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        Assert.assertNotNull(spliterator.trySplit());
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(SIZE / 2, spliterator.estimateSize());
+
+        Assert.assertEquals(set, StreamIterate.stream(set, false).collect(Collectors.toSet()));
+        Assert.assertEquals(set, StreamIterate.stream(set, true).collect(Collectors.toSet()));
+        Assert.assertEquals(SIZE / 2, StreamIterate.stream(set, true).filter(each -> each.value % 2 == 0).count());
+        Assert.assertEquals(0L, StreamIterate.stream(UnifiedSet.<Integer>newSet(), true).count());
+        StreamIterateTest.assertSplitsCoverAllElements(set.toBag(), StreamIterate.spliterator(set));
+    }
+
+    @Test
+    public void unifiedSetWithNull()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSetWith(null, 1, 2, 3);
+        Assert.assertEquals(set, StreamIterate.stream(set, true).collect(Collectors.toSet()));
+        StreamIterateTest.assertSplitsCoverAllElements(set.toBag(), StreamIterate.spliterator(set));
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        UnifiedMap<Collider, Integer> map = UnifiedMap.newMap();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            map.put(new Collider(i), i % 2 == 0 ? null : Integer.valueOf(i));
+        }
+        map.put(null, 0);
+
+        Assert.assertEquals(SIZE + 1, StreamIterate.keySpliterator(map).getExactSizeIfKnown());
+        Assert.assertEquals(SIZE + 1, StreamIterate.valueSpliterator(map).getExactSizeIfKnown());
+        Assert.assertEquals(SIZE + 1, StreamIterate.entrySpliterator(map).getExactSizeIfKnown());
+        Assert.assertTrue(StreamIterate.keySpliterator(map).hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertFalse(StreamIterate.valueSpliterator(map).hasCharacteristics(Spliterator.DISTINCT));
+
+        Assert.assertEquals(map.keySet(), StreamIterate.keyStream(map, true).collect(Collectors.toSet()));
+        Assert.assertEquals(HashBag.newBag(map.values()), StreamIterate.valueStream(map, true).collect(Collectors.toCollection(HashBag::newBag)));
+        Assert.assertEquals(map.entrySet(), StreamIterate.entryStream(map, true).collect(Collectors.toSet()));
+        Assert.assertTrue(StreamIterate.entryStream(map, true).anyMatch(each -> ImmutableEntry.of(null, 0).equals(each)));
+
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(map.keySet()), StreamIterate.keySpliterator(map));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(map.values()), StreamIterate.valueSpliterator(map));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(map.entrySet()), StreamIterate.entrySpliterator(map));
+    }
+
+    @Test
+    public void primitiveLists()
+    {
+        IntArrayList ints = new IntArrayList();
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            ints.add(i);
+            longs.add((long) i);
+            doubles.add((double) i);
+        }
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+        Spliterator.OfInt intSpliterator = StreamIterate.spliterator(ints);
+        Assert.assertTrue(intSpliterator.hasCharacteristics(characteristics));
+        Assert.assertEquals(SIZE / 2, intSpliterator.trySplit().getExactSizeIfKnown());
+        Assert.assertEquals(SIZE / 2, intSpliterator.getExactSizeIfKnown());
+        Assert.assertArrayEquals(ints.toArray(), StreamIterate.stream(ints, true).toArray());
+        Assert.assertEquals(ints.sum(), StreamIterate.stream(ints, true).asLongStream().sum());
+
+        Spliterator.OfLong longSpliterator = StreamIterate.spliterator(longs);
+        Assert.assertTrue(longSpliterator.hasCharacteristics(characteristics));
+        Assert.assertEquals(SIZE / 2, longSpliterator.trySplit().getExactSizeIfKnown());
+        Assert.assertArrayEquals(longs.toArray(), StreamIterate.stream(longs, true).toArray());
+        Assert.assertEquals(longs.sum(), StreamIterate.stream(longs, true).sum());
+
+        Spliterator.OfDouble doubleSpliterator = StreamIterate.spliterator(doubles);
+        Assert.assertTrue(doubleSpliterator.hasCharacteristics(characteristics));
+        Assert.assertEquals(SIZE / 2, doubleSpliterator.trySplit().getExactSizeIfKnown());
+        Assert.assertArrayEquals(doubles.toArray(), StreamIterate.stream(doubles, true).toArray(), 0.0);
+        Assert.assertEquals(doubles.sum(), StreamIterate.stream(doubles, true).sum(), 0.0);
+
+        Assert.assertEquals(0L, StreamIterate.stream(new IntArrayList(), true).count());
+    }
+
+    @Test
+    public void hashBag()
+    {
+        HashBag<Collider> bag = HashBag.newBag();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            bag.addOccurrences(new Collider(i), i % 3 + 1);
+        }
+        Spliterator<Collider> spliterator = StreamIterate.spliterator(bag);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertEquals(bag.size(), spliterator.getExactSizeIfKnown());
+
+        Assert.assertEquals(bag, StreamIterate.stream(bag, true).collect(Collectors.toCollection(HashBag::newBag)));
+        Assert.assertEquals(0L, StreamIterate.stream(HashBag.<Integer>newBag(), true).count());
+        StreamIterateTest.assertSplitsCoverAllElements(bag, StreamIterate.spliterator(bag));
+    }
+
+    @Test
+    public void primitiveHashSets()
+    {
+        IntHashSet ints = new IntHashSet();
+        LongHashSet longs = new LongHashSet();
+        DoubleHashSet doubles = new DoubleHashSet();
+        for (int i = 0; i < SIZE; i++)
+        {
+            ints.add(i);
+            longs.add((long) i);
+            doubles.add((double) i);
+        }
+
+        Spliterator.OfInt intSpliterator = StreamIterate.spliterator(ints);
+        Assert.assertTrue(intSpliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        Assert.assertEquals(SIZE, intSpliterator.getExactSizeIfKnown());
+        Assert.assertNotNull(intSpliterator.trySplit());
+        Assert.assertFalse(intSpliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(ints.sum(), StreamIterate.stream(ints, true).asLongStream().sum());
+        Assert.assertEquals(ints, IntHashSet.newSetWith(StreamIterate.stream(ints, true).toArray()));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(ints.collect(each -> each)), StreamIterate.spliterator(ints));
+
+        Assert.assertTrue(StreamIterate.spliterator(longs).hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        Assert.assertEquals(longs.sum(), StreamIterate.stream(longs, true).sum());
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(longs.collect(each -> each)), StreamIterate.spliterator(longs));
+
+        Assert.assertTrue(StreamIterate.spliterator(doubles).hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        Assert.assertEquals(doubles.sum(), StreamIterate.stream(doubles, true).sum(), 0.0);
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(doubles.collect(each -> each)), StreamIterate.spliterator(doubles));
+
+        Assert.assertEquals(0L, StreamIterate.stream(new IntHashSet(), true).count());
+        Assert.assertArrayEquals(new int[]{1}, StreamIterate.stream(IntHashSet.newSetWith(1), true).toArray());
+    }
+
+    @Test
+    public void primitiveHashMaps()
+    {
+        IntIntHashMap intInts = new IntIntHashMap();
+        LongDoubleHashMap longDoubles = new LongDoubleHashMap();
+        for (int i = 0; i < SIZE; i++)
+        {
+            intInts.put(i, i % 7);
+            longDoubles.put((long) i, (double) (i % 7));
+        }
+
+        Spliterator.OfInt keySpliterator = StreamIterate.spliterator(intInts.keySet());
+        Assert.assertTrue(keySpliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        Assert.assertEquals(SIZE, keySpliterator.getExactSizeIfKnown());
+        Spliterator.OfInt valueSpliterator = StreamIterate.spliterator(intInts.values());
+        Assert.assertTrue(valueSpliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(valueSpliterator.hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertEquals(SIZE, valueSpliterator.getExactSizeIfKnown());
+
+        Assert.assertEquals(intInts.keySet().sum(), StreamIterate.stream(intInts.keySet(), true).asLongStream().sum());
+        Assert.assertEquals(intInts.values().sum(), StreamIterate.stream(intInts.values(), true).asLongStream().sum());
+        Assert.assertEquals(longDoubles.values().sum(), StreamIterate.stream(longDoubles.values(), true).sum(), 0.0);
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(intInts.keySet().collect(each -> each)), StreamIterate.spliterator(intInts.keySet()));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(intInts.values().collect(each -> each)), StreamIterate.spliterator(intInts.values()));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(longDoubles.keySet().collect(each -> each)), StreamIterate.spliterator(longDoubles.keySet()));
+        StreamIterateTest.assertSplitsCoverAllElements(HashBag.newBag(longDoubles.values().collect(each -> each)), StreamIterate.spliterator(longDoubles.values()));
+    }
+
+    @Test
+    public void primitiveIterableWithoutBatches()
+    {
+        IntHashBag bag = IntHashBag.newBagWith(0, 1, 1, 2, 2, 2);
+        Spliterator.OfInt spliterator = StreamIterate.spliterator(bag);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(6L, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(8L, StreamIterate.stream(bag, true).sum());
+    }
+
+    /**
+     * Splits the spliterator all the way down, traversing alternate leaves with tryAdvance and forEachRemaining.
+     */
+    private static <T> void assertSplitsCoverAllElements(MutableBag<T> expected, Spliterator<T> spliterator)
+    {
+        MutableList<Spliterator<T>> leaves = FastList.newList();
+        MutableList<Spliterator<T>> pending = FastList.newListWith(spliterator);
+        while (pending.notEmpty())
+        {
+            Spliterator<T> each = pending.remove(pending.size() - 1);
+            Spliterator<T> prefix = each.trySplit();
+            if (prefix == null)
+            {
+                leaves.add(each);
+            }
+            else
+            {
+                pending.add(prefix);
+                pending.add(each);
+            }
+        }
+        MutableBag<T> actual = HashBag.newBag();
+        for (int i = 0; i < leaves.size(); i++)
+        {
+            Spliterator<T> leaf = leaves.get(i);
+            if (i % 2 == 0)
+            {
+                while (leaf.tryAdvance(actual::add))
+                {
+                    Assert.assertTrue(leaf.estimateSize() <= expected.size());
+                }
+            }
+            else
+            {
+                leaf.tryAdvance(actual::add);
+                leaf.forEachRemaining(actual::add);
+            }
+            Assert.assertFalse(leaf.tryAdvance(each -> Assert.fail()));
+        }
+        Assert.assertEquals(expected, actual);
+    }
+
+    private static final class Collider
+    {
+        private final int value;
+
+        private Collider(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Collider && ((Collider) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value % 1024;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentCounterTest
+{
+    @Test
+    public void basicLifecycle()
+    {
+        ConcurrentCounter counter = new ConcurrentCounter();
+
+        Assert.assertEquals(0L, counter.getCount());
+        counter.increment();
+        counter.increment();
+        Assert.assertEquals(2L, counter.getCount());
+        counter.add(Integer.MAX_VALUE);
+        Assert.assertEquals(Integer.MAX_VALUE + 2L, counter.getCount());
+        counter.decrement();
+        Assert.assertEquals(Integer.MAX_VALUE + 1L, counter.getCount());
+        Assert.assertEquals(String.valueOf(Integer.MAX_VALUE + 1L), counter.toString());
+        Assert.assertEquals(Integer.MAX_VALUE + 1L, ConcurrentCounter.TO_COUNT.longValueOf(counter));
+
+        counter.reset();
+        Assert.assertEquals(0L, counter.getCount());
+        Assert.assertEquals(5L, new ConcurrentCounter(5L).getCount());
+    }
+
+    @Test
+    public void concurrentIncrements()
+    {
+        ConcurrentCounter counter = new ConcurrentCounter(-1000L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(200000), each -> counter.increment(), 1000, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(199000L, counter.getCount());
+        counter.reset();
+        Assert.assertEquals(0L, counter.getCount());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentCounter counter = new ConcurrentCounter(42L);
+        ConcurrentCounter deserialized = SerializeTestHelper.serializeDeserialize(counter);
+        Assert.assertEquals(42L, deserialized.getCount());
+        Verify.assertInstanceOf(ConcurrentCounter.class, deserialized);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (ObjectIntPair<T> itemToAdd : elementsWithOccurrences)
+        {
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagFromIterableAndBag()
+    {
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(FastList.newListWith(1, 2, 2, 3, 3, 3)));
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, null, null, null),
+                ConcurrentHashBag.newBag(HashBag.newBagWith(1, 2, 2, null, null, null)));
+    }
+
+    @Test
+    public void setOccurrencesOfNull()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", null, null);
+        Assert.assertFalse(bag.setOccurrences(null, 2));
+        Assert.assertTrue(bag.setOccurrences(null, 5));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("a", 1, null, 5), bag.toMapOfItemToCount());
+        Assert.assertTrue(bag.setOccurrences(null, 0));
+        Assert.assertFalse(bag.contains(null));
+        Verify.assertSize(1, bag);
+    }
+
+    @Test
+    public void iteratorRemoveAfterHasNext()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "b");
+        Iterator<String> iterator = bag.iterator();
+        String first = iterator.next();
+        Assert.assertTrue(iterator.hasNext());
+        iterator.remove();
+        Assert.assertFalse(bag.contains(first));
+        Verify.assertSize(1, bag);
+    }
+
+    @Test
+    public void concurrentAddAndRemoveOccurrences() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            Future<?>[] writers = new Future<?>[4];
+            for (int i = 0; i < writers.length; i++)
+            {
+                writers[i] = executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++)
+                    {
+                        bag.addOccurrences(j % 16, 3);
+                    }
+                    for (int j = 0; j < 10000; j++)
+                    {
+                        Assert.assertTrue(bag.removeOccurrences(j % 16, 1));
+                    }
+                });
+            }
+            for (Future<?> writer : writers)
+            {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Verify.assertSize(80000, bag);
+        Assert.assertEquals(16, bag.sizeDistinct());
+        Assert.assertEquals(5000, bag.occurrencesOf(0));
+        Assert.assertEquals(5000, bag.occurrencesOf(15));
+    }
+
+    @Test
+    public void concurrentAddAndRemoveToZero() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            Future<?>[] writers = new Future<?>[4];
+            for (int i = 0; i < writers.length; i++)
+            {
+                writers[i] = executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++)
+                    {
+                        bag.add(j % 4);
+                        Assert.assertTrue(bag.remove(j % 4));
+                    }
+                });
+            }
+            for (Future<?> writer : writers)
+            {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void concurrentAddsToOneItem() throws Exception
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            Future<?>[] writers = new Future<?>[4];
+            for (int i = 0; i < writers.length; i++)
+            {
+                writers[i] = executor.submit(() -> {
+                    for (int j = 0; j < 100000; j++)
+                    {
+                        bag.add("hot");
+                        if (j % 1000 == 999)
+                        {
+                            Assert.assertTrue(bag.removeOccurrences("hot", 1));
+                            Assert.assertTrue(bag.occurrencesOf("hot") > 0);
+                        }
+                    }
+                });
+            }
+            for (Future<?> writer : writers)
+            {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(399600, bag.occurrencesOf("hot"));
+        Verify.assertSize(399600, bag);
+        Assert.assertTrue(bag.setOccurrences("hot", 2));
+        Assert.assertFalse(bag.setOccurrences("hot", 2));
+        bag.add("hot");
+        Assert.assertEquals(3, bag.occurrencesOf("hot"));
+        Assert.assertTrue(bag.removeOccurrences("hot", 5));
+        Verify.assertEmpty(bag);
+    }
+}
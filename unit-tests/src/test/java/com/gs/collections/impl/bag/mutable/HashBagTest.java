@@ -19,9 +19,12 @@ package com.gs.collections.impl.bag.mutable;
 import java.util.Collections;
 
 import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.tuple.primitive.ObjectIntPair;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -77,4 +80,29 @@ public class HashBagTest extends MutableBagTestCase
                 HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4),
                 HashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4)));
     }
+
+    @Test
+    public void topAndBottomOccurrencesWithManyDistinctItems()
+    {
+        HashBag<Integer> bag = HashBag.newBag();
+        for (int i = 0; i < 1000; i++)
+        {
+            bag.addOccurrences(i, i % 100 + 1);
+        }
+        MutableList<ObjectIntPair<Integer>> top = bag.topOccurrences(21);
+        Verify.assertSize(30, top);
+        Assert.assertEquals(100, top.getFirst().getTwo());
+        Assert.assertEquals(98, top.getLast().getTwo());
+        Verify.assertSize(10, bag.topOccurrences(3));
+        MutableIntList counts = top.collectInt(ObjectIntPair::getTwo);
+        Assert.assertEquals(counts.toSortedList().reverseThis(), counts);
+        Assert.assertEquals(
+                bag.toSet().select(each -> each % 100 >= 97),
+                top.collect(ObjectIntPair::getOne).toSet());
+
+        MutableList<ObjectIntPair<Integer>> bottom = bag.bottomOccurrences(1);
+        Verify.assertSize(10, bottom);
+        Assert.assertTrue(bottom.allSatisfy(pair -> pair.getTwo() == 1));
+        Verify.assertSize(1000, bag.topOccurrences(2000));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.Random;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link HeavyHitters}.
+ */
+public class HeavyHittersTest
+{
+    @Test
+    public void exactWhenWithinCapacity()
+    {
+        HeavyHitters<String> heavyHitters = HeavyHitters.newHeavyHitters(4);
+        heavyHitters.withAll(FastList.newListWith("a", "b", "b", "c", "c", "c", null));
+        Verify.assertSize(4, heavyHitters.topOccurrences(4));
+        Assert.assertEquals(4, heavyHitters.sizeDistinct());
+        Assert.assertEquals(7L, heavyHitters.totalOccurrences());
+        Assert.assertEquals(3, heavyHitters.estimatedOccurrencesOf("c"));
+        Assert.assertEquals(3, heavyHitters.guaranteedOccurrencesOf("c"));
+        Assert.assertEquals(1, heavyHitters.estimatedOccurrencesOf(null));
+        Assert.assertEquals(0, heavyHitters.estimatedOccurrencesOf("d"));
+        Assert.assertEquals(
+                FastList.newListWith(PrimitiveTuples.pair("c", 3), PrimitiveTuples.pair("b", 2)),
+                heavyHitters.topOccurrences(2));
+        Verify.assertSize(4, heavyHitters.topOccurrences(3));
+    }
+
+    @Test
+    public void evictsTheLeastFrequentItem()
+    {
+        HeavyHitters<String> heavyHitters = HeavyHitters.<String>newHeavyHitters(2).with("a").with("a").with("b").with("c");
+        Assert.assertEquals(2, heavyHitters.sizeDistinct());
+        Assert.assertEquals(0, heavyHitters.guaranteedOccurrencesOf("b"));
+        Assert.assertEquals(2, heavyHitters.estimatedOccurrencesOf("c"));
+        Assert.assertEquals(1, heavyHitters.guaranteedOccurrencesOf("c"));
+        Assert.assertEquals(2, heavyHitters.estimatedOccurrencesOf("b"));
+        Assert.assertEquals(2, heavyHitters.guaranteedOccurrencesOf("a"));
+    }
+
+    @Test
+    public void boundsHoldOnSkewedStream()
+    {
+        HeavyHitters<Integer> heavyHitters = HeavyHitters.newHeavyHitters(20);
+        HashBag<Integer> exact = HashBag.newBag();
+        Random random = new Random(42L);
+        for (int i = 0; i < 100000; i++)
+        {
+            int item = i % 3 == 0 ? random.nextInt(5) : random.nextInt(10000);
+            heavyHitters.add(item);
+            exact.add(item);
+        }
+        Assert.assertEquals(20, heavyHitters.sizeDistinct());
+        Assert.assertEquals(exact.size(), heavyHitters.totalOccurrences());
+        for (Integer each : Interval.zeroTo(9999))
+        {
+            int occurrences = exact.occurrencesOf(each);
+            Assert.assertTrue(heavyHitters.guaranteedOccurrencesOf(each) <= occurrences);
+            Assert.assertTrue(heavyHitters.estimatedOccurrencesOf(each) >= occurrences);
+        }
+        MutableList<ObjectIntPair<Integer>> top = heavyHitters.topOccurrences(5);
+        Verify.assertSize(5, top);
+        Assert.assertEquals(Interval.zeroTo(4).toSet(), top.collect(ObjectIntPair::getOne).toSet());
+    }
+
+    @Test
+    public void addOccurrencesAndClear()
+    {
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(3);
+        heavyHitters.addOccurrences("a", 10);
+        heavyHitters.addOccurrences("b", 0);
+        Assert.assertEquals(1, heavyHitters.sizeDistinct());
+        Assert.assertEquals("[a:10]", heavyHitters.toString());
+        heavyHitters.clear();
+        Assert.assertTrue(heavyHitters.isEmpty());
+        Assert.assertEquals(0L, heavyHitters.totalOccurrences());
+        Assert.assertEquals(0, heavyHitters.estimatedOccurrencesOf("a"));
+        Verify.assertEmpty(heavyHitters.topOccurrences(1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> heavyHitters.addOccurrences("a", -1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> heavyHitters.topOccurrences(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new HeavyHitters<String>(0));
+    }
+}
@@ -55,7 +55,17 @@ public class MultiReaderHashBagTest extends MultiReaderMutableCollectionTestCase
         return MultiReaderHashBag.newBagWith(littleElements);
     }
 
-    @Override
+    @Test
+    public void newReadMostlyBag()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newReadMostlyBag(FastList.newListWith(1, 2, 2));
+        bag.add(2);
+        Assert.assertEquals(3, bag.occurrencesOf(2));
+        Assert.assertTrue(bag.contains(1));
+        Verify.assertSize(4, bag);
+        Assert.assertTrue(MultiReaderHashBag.newReadMostlyBag().isEmpty());
+    }
+
     @Test
     public void newEmpty()
     {
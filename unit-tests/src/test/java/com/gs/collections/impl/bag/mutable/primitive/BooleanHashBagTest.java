@@ -20,8 +20,10 @@ import java.util.NoSuchElementException;
 
 import com.gs.collections.api.iterator.BooleanIterator;
 import com.gs.collections.api.list.primitive.MutableBooleanList;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -124,4 +126,19 @@ public class BooleanHashBagTest extends AbstractMutableBooleanBagTestCase
         MutableBooleanList list = this.newWith(true, true, true, false).toList();
         Assert.assertEquals(list, BooleanArrayList.newListWith(false, true, true, true));
     }
+
+    @Test
+    public void topAndBottomOccurrences()
+    {
+        BooleanHashBag bag = this.newWith(true, true, true, false);
+        Assert.assertEquals(FastList.newListWith(PrimitiveTuples.pair(true, 3)), bag.topOccurrences(1));
+        Assert.assertEquals(FastList.newListWith(PrimitiveTuples.pair(false, 1)), bag.bottomOccurrences(1));
+        Assert.assertEquals(
+                FastList.newListWith(PrimitiveTuples.pair(true, 3), PrimitiveTuples.pair(false, 1)),
+                bag.topOccurrences(5));
+        Verify.assertSize(2, this.newWith(true, false).topOccurrences(1));
+        Verify.assertEmpty(bag.topOccurrences(0));
+        Verify.assertEmpty(this.newWith().bottomOccurrences(1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.topOccurrences(-1));
+    }
 }
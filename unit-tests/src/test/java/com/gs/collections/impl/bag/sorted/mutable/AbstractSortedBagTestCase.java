@@ -1876,4 +1876,25 @@ public abstract class AbstractSortedBagTestCase extends MutableBagTestCase
         Assert.assertEquals(9, integers2.detectIndex(integer -> integer == 1));
         Assert.assertEquals(-1, integers2.detectIndex(integer -> integer % 5 == 0));
     }
+
+    @Test
+    public void orderStatisticsWithComparator()
+    {
+        MutableSortedBag<Integer> bag = this.newWith(Collections.<Integer>reverseOrder(), 5, 5, 4, 3, 3, 3, 1);
+        Assert.assertEquals(Integer.valueOf(5), bag.get(1));
+        Assert.assertEquals(Integer.valueOf(3), bag.get(3));
+        Assert.assertEquals(Integer.valueOf(1), bag.get(6));
+        Assert.assertEquals(Integer.valueOf(5), bag.percentile(0.0));
+        Assert.assertEquals(Integer.valueOf(3), bag.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(1), bag.percentile(100.0));
+        Assert.assertEquals(3, bag.occurrencesBefore(3));
+        Assert.assertEquals(6, bag.occurrencesBefore(2));
+        Assert.assertEquals(4, bag.occurrencesBetween(4, 2));
+        Assert.assertEquals(0, bag.occurrencesBetween(3, 3));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.occurrencesBetween(2, 4));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.get(7));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.percentile(100.5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.percentile(Double.NaN));
+        Verify.assertThrows(NoSuchElementException.class, () -> this.newWith().percentile(50.0));
+    }
 }
@@ -18,9 +18,14 @@ package com.gs.collections.impl.bag.sorted.mutable;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.test.Verify;
@@ -79,6 +84,92 @@ public class TreeBagTest extends AbstractSortedBagTestCase
         Verify.assertSortedBagsEqual(TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 4), sortedBag);
     }
 
+    @Test
+    public void manyDistinctItems()
+    {
+        TreeBag<Integer> bag = TreeBag.newBag();
+        HashBag<Integer> expected = HashBag.newBag();
+        Random random = new Random(42L);
+        for (int i = 0; i < 20000; i++)
+        {
+            int item = random.nextInt(5000);
+            bag.add(item);
+            expected.add(item);
+        }
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(expected.sizeDistinct(), bag.sizeDistinct());
+        Assert.assertEquals(expected.toSortedList(), bag.toList());
+
+        MutableList<Integer> sorted = bag.toList();
+        for (int i = 0; i < sorted.size(); i += 97)
+        {
+            Assert.assertEquals(sorted.indexOf(sorted.get(i)), bag.indexOf(sorted.get(i)));
+        }
+        Assert.assertEquals(-1, bag.indexOf(5000));
+
+        Predicate<Integer> multipleOfThree = each -> each % 3 == 0;
+        bag.removeIf(multipleOfThree);
+        expected.removeIf(multipleOfThree);
+        for (Iterator<Integer> iterator = bag.iterator(); iterator.hasNext(); )
+        {
+            if (iterator.next() % 5 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Predicate<Integer> multipleOfFive = each -> each % 5 == 0;
+        expected.removeIf(multipleOfFive);
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(expected.toSortedList(), bag.toList());
+        Assert.assertEquals(expected.toSortedList().getFirst(), bag.getFirst());
+        Assert.assertEquals(expected.toSortedList().getLast(), bag.getLast());
+        Verify.assertSortedBagsEqual(bag, bag.clone());
+    }
+
+    @Test
+    public void iteratorRemovesSingleOccurrences()
+    {
+        TreeBag<Integer> bag = TreeBag.newBagWith(1, 1, 2, 2, 3);
+        Iterator<Integer> iterator = bag.iterator();
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+        Assert.assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.remove();
+        Assert.assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.remove();
+        Assert.assertEquals(Integer.valueOf(3), iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(1, 1, 3), bag);
+    }
+
+    @Test
+    public void orderStatistics()
+    {
+        TreeBag<Integer> bag = TreeBag.newBag();
+        Random random = new Random(7L);
+        for (int i = 0; i < 10000; i++)
+        {
+            bag.addOccurrences(random.nextInt(2000), 1 + random.nextInt(3));
+        }
+        MutableList<Integer> sorted = bag.toList();
+        for (int i = 0; i < sorted.size(); i += 31)
+        {
+            Assert.assertEquals(sorted.get(i), bag.get(i));
+        }
+        Assert.assertEquals(sorted.getFirst(), bag.percentile(0.0));
+        Assert.assertEquals(sorted.get((int) Math.ceil(sorted.size() * 0.5) - 1), bag.percentile(50.0));
+        Assert.assertEquals(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1), bag.percentile(99.0));
+        Assert.assertEquals(sorted.getLast(), bag.percentile(100.0));
+        for (int i = -1; i <= 2001; i += 37)
+        {
+            int item = i;
+            Assert.assertEquals(sorted.count(each -> each < item), bag.occurrencesBefore(item));
+        }
+        Assert.assertEquals(sorted.count(each -> each >= 500 && each < 1500), bag.occurrencesBetween(500, 1500));
+        Assert.assertEquals(0, bag.occurrencesBetween(700, 700));
+        Assert.assertEquals(bag.size(), bag.occurrencesBetween(-1, 2000));
+    }
+
     @Override
     @Test
     public void serialization()
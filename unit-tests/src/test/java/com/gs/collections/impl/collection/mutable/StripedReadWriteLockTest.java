@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedReadWriteLockTest
+{
+    @Test
+    public void writerTurnsAwayShortReads()
+    {
+        StripedReadWriteLock lock = new StripedReadWriteLock(4);
+        int stamp = lock.tryEnterRead();
+        Assert.assertTrue(stamp >= 0);
+        Assert.assertFalse(lock.writeLock().tryLock());
+        lock.exitRead(stamp);
+
+        lock.writeLock().lock();
+        lock.writeLock().lock();
+        Assert.assertEquals(-1, lock.tryEnterRead());
+        lock.writeLock().unlock();
+        Assert.assertEquals(-1, lock.tryEnterRead());
+        Assert.assertTrue(lock.readLock().tryLock());
+        lock.readLock().unlock();
+        lock.writeLock().unlock();
+
+        int next = lock.tryEnterRead();
+        Assert.assertTrue(next >= 0);
+        lock.exitRead(next);
+    }
+
+    @Test
+    public void invalidArguments()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new StripedReadWriteLock(0));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> new StripedReadWriteLock().writeLock().newCondition());
+        Verify.assertThrows(IllegalMonitorStateException.class, () -> new StripedReadWriteLock().writeLock().unlock());
+    }
+
+    @Test
+    public void shortReadsNeverSeeHalfFinishedWrites() throws Exception
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newReadMostlyList(FastList.<Integer>newList());
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            Future<?>[] readers = new Future<?>[3];
+            for (int i = 0; i < readers.length; i++)
+            {
+                readers[i] = executor.submit(() -> {
+                    while (!done.get())
+                    {
+                        Assert.assertEquals(0, list.size() % 2);
+                    }
+                });
+            }
+            for (int i = 0; i < 10000; i++)
+            {
+                list.withWriteLockAndDelegate(delegate -> {
+                    if (delegate.size() > 100)
+                    {
+                        delegate.clear();
+                    }
+                    delegate.add(1);
+                    delegate.add(2);
+                });
+            }
+            done.set(true);
+            for (Future<?> reader : readers)
+            {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(list.contains(1));
+        Verify.assertContainsAll(MultiReaderFastList.newReadMostlyList(Interval.oneTo(5)), 1, 2, 3, 4, 5);
+    }
+}
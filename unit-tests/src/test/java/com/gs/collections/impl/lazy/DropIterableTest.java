@@ -16,9 +16,13 @@
 
 package com.gs.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.math.IntegerSum;
@@ -230,4 +234,57 @@ public class DropIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(2, 3, 4, 5),
                 new DropIterable<>(FastList.newListWith(1, 1, 2, 3, 3, 3, 4, 5), 2).distinct().toList());
     }
+
+    @Test
+    public void bagSource()
+    {
+        MutableBag<Integer> bag = HashBag.newBagWith(1, 1, 1, 2);
+
+        LazyIterable<Integer> dropTwoOnes = HashBag.newBagWith(1, 1, 1, 1).asLazy().drop(2);
+        Assert.assertEquals(2, dropTwoOnes.size());
+        Assert.assertEquals(HashBag.newBagWith(1, 1), dropTwoOnes.toBag());
+        Assert.assertTrue(dropTwoOnes.anySatisfy(each -> each == 1));
+        Assert.assertTrue(HashBag.newBagWith(1, 1, 1, 1).asLazy().drop(3).anySatisfy(each -> each == 1));
+        Assert.assertFalse(HashBag.newBagWith(1, 1, 1, 1).asLazy().drop(4).anySatisfy(each -> each == 1));
+        Assert.assertNull(HashBag.newBagWith(1, 1, 1, 1).asLazy().drop(4).detect(each -> each == 1));
+
+        LazyIterable<Integer> dropThree = bag.asLazy().drop(3);
+        Assert.assertEquals(1, dropThree.size());
+        Assert.assertTrue(bag.containsAllIterable(dropThree.toBag()));
+        Assert.assertEquals(bag, bag.asLazy().drop(0).toBag());
+        Assert.assertEquals(1, LazyIterate.drop(bag, 3).count(each -> true));
+        Assert.assertTrue(bag.asLazy().drop(4).allSatisfy(each -> false));
+    }
+
+    @Test
+    public void chainedSources()
+    {
+        FastList<Integer> source = DropIterableTest.withoutIterator(10);
+        Assert.assertTrue(source.asLazy().select(each -> each % 2 == 0).drop(3).anySatisfy(each -> each == 8));
+        Assert.assertFalse(source.asLazy().select(each -> each % 2 == 0).drop(3).anySatisfy(each -> each == 6));
+        Assert.assertEquals(Integer.valueOf(27), source.asLazy().collect(each -> each * 3).drop(8).detect(each -> true));
+        Assert.assertEquals(
+                Integer.valueOf(80),
+                source.asLazy().select(each -> each % 2 == 0).collect(each -> each * 10).drop(3).detect(each -> true));
+        Assert.assertTrue(source.asLazy().flatCollect(each -> FastList.newListWith(each, each)).drop(17).anySatisfy(each -> each == 9));
+        Assert.assertFalse(source.asLazy().flatCollect(each -> FastList.newListWith(each, each)).drop(18).anySatisfy(each -> each == 9));
+        Assert.assertEquals(
+                Integer.valueOf(1),
+                source.asLazy().flatCollect(each -> HashBag.newBagWith(each, each, each)).drop(2).detect(each -> true));
+        Assert.assertEquals(
+                Integer.valueOf(2),
+                source.asLazy().flatCollect(each -> HashBag.newBagWith(each, each, each)).drop(3).detect(each -> true));
+    }
+
+    private static FastList<Integer> withoutIterator(int count)
+    {
+        return new FastList<Integer>(Interval.oneTo(count))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("drop should run on the source's anySatisfy");
+            }
+        };
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.utility.LazyIterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FusedIterableTest extends AbstractLazyIterableTestCase
+{
+    @Override
+    protected <T> LazyIterable<T> newWith(T... elements)
+    {
+        return LazyIterate.select(FastList.newListWith(elements), Predicates.alwaysTrue()).collect(Functions.<T>getPassThru());
+    }
+
+    @Test
+    public void adjacentStagesAreFused()
+    {
+        LazyIterable<Integer> source = Interval.oneTo(10).asLazy();
+        Verify.assertInstanceOf(FusedIterable.class, source.select(each -> each > 2).select(each -> each < 9));
+        Verify.assertInstanceOf(FusedIterable.class, source.reject(each -> each > 2).collect(String::valueOf));
+        Verify.assertInstanceOf(FusedIterable.class, source.collect(each -> each * 2).tap(each -> { }));
+        Verify.assertInstanceOf(FusedIterable.class, source.tap(each -> { }).selectWith(Predicates2.<Integer>lessThan(), 5));
+        Verify.assertInstanceOf(FusedIterable.class, source.collectIf(each -> each > 2, String::valueOf));
+    }
+
+    @Test
+    public void forEach()
+    {
+        MutableList<String> result = FastList.newList();
+        Interval.oneTo(20).asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .reject(each -> each % 4 == 0)
+                .collect(String::valueOf)
+                .each(result::add);
+        Assert.assertEquals(FastList.newListWith("6", "18", "30", "42", "54"), result);
+    }
+
+    @Test
+    public void forEachWithIndex()
+    {
+        MutableList<String> result = FastList.newList();
+        Interval.oneTo(10).asLazy()
+                .select(each -> each > 5)
+                .collect(each -> each * 10)
+                .forEachWithIndex((each, index) -> result.add(each + ":" + index));
+        Assert.assertEquals(FastList.newListWith("60:0", "70:1", "80:2", "90:3", "100:4"), result);
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        LazyIterable<Integer> fused = Interval.oneTo(20).asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .reject(each -> each % 4 == 0);
+        MutableList<Integer> result = FastList.newList();
+        for (Integer each : fused)
+        {
+            result.add(each);
+        }
+        Assert.assertEquals(FastList.newListWith(6, 18, 30, 42, 54), result);
+        Assert.assertEquals(result, fused.toList());
+    }
+
+    @Test
+    public void tapRunsInStageOrder()
+    {
+        StringBuilder builder = new StringBuilder();
+        LazyIterable<Integer> fused = Interval.oneTo(5).asLazy()
+                .tap(each -> builder.append('a').append(each))
+                .select(each -> each % 2 == 1)
+                .tap(each -> builder.append('b').append(each))
+                .collect(each -> each * 10);
+        Assert.assertEquals(90L, fused.sumOfInt(Integer::intValue));
+        Assert.assertEquals("a1b1a2a3b3a4a5b5", builder.toString());
+
+        builder.setLength(0);
+        Assert.assertEquals(FastList.newListWith(10, 30, 50), fused.toList());
+        Assert.assertEquals("a1b1a2a3b3a4a5b5", builder.toString());
+    }
+
+    @Test
+    public void shortCircuits()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<String> fused = FastList.newList(Interval.oneTo(100)).asLazy()
+                .tap(visited::add)
+                .select(each -> each % 3 == 0)
+                .collect(String::valueOf);
+        Assert.assertTrue(fused.anySatisfy("9"::equals));
+        Assert.assertEquals(Interval.oneTo(9), visited);
+
+        visited.clear();
+        Assert.assertEquals("3", fused.getFirst());
+        Assert.assertEquals(Interval.oneTo(3), visited);
+
+        visited.clear();
+        Assert.assertEquals("12", fused.detect(each -> each.length() == 2 && each.startsWith("1")));
+        Assert.assertFalse(fused.allSatisfy(each -> each.length() == 1));
+        Assert.assertTrue(fused.noneSatisfy("100"::equals));
+        Assert.assertEquals(12 + 12 + 100, visited.size());
+    }
+
+    @Test
+    public void size()
+    {
+        LazyIterable<Integer> source = Interval.oneTo(10).asLazy();
+        Assert.assertEquals(10, source.collect(each -> each * 2).collect(each -> each + 1).size());
+        Assert.assertEquals(4, source.select(each -> each > 2).collect(each -> each * 2).select(each -> each < 14).size());
+    }
+
+    @Test
+    public void sumOfDouble()
+    {
+        double sum = Interval.oneTo(100).asLazy()
+                .select(each -> each % 3 == 0)
+                .collect(each -> each * 1.5)
+                .select(each -> each > 10.0)
+                .sumOfDouble(Double::doubleValue);
+        double expected = 0.0;
+        for (int i = 1; i <= 100; i++)
+        {
+            if (i % 3 == 0 && i * 1.5 > 10.0)
+            {
+                expected += i * 1.5;
+            }
+        }
+        Assert.assertEquals(expected, sum, 0.0);
+    }
+}
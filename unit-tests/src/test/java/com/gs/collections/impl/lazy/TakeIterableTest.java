@@ -16,9 +16,14 @@
 
 package com.gs.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.block.procedure.CountProcedure;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
@@ -182,6 +187,38 @@ public class TakeIterableTest extends AbstractLazyIterableTestCase
         Assert.assertEquals(15, sum6.getValue().intValue());
     }
 
+    @Test
+    public void stopsEarlyOnInternalIteration()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<Integer> take = FastList.newList(Interval.oneTo(100)).asLazy()
+                .tap(visited::add)
+                .select(each -> each % 2 == 0)
+                .take(3);
+
+        MutableList<Integer> result = FastList.newList();
+        take.each(result::add);
+        Assert.assertEquals(FastList.newListWith(2, 4, 6), result);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5, 6), visited);
+
+        visited.clear();
+        Assert.assertTrue(take.anySatisfy(each -> each == 4));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), visited);
+
+        visited.clear();
+        Assert.assertFalse(take.anySatisfy(each -> each > 6));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5, 6), visited);
+
+        visited.clear();
+        Assert.assertEquals(Integer.valueOf(2), take.getFirst());
+        Assert.assertEquals(FastList.newListWith(1, 2), visited);
+
+        visited.clear();
+        Assert.assertTrue(take.allSatisfy(each -> each <= 6));
+        Assert.assertNull(take.detect(each -> each > 6));
+        Assert.assertEquals(12, visited.size());
+    }
+
     @Override
     protected <T> LazyIterable<T> newWith(T... elements)
     {
@@ -197,4 +234,60 @@ public class TakeIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 new TakeIterable<>(FastList.newListWith(3, 2, 2, 4, 1, 3, 1, 5), 7).distinct().toList());
     }
+
+    @Test
+    public void bagSource()
+    {
+        MutableBag<Integer> bag = HashBag.newBagWith(1, 1, 1, 2);
+
+        LazyIterable<Integer> takeThreeOnes = HashBag.newBagWith(1, 1, 1, 1).asLazy().take(3);
+        Assert.assertEquals(3, takeThreeOnes.size());
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 1), takeThreeOnes.toBag());
+        Assert.assertTrue(takeThreeOnes.allSatisfy(each -> each == 1));
+        Assert.assertEquals(3, takeThreeOnes.count(each -> each == 1));
+
+        LazyIterable<Integer> takeThree = bag.asLazy().take(3);
+        Assert.assertEquals(3, takeThree.size());
+        Assert.assertTrue(bag.containsAllIterable(takeThree.toBag()));
+        Assert.assertEquals(bag, bag.asLazy().take(4).toBag());
+        Assert.assertEquals(bag, LazyIterate.take(bag, 10).toBag());
+        Assert.assertEquals(Integer.valueOf(2), bag.asLazy().take(4).detect(each -> each == 2));
+        Assert.assertFalse(bag.asLazy().take(4).noneSatisfy(each -> each == 2));
+
+        MutableList<Integer> result = FastList.newList();
+        bag.asLazy().take(3).each(result::add);
+        Verify.assertSize(3, result);
+    }
+
+    @Test
+    public void chainedSources()
+    {
+        FastList<Integer> source = TakeIterableTest.withoutIterator(10);
+        Assert.assertEquals(FastList.newListWith(2, 4), source.asLazy().select(each -> each % 2 == 0).take(2).toList());
+        Assert.assertEquals(FastList.newListWith(3, 6, 9), source.asLazy().collect(each -> each * 3).take(3).toList());
+        Assert.assertEquals(
+                FastList.newListWith(20, 40),
+                source.asLazy().select(each -> each % 2 == 0).collect(each -> each * 10).take(2).toList());
+        Assert.assertEquals(
+                FastList.newListWith(1, 1, 2),
+                source.asLazy().flatCollect(each -> FastList.newListWith(each, each)).take(3).toList());
+        Assert.assertEquals(
+                FastList.newListWith(1, 1, 1, 2),
+                source.asLazy().flatCollect(each -> HashBag.newBagWith(each, each, each)).take(4).toList());
+        Assert.assertEquals(FastList.newListWith(4, 6), source.asLazy().select(each -> each % 2 == 0).take(3).drop(1).toList());
+        Assert.assertEquals(Integer.valueOf(6), source.asLazy().select(each -> each % 2 == 0).take(5).detect(each -> each > 5));
+        Assert.assertNull(source.asLazy().select(each -> each % 2 == 0).take(2).detect(each -> each > 5));
+    }
+
+    private static FastList<Integer> withoutIterator(int count)
+    {
+        return new FastList<Integer>(Interval.oneTo(count))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("take should run on the source's anySatisfy");
+            }
+        };
+    }
 }
@@ -23,9 +23,16 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -37,16 +44,24 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.set.ParallelSetIterable;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.DoubleHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.IntegerPredicates;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.Procedures2;
+import com.gs.collections.impl.block.factory.primitive.DoublePredicates;
+import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.block.factory.primitive.LongPredicates;
 import com.gs.collections.impl.block.function.NegativeIntervalFunction;
 import com.gs.collections.impl.block.function.PassThruFunction0;
 import com.gs.collections.impl.block.function.checked.CheckedFunction;
@@ -841,6 +856,56 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2));
     }
 
+    @Test
+    public void groupByHighCardinality()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).groupBy(id -> id),
+                    this.newWith(elements).groupBy(id -> id));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).groupByEach(each -> Lists.fixedSize.of(each, -each)),
+                    this.newWith(elements).groupByEach(each -> Lists.fixedSize.of(each, -each)));
+        }
+    }
+
+    @Test
+    public void aggregateByWithMergeFunction()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2),
+                this.classUnderTest().aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2, (integer1, integer2) -> integer1 + integer2));
+        Assert.assertEquals(
+                this.getExpected().aggregateBy(id -> id, () -> 0, (integer1, integer2) -> integer1 + integer2),
+                this.classUnderTest().aggregateBy(id -> id, () -> 0, (integer1, integer2) -> integer1 + integer2, (integer1, integer2) -> integer1 + integer2));
+    }
+
+    @Test
+    public void aggregateByWithStrategy()
+    {
+        ParallelIterable<Integer> parallelIterable = this.classUnderTest();
+        if (!(parallelIterable instanceof AbstractParallelIterable<?, ?>))
+        {
+            return;
+        }
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        MapIterable<Boolean, Integer> expected = this.getExpected().aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2);
+        for (AggregationStrategy strategy : AggregationStrategy.values())
+        {
+            Assert.assertEquals(
+                    strategy.name(),
+                    expected,
+                    ((AbstractParallelIterable<Integer, ?>) parallelIterable).aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2, (integer1, integer2) -> integer1 + integer2, strategy));
+        }
+    }
+
     @Test
     public void aggregateInPlaceBy()
     {
@@ -853,6 +918,123 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
     }
 
+    @Test
+    public void collectInt()
+    {
+        IntIterable expected = this.getExpected().collectInt(Integer::intValue);
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.minIfEmpty(0), actual.minIfEmpty(0));
+        Assert.assertEquals(expected.maxIfEmpty(0), actual.maxIfEmpty(0));
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.toBag(), IntHashBag.newBagWith(actual.toArray()));
+        if (this.isOrdered())
+        {
+            Assert.assertArrayEquals(expected.toArray(), actual.toArray());
+        }
+
+        Assert.assertEquals(expected.count(IntPredicates.isEven()), actual.count(IntPredicates.isEven()));
+        Assert.assertTrue(actual.anySatisfy(IntPredicates.equal(4)));
+        Assert.assertFalse(actual.anySatisfy(IntPredicates.greaterThan(4)));
+        Assert.assertTrue(actual.allSatisfy(IntPredicates.lessThan(5)));
+        Assert.assertFalse(actual.allSatisfy(IntPredicates.lessThan(4)));
+        Assert.assertTrue(actual.noneSatisfy(IntPredicates.greaterThan(4)));
+        Assert.assertEquals(3, actual.detectIfNone(IntPredicates.equal(3), 0));
+        Assert.assertEquals(0, actual.detectIfNone(IntPredicates.greaterThan(4), 0));
+
+        Assert.assertEquals(
+                expected.select(IntPredicates.isEven()).toBag(),
+                IntHashBag.newBagWith(actual.select(IntPredicates.isEven()).toArray()));
+        Assert.assertEquals(
+                expected.reject(IntPredicates.isEven()).toBag(),
+                IntHashBag.newBagWith(actual.reject(IntPredicates.isEven()).toArray()));
+        Assert.assertEquals(
+                expected.select(IntPredicates.isEven()).sum(),
+                actual.select(IntPredicates.isEven()).sum());
+        Assert.assertEquals(2, actual.select(IntPredicates.lessThan(3)).max());
+        Assert.assertEquals(3, actual.reject(IntPredicates.lessThan(3)).min());
+        Assert.assertEquals(1, actual.select(IntPredicates.isOdd()).count(IntPredicates.lessThan(3)));
+        Assert.assertEquals(
+                HashBag.newBag(expected.collect(String::valueOf)),
+                actual.collect(String::valueOf).toBag());
+        Assert.assertEquals(
+                HashBag.newBag(expected.select(IntPredicates.isOdd()).collect(String::valueOf)),
+                actual.select(IntPredicates.isOdd()).collect(String::valueOf).toBag());
+
+        AtomicLong sum = new AtomicLong();
+        actual.forEach(sum::addAndGet);
+        Assert.assertEquals(expected.sum(), sum.get());
+    }
+
+    @Test
+    public void collectInt_empty()
+    {
+        ParallelIntIterable empty = this.classUnderTest().collectInt(Integer::intValue).select(IntPredicates.greaterThan(4));
+
+        Assert.assertEquals(0L, empty.sum());
+        Assert.assertEquals(0, empty.count(IntPredicates.alwaysTrue()));
+        Assert.assertEquals(-1, empty.minIfEmpty(-1));
+        Assert.assertEquals(-1, empty.maxIfEmpty(-1));
+        Assert.assertEquals(0, empty.toArray().length);
+        Assert.assertTrue(empty.allSatisfy(IntPredicates.alwaysFalse()));
+        Verify.assertThrows(NoSuchElementException.class, empty::min);
+        Verify.assertThrows(NoSuchElementException.class, empty::max);
+        Verify.assertThrows(ArithmeticException.class, empty::average);
+    }
+
+    @Test
+    public void collectLong()
+    {
+        LongIterable expected = this.getExpected().collectLong(each -> each * 1_000_000_000L);
+        ParallelLongIterable actual = this.classUnderTest().collectLong(each -> each * 1_000_000_000L);
+
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.toBag(), LongHashBag.newBagWith(actual.toArray()));
+        Assert.assertEquals(
+                expected.select(LongPredicates.isOdd()).toBag(),
+                LongHashBag.newBagWith(actual.select(LongPredicates.isOdd()).toArray()));
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        DoubleIterable expected = this.getExpected().collectDouble(each -> each / 4.0);
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(each -> each / 4.0);
+
+        Assert.assertEquals(expected.sum(), actual.sum(), 0.0);
+        Assert.assertEquals(expected.min(), actual.min(), 0.0);
+        Assert.assertEquals(expected.max(), actual.max(), 0.0);
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.toBag(), DoubleHashBag.newBagWith(actual.toArray()));
+        Assert.assertEquals(
+                expected.select(DoublePredicates.greaterThan(0.5)).sum(),
+                actual.select(DoublePredicates.greaterThan(0.5)).sum(),
+                0.0);
+        Assert.assertEquals(0.5, actual.select(DoublePredicates.greaterThan(0.25)).min(), 0.0);
+    }
+
+    @Test
+    public void collectOtherPrimitives()
+    {
+        RichIterable<Integer> expected = this.getExpected();
+        ParallelIterable<Integer> actual = this.classUnderTest();
+
+        Assert.assertEquals(expected.collectByte(Integer::byteValue).sum(), actual.collectByte(Integer::byteValue).sum());
+        Assert.assertEquals(expected.collectByte(Integer::byteValue).toBag(), ByteHashBag.newBagWith(actual.collectByte(Integer::byteValue).toArray()));
+        Assert.assertEquals(expected.collectShort(Integer::shortValue).sum(), actual.collectShort(Integer::shortValue).sum());
+        Assert.assertEquals(expected.collectShort(Integer::shortValue).max(), actual.collectShort(Integer::shortValue).max());
+        Assert.assertEquals(expected.collectChar(each -> (char) ('a' + each)).sum(), actual.collectChar(each -> (char) ('a' + each)).sum());
+        Assert.assertEquals(expected.collectChar(each -> (char) ('a' + each)).min(), actual.collectChar(each -> (char) ('a' + each)).min());
+        Assert.assertEquals(expected.collectFloat(Integer::floatValue).sum(), actual.collectFloat(Integer::floatValue).sum(), 0.0);
+        Assert.assertEquals(expected.collectFloat(Integer::floatValue).max(), actual.collectFloat(Integer::floatValue).max(), 0.0f);
+    }
+
     @Test
     public void sumOfInt()
     {
@@ -900,6 +1082,74 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void sumByInt()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                this.classUnderTest().sumByInt(isOddFunction, Integer::intValue));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Function<Integer, Integer> identity = id -> id;
+        Assert.assertEquals(
+                this.getExpected().sumByLong(identity, Integer::longValue),
+                this.classUnderTest().sumByLong(identity, Integer::longValue));
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(isOddFunction, Integer::floatValue),
+                this.classUnderTest().sumByFloat(isOddFunction, Integer::floatValue));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Function<Integer, Integer> identity = id -> id;
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(identity, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(identity, Integer::doubleValue));
+    }
+
+    @Test
+    public void sumByWithStrategy()
+    {
+        ParallelIterable<Integer> parallelIterable = this.classUnderTest();
+        if (!(parallelIterable instanceof AbstractParallelIterable<?, ?>))
+        {
+            return;
+        }
+        AbstractParallelIterable<Integer, ?> abstractParallelIterable = (AbstractParallelIterable<Integer, ?>) parallelIterable;
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Function<Integer, Integer> identity = id -> id;
+        for (AggregationStrategy strategy : AggregationStrategy.values())
+        {
+            Assert.assertEquals(
+                    strategy.name(),
+                    this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                    abstractParallelIterable.sumByInt(isOddFunction, Integer::intValue, strategy));
+            Assert.assertEquals(
+                    strategy.name(),
+                    this.getExpected().sumByLong(identity, Integer::longValue),
+                    abstractParallelIterable.sumByLong(identity, Integer::longValue, strategy));
+            Assert.assertEquals(
+                    strategy.name(),
+                    this.getExpected().sumByFloat(isOddFunction, Integer::floatValue),
+                    abstractParallelIterable.sumByFloat(isOddFunction, Integer::floatValue, strategy));
+            Assert.assertEquals(
+                    strategy.name(),
+                    this.getExpected().sumByDouble(identity, Integer::doubleValue),
+                    abstractParallelIterable.sumByDouble(identity, Integer::doubleValue, strategy));
+        }
+    }
+
     @Test
     public void sumOfDouble()
     {
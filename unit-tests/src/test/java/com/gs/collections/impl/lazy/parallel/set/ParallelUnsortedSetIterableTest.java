@@ -16,8 +16,14 @@
 
 package com.gs.collections.impl.lazy.parallel.set;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelUnsortedSetIterableTest extends ParallelUnsortedSetIterableTestCase
@@ -34,6 +40,39 @@ public class ParallelUnsortedSetIterableTest extends ParallelUnsortedSetIterable
         return UnifiedSet.newSetWith(littleElements).asParallel(this.executorService, this.batchSize);
     }
 
+    @Test
+    public void adaptiveAggregationCallsFunctionsOncePerElement()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(20000));
+        AtomicInteger collectCalls = new AtomicInteger();
+        AtomicInteger keyCalls = new AtomicInteger();
+        Multimap<Integer, Integer> grouped = set.asParallel(this.executorService, 500)
+                .collect(each -> {
+                    collectCalls.incrementAndGet();
+                    return each;
+                })
+                .groupBy(each -> {
+                    keyCalls.incrementAndGet();
+                    return each;
+                });
+        Assert.assertEquals(20000, collectCalls.get());
+        Assert.assertEquals(20000, keyCalls.get());
+        Assert.assertEquals(20000, grouped.size());
+        Assert.assertEquals(20000, grouped.sizeDistinct());
+
+        keyCalls.set(0);
+        MapIterable<Integer, Integer> sums = set.asParallel(this.executorService, 500).aggregateBy(
+                each -> {
+                    keyCalls.incrementAndGet();
+                    return each % 10000;
+                },
+                () -> 0,
+                (integer1, integer2) -> integer1 + integer2,
+                (integer1, integer2) -> integer1 + integer2);
+        Assert.assertEquals(20000, keyCalls.get());
+        Assert.assertEquals(set.aggregateBy(each -> each % 10000, () -> 0, (integer1, integer2) -> integer1 + integer2), sums);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void asParallel_small_batch()
     {
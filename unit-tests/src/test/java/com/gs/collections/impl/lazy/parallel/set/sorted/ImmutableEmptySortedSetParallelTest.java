@@ -224,4 +224,35 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
     {
         this.classUnderTest().maxBy(Integer::valueOf);
     }
+
+    @Override
+    @Test(expected = NoSuchElementException.class)
+    public void collectInt()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).min();
+    }
+
+    @Override
+    @Test(expected = NoSuchElementException.class)
+    public void collectLong()
+    {
+        this.classUnderTest().collectLong(Integer::longValue).max();
+    }
+
+    @Override
+    @Test(expected = ArithmeticException.class)
+    public void collectDouble()
+    {
+        this.classUnderTest().collectDouble(Integer::doubleValue).average();
+    }
+
+    @Override
+    @Test
+    public void collectOtherPrimitives()
+    {
+        Assert.assertEquals(0L, this.classUnderTest().collectByte(Integer::byteValue).sum());
+        Assert.assertEquals(0L, this.classUnderTest().collectShort(Integer::shortValue).sum());
+        Assert.assertEquals(0L, this.classUnderTest().collectChar(each -> (char) each.intValue()).sum());
+        Assert.assertEquals(0.0, this.classUnderTest().collectFloat(Integer::floatValue).sum(), 0.0);
+    }
 }
@@ -30,6 +30,7 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.collection.primitive.ImmutableBooleanCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.TransientList;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -398,6 +399,42 @@ public abstract class AbstractImmutableListTestCase extends AbstractImmutableCol
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.classUnderTest().castToList().addAll(0, Lists.fixedSize.<Integer>of()));
     }
 
+    @Test
+    public void newWithReplaced()
+    {
+        ImmutableList<Integer> list = this.classUnderTest();
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithReplaced(list.size(), 0));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithReplaced(-1, 0));
+        if (list.notEmpty())
+        {
+            MutableList<Integer> expected = FastList.newList(list);
+            expected.set(list.size() - 1, 0);
+            ImmutableList<Integer> replaced = list.newWithReplaced(list.size() - 1, 0);
+            Assert.assertEquals(expected, replaced);
+            Assert.assertNotEquals(list, replaced);
+            Assert.assertEquals(Integer.valueOf(list.size()), list.getLast());
+        }
+    }
+
+    @Test
+    public void toTransient()
+    {
+        ImmutableList<Integer> list = this.classUnderTest();
+        TransientList<Integer> transientList = list.toTransient();
+        Assert.assertEquals(list.size(), transientList.size());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> transientList.withReplaced(list.size(), 0));
+        transientList.withAll(Interval.oneTo(100)).with(0).withReplaced(0, -1);
+        Assert.assertEquals(Integer.valueOf(-1), transientList.get(0));
+
+        MutableList<Integer> expected = FastList.newList(list);
+        expected.addAllIterable(Interval.oneTo(100));
+        expected.add(0);
+        expected.set(0, -1);
+        Assert.assertEquals(expected, transientList.toImmutable());
+        Assert.assertEquals(this.classUnderTest(), list);
+        Verify.assertThrows(IllegalStateException.class, () -> transientList.with(1));
+    }
+
     @Test
     public void subList()
     {
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.TransientList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newList(Interval.oneTo(9));
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 40000; i++)
+        {
+            ImmutableList<Integer> with = list.newWith(i);
+            Verify.assertSize(i, list);
+            Assert.assertEquals(Integer.valueOf(i), with.get(i));
+            list = with;
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        for (int i = 0; i < 40000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1000));
+        ImmutableList<Integer> withAll = list.newWithAll(Interval.fromTo(1001, 40000));
+        Verify.assertSize(1000, list);
+        Assert.assertEquals(Interval.oneTo(40000), withAll);
+        Assert.assertEquals(Interval.oneTo(40001), withAll.newWith(40001));
+        Assert.assertEquals(list, list.newWithAll(FastList.<Integer>newList()));
+    }
+
+    @Test
+    public void newWithReplacedSharesOriginal()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.zeroTo(39999));
+        ImmutableList<Integer> replaced = list;
+        for (int i = 0; i < 40000; i += 7)
+        {
+            replaced = replaced.newWithReplaced(i, -i);
+        }
+        for (int i = 0; i < 40000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+            Assert.assertEquals(Integer.valueOf(i % 7 == 0 ? -i : i), replaced.get(i));
+        }
+    }
+
+    @Test
+    public void toTransient()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(Interval.zeroTo(39999));
+        TransientList<Integer> transientList = list.toTransient();
+        for (int i = 0; i < 40000; i += 7)
+        {
+            transientList.withReplaced(i, -i);
+        }
+        transientList.withAll(Interval.fromTo(40000, 49999));
+        ImmutableList<Integer> frozen = transientList.toImmutable();
+        Verify.assertInstanceOf(ImmutableTrieList.class, frozen);
+        Verify.assertSize(50000, frozen);
+        for (int i = 0; i < 50000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), i < 40000 ? list.get(i) : frozen.get(i));
+            Assert.assertEquals(Integer.valueOf(i < 40000 && i % 7 == 0 ? -i : i), frozen.get(i));
+        }
+        Verify.assertInstanceOf(ImmutableArrayList.class, ImmutableTrieList.newList(Interval.oneTo(20)).toTransient().toImmutable());
+    }
+
+    @Test
+    public void newWithout()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(100));
+        Assert.assertEquals(Interval.fromTo(2, 100), list.newWithout(1));
+        Assert.assertSame(list, list.newWithout(101));
+    }
+
+    @Test
+    public void factory()
+    {
+        Integer[] items = Interval.oneTo(20).toArray();
+        Verify.assertInstanceOf(ImmutableTrieList.class, new ImmutableListFactoryImpl(19).with(items));
+        Verify.assertInstanceOf(ImmutableTrieList.class, new ImmutableListFactoryImpl(19).withAll(FastList.newListWith(items)));
+        Verify.assertInstanceOf(ImmutableArrayList.class, new ImmutableListFactoryImpl(20).with(items));
+        Assert.assertEquals(Interval.oneTo(20), new ImmutableListFactoryImpl(19).with(items));
+
+        ImmutableList<Integer> large = ImmutableArrayList.newListWith(Interval.oneTo(ImmutableListFactoryImpl.DEFAULT_TRIE_THRESHOLD).toArray());
+        Verify.assertInstanceOf(ImmutableTrieList.class, large.newWith(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeFactoryThreshold()
+    {
+        new ImmutableListFactoryImpl(-1);
+    }
+}
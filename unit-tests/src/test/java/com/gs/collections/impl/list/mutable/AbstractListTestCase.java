@@ -23,6 +23,8 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.collection.MutableCollection;
@@ -488,6 +490,51 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(Interval.fromToBy(1000, 1, -1).toList(), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Integer> small = this.newWith(3, 1, 2);
+            Assert.assertSame(small, small.sortThisParallel(executor));
+            Assert.assertEquals(FastList.newListWith(1, 2, 3), small);
+
+            MutableList<Integer> actual = this.newWith(Interval.oneTo(100_000).toArray());
+            Collections.shuffle(actual);
+            MutableList<Integer> sorted = actual.sortThisParallel(executor);
+            Assert.assertSame(actual, sorted);
+            Assert.assertEquals(Interval.oneTo(100_000).toList(), actual);
+
+            Collections.shuffle(actual);
+            actual.sortThisParallel(Collections.<Integer>reverseOrder(), executor);
+            Assert.assertEquals(Interval.fromToBy(100_000, 1, -1).toList(), actual);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void sortThisByParallel_is_stable()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Integer> actual = this.newWith(Interval.oneTo(100_000).toArray());
+            Collections.shuffle(actual);
+            MutableList<Integer> expected = FastList.newList(actual).sortThisBy(each -> each % 10);
+            MutableList<Integer> sorted = actual.sortThisByParallel(each -> each % 10, executor);
+            Assert.assertSame(actual, sorted);
+            Assert.assertEquals(expected, actual);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void sortThisBy()
     {
@@ -168,6 +168,18 @@ public class UnmodifiableMutableListTest
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThisByDouble(null));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThisParallel(null));
+        Verify.assertThrows(
+                UnsupportedOperationException.class,
+                () -> this.unmodifiableList.sortThisParallel(String::compareTo, null));
+        Verify.assertThrows(
+                UnsupportedOperationException.class,
+                () -> this.unmodifiableList.sortThisByParallel(Functions.getStringToInteger(), null));
+    }
+
     @Test
     public void reverseThis()
     {
@@ -190,6 +190,14 @@ public abstract class UnmodifiableMutableListTestCase extends UnmodifiableMemory
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisByDouble(null));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisParallel(null));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisParallel(Comparators.naturalOrder(), null));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisByParallel(String::valueOf, null));
+    }
+
     @Test
     public void reverseThis()
     {
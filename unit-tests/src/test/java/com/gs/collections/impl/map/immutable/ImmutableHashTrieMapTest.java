@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.Key;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValueSharesUnchangedVersion()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 10000; i++)
+        {
+            map = map.newWithKeyValue(i, String.valueOf(i));
+        }
+        ImmutableHashTrieMap<Integer, String> updated = map.newWithKeyValue(5000, "five thousand");
+        Verify.assertIterableSize(10000, map);
+        Verify.assertIterableSize(10000, updated);
+        Assert.assertEquals("5000", map.get(5000));
+        Assert.assertEquals("five thousand", updated.get(5000));
+        Assert.assertSame(updated, updated.newWithKeyValue(5000, updated.get(5000)));
+
+        ImmutableHashTrieMap<Integer, String> added = map.newWithKeyValue(10000, "10000");
+        Verify.assertIterableSize(10000, map);
+        Verify.assertIterableSize(10001, added);
+        Assert.assertFalse(map.containsKey(10000));
+        Assert.assertEquals("10000", added.get(10000));
+    }
+
+    @Test
+    public void newWithoutKeyToEmpty()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 10000; i++)
+        {
+            map = map.newWithKeyValue(i * 31, String.valueOf(i));
+        }
+        UnifiedMap<Integer, String> expected = UnifiedMap.newMap(map);
+        for (int i = 0; i < 10000; i += 2)
+        {
+            map = map.newWithoutKey(i * 31);
+            expected.remove(i * 31);
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Assert.assertSame(map, map.newWithoutKey(-1));
+        for (int i = 1; i < 10000; i += 2)
+        {
+            map = map.newWithoutKey(i * 31);
+        }
+        Verify.assertIterableEmpty(map);
+        Assert.assertSame(ImmutableHashTrieMap.empty(), map);
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        Key aa = new Key("Aa");
+        Key bb = new Key("BB");
+        Assert.assertEquals(aa.hashCode(), bb.hashCode());
+        ImmutableHashTrieMap<Object, Integer> map = ImmutableHashTrieMap.<Object, Integer>empty()
+                .newWithKeyValue(aa, 1)
+                .newWithKeyValue(bb, 2)
+                .newWithKeyValue(null, 3);
+        Verify.assertIterableSize(3, map);
+        Assert.assertEquals(Integer.valueOf(1), map.get(new Key("Aa")));
+        Assert.assertEquals(Integer.valueOf(2), map.get(new Key("BB")));
+        Assert.assertEquals(Integer.valueOf(3), map.get(null));
+        Assert.assertNull(map.get(new Key("C#")));
+
+        ImmutableHashTrieMap<Object, Integer> removed = map.newWithoutKey(new Key("Aa"));
+        Verify.assertIterableSize(2, removed);
+        Assert.assertFalse(removed.containsKey(aa));
+        Assert.assertEquals(Integer.valueOf(2), removed.get(bb));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(bb, 2, null, 3), removed);
+    }
+
+    @Test
+    public void transientEditsInPlace()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 20000; i++)
+        {
+            map = map.newWithKeyValue(i, String.valueOf(i));
+        }
+        ImmutableHashTrieMap.TransientHashTrieMap<Integer, String> transientMap = map.toTransient();
+        UnifiedMap<Integer, String> expected = UnifiedMap.newMap(map);
+        for (int i = 0; i < 20000; i += 3)
+        {
+            transientMap.withoutKey(i).withKeyValue(i + 20000, "new");
+            expected.remove(i);
+            expected.put(i + 20000, "new");
+        }
+        ImmutableMap<Integer, String> frozen = transientMap.toImmutable();
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, frozen);
+        Assert.assertEquals(expected, frozen);
+        Verify.assertIterableSize(20000, map);
+        Assert.assertEquals("0", map.get(0));
+        Assert.assertFalse(map.containsKey(20000));
+
+        Assert.assertSame(map, map.toTransient().withKeyValue(0, map.get(0)).withoutKey(-1).toTrie());
+        ImmutableHashTrieMap<Integer, String> small = map.newWithoutAllKeys(Interval.fromTo(10, 19999));
+        Verify.assertIterableSize(10, small);
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, small.toTransient().toImmutable());
+        Verify.assertThrows(IllegalStateException.class, () -> transientMap.withKeyValue(0, "0"));
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        for (int i = 0; i < 6; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, new ImmutableMapFactoryImpl(5).withAll(map));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, new ImmutableMapFactoryImpl(6).withAll(map));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, new ImmutableMapFactoryImpl().withAll(map));
+        Assert.assertEquals(map, new ImmutableMapFactoryImpl(5).withAll(map));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeFactoryThreshold()
+    {
+        new ImmutableMapFactoryImpl(-1);
+    }
+}
@@ -21,6 +21,8 @@ import java.util.Map;
 
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -58,4 +60,24 @@ public abstract class ImmutableMapTestCase extends ImmutableMapIterableTestCase
         Assert.assertEquals(immutable.size(), immutable.castToMap().entrySet().size());
         Assert.assertEquals(map.entrySet(), immutable.castToMap().entrySet());
     }
+
+    @Test
+    public void toTransient()
+    {
+        ImmutableMap<Integer, String> immutable = this.classUnderTest();
+        TransientMap<Integer, String> transientMap = immutable.toTransient();
+        Assert.assertEquals(immutable.size(), transientMap.size());
+        transientMap.withKeyValue(0, "0").withKeyValue(1, "One").withoutKey(2);
+        Assert.assertEquals("0", transientMap.get(0));
+        Assert.assertTrue(transientMap.containsKey(1));
+        Assert.assertFalse(transientMap.containsKey(2));
+
+        MutableMap<Integer, String> expected = immutable.toMap();
+        expected.put(0, "0");
+        expected.put(1, "One");
+        expected.removeKey(2);
+        Assert.assertEquals(expected, transientMap.toImmutable());
+        Assert.assertEquals(this.classUnderTest(), immutable);
+        Verify.assertThrows(IllegalStateException.class, () -> transientMap.withKeyValue(3, "3"));
+    }
 }
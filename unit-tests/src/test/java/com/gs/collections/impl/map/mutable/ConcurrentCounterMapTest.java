@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentCounterMapTest
+{
+    @Test
+    public void addToValue()
+    {
+        ConcurrentCounterMap<String> map = ConcurrentCounterMap.newMap();
+        Assert.assertTrue(map.isEmpty());
+        map.addToValue("a", 5L);
+        map.addToValue("a", Integer.MAX_VALUE);
+        map.increment("b");
+        Verify.assertSize(2, map.toObjectLongMap());
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(Integer.MAX_VALUE + 5L, map.get("a"));
+        Assert.assertEquals(1L, map.get("b"));
+        Assert.assertEquals(0L, map.get("c"));
+        Assert.assertTrue(map.containsKey("b"));
+        Assert.assertFalse(map.containsKey("c"));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues("a", Integer.MAX_VALUE + 5L, "b", 1L), map.toObjectLongMap());
+    }
+
+    @Test
+    public void parallelSumAndCountIntoHotKeys()
+    {
+        ConcurrentCounterMap<String> sums = ConcurrentCounterMap.newMap();
+        ConcurrentCounterMap<Integer> counts = ConcurrentCounterMap.newMap();
+        Procedure<Integer> sumByParity = sums.sumByProcedure(each -> each % 2 == 0 ? "Even" : "Odd", Integer::longValue);
+        Procedure<Integer> countByMod3 = counts.countByProcedure(each -> each % 3);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(100000), sumByParity, 100, executor);
+            ParallelIterate.forEach(Interval.oneTo(100000), countByMod3, 100, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues("Even", 2500050000L, "Odd", 2500000000L), sums.toObjectLongMap());
+        Assert.assertEquals(33333L, counts.get(0));
+        Assert.assertEquals(33334L, counts.get(1));
+        Assert.assertEquals(33333L, counts.get(2));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void concurrentPutAndRemove() throws Exception
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            Future<?>[] writers = new Future<?>[4];
+            for (int i = 0; i < writers.length; i++)
+            {
+                int offset = i * 10000;
+                writers[i] = executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++)
+                    {
+                        multimap.put(j % 16, offset + j);
+                    }
+                    for (int j = 0; j < 10000; j += 2)
+                    {
+                        Assert.assertTrue(multimap.remove(j % 16, offset + j));
+                    }
+                });
+            }
+            for (Future<?> writer : writers)
+            {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Verify.assertSize(20000, multimap);
+        Assert.assertEquals(8, multimap.sizeDistinct());
+        Assert.assertEquals(Interval.fromToBy(1, 39999, 2), multimap.valuesView().toSortedList());
+        Assert.assertEquals(Interval.fromToBy(1, 9999, 16), multimap.get(1).select(each -> each < 10000));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelArraySortTest
+{
+    private static final int SIZE = 100_000;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void sort()
+    {
+        for (int taskCount : new int[]{1, 2, 3, 4, 8, 16})
+        {
+            Integer[] actual = Interval.oneTo(SIZE).toArray();
+            Collections.shuffle(Arrays.asList(actual), new Random(taskCount));
+            ParallelArraySort.sort(actual, 0, actual.length, null, this.executor, taskCount);
+            Assert.assertArrayEquals(Interval.oneTo(SIZE).toArray(), actual);
+        }
+    }
+
+    @Test
+    public void sortWithComparator()
+    {
+        Integer[] actual = Interval.oneTo(SIZE).toArray();
+        Collections.shuffle(Arrays.asList(actual), new Random(1L));
+        ParallelArraySort.sort(actual, Collections.<Integer>reverseOrder(), this.executor);
+        Assert.assertArrayEquals(Interval.fromToBy(SIZE, 1, -1).toArray(), actual);
+    }
+
+    @Test
+    public void sortIsStable()
+    {
+        Integer[] actual = Interval.oneTo(SIZE).toArray();
+        Collections.shuffle(Arrays.asList(actual), new Random(2L));
+        Integer[] expected = actual.clone();
+        Comparator<Integer> byLastDigit = Comparators.byFunction(each -> each % 10);
+        Arrays.sort(expected, byLastDigit);
+        ParallelArraySort.sort(actual, 0, actual.length, byLastDigit, this.executor, 8);
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void sortRange()
+    {
+        Integer[] actual = Interval.oneTo(SIZE).toArray();
+        Collections.shuffle(Arrays.asList(actual).subList(1000, SIZE - 1000), new Random(3L));
+        Integer[] shuffled = actual.clone();
+        ParallelArraySort.sort(actual, 1000, SIZE - 1000, null, this.executor, 8);
+        Assert.assertArrayEquals(Interval.oneTo(SIZE).toArray(), actual);
+
+        Integer[] untouched = shuffled.clone();
+        ParallelArraySort.sort(untouched, 5, 5, null, this.executor);
+        Assert.assertArrayEquals(shuffled, untouched);
+
+        Verify.assertThrows(IllegalArgumentException.class, () -> ParallelArraySort.sort(shuffled, 2, 1, null, this.executor));
+        Verify.assertThrows(ArrayIndexOutOfBoundsException.class, () -> ParallelArraySort.sort(shuffled, -1, 1, null, this.executor));
+        Verify.assertThrows(ArrayIndexOutOfBoundsException.class, () -> ParallelArraySort.sort(shuffled, 0, SIZE + 1, null, this.executor));
+    }
+
+    @Test
+    public void sortPropagatesComparatorFailure()
+    {
+        Integer[] actual = Interval.oneTo(SIZE).toArray();
+        Collections.shuffle(Arrays.asList(actual), new Random(4L));
+        Comparator<Integer> failing = (one, two) -> {
+            throw new IllegalStateException();
+        };
+        Verify.assertThrows(RuntimeException.class, () -> ParallelArraySort.sort(actual, 0, actual.length, failing, this.executor, 8));
+    }
+
+    @Test
+    public void sortInts()
+    {
+        Random random = new Random(5L);
+        int[] actual = new int[SIZE];
+        for (int i = 0; i < actual.length; i++)
+        {
+            actual[i] = random.nextInt();
+        }
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+        ParallelIntArraySort.sort(actual, 0, actual.length, this.executor, 8);
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void sortDoubles()
+    {
+        Random random = new Random(6L);
+        double[] actual = new double[SIZE];
+        for (int i = 0; i < actual.length; i++)
+        {
+            actual[i] = random.nextGaussian();
+        }
+        actual[10] = Double.NaN;
+        actual[20] = -0.0;
+        actual[30] = 0.0;
+        actual[40] = Double.NEGATIVE_INFINITY;
+        double[] expected = actual.clone();
+        Arrays.sort(expected);
+        ParallelDoubleArraySort.sort(actual, this.executor);
+        Assert.assertArrayEquals(expected, actual, 0.0);
+        Assert.assertTrue(Double.isNaN(actual[SIZE - 1]));
+    }
+}
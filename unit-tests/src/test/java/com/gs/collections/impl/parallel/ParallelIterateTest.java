@@ -26,6 +26,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gs.collections.api.LazyIterable;
@@ -46,6 +47,7 @@ import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.ConcurrentHashBag;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.HashingStrategies;
@@ -167,6 +169,98 @@ public class ParallelIterateTest
         Assert.assertEquals(5050, sum4.getSum());
     }
 
+    @Test
+    public void forEachWithAdaptiveBatchSizer()
+    {
+        MutableList<BatchingDecision> decisions = FastList.<BatchingDecision>newList().asSynchronized();
+        AdaptiveBatchSizer fineGrained = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.NANOSECONDS)
+                .withSampleSize(10)
+                .withParallelism(4)
+                .withListener(decisions::add);
+        ConcurrentHashBag<Integer> visited = ConcurrentHashBag.newBag();
+        Procedure<Integer> addToVisited = visited::add;
+        ParallelIterate.forEach(Interval.oneTo(1000).toList(), addToVisited, fineGrained, this.executor);
+        Assert.assertEquals(Interval.oneTo(1000).toBag(), visited);
+        BatchingDecision decision = Iterate.getOnly(decisions);
+        Assert.assertEquals(1000, decision.getSize());
+        Assert.assertEquals(1, decision.getSampleCount());
+        Assert.assertEquals(1, decision.getBatchSize());
+        Assert.assertEquals(999, decision.getTaskCount());
+
+        decisions.clear();
+        AdaptiveBatchSizer coarse = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.HOURS)
+                .withSampleSize(2000)
+                .withListener(decisions::add);
+        ConcurrentHashBag<Integer> visited2 = ConcurrentHashBag.newBag();
+        Procedure<Integer> addToVisited2 = visited2::add;
+        ParallelIterate.forEach(Interval.oneTo(1000).toSet(), addToVisited2, coarse, this.executor);
+        Assert.assertEquals(Interval.oneTo(1000).toBag(), visited2);
+        Assert.assertEquals(0, Iterate.getOnly(decisions).getTaskCount());
+
+        ParallelIterate.forEach(FastList.<Integer>newList(), addToVisited, fineGrained, this.executor);
+        Verify.assertSize(1, decisions);
+    }
+
+    @Test
+    public void adaptiveBatchSizerStopsSamplingAtItsLimits()
+    {
+        MutableList<BatchingDecision> decisions = FastList.<BatchingDecision>newList().asSynchronized();
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.HOURS)
+                .withSampleSize(100)
+                .withParallelism(4)
+                .withListener(decisions::add);
+        Procedure<Integer> noop = each -> { };
+        ParallelIterate.forEach(Interval.oneTo(1000).toList(), noop, sizer, this.executor);
+        Assert.assertEquals(100, Iterate.getOnly(decisions).getSampleCount());
+
+        decisions.clear();
+        AdaptiveBatchSizer timeLimited = AdaptiveBatchSizer.withTargetBatchTime(40L, TimeUnit.MILLISECONDS)
+                .withParallelism(4)
+                .withListener(decisions::add);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(10L), timeLimited.getSampleNanosLimit());
+        ConcurrentHashBag<Integer> visited = ConcurrentHashBag.newBag();
+        Procedure<Integer> slowAdd = each -> {
+            visited.add(each);
+            try
+            {
+                Thread.sleep(1L);
+            }
+            catch (InterruptedException e)
+            {
+                throw new RuntimeException(e);
+            }
+        };
+        ParallelIterate.forEach(Interval.oneTo(200).toList(), slowAdd, timeLimited, this.executor);
+        Assert.assertEquals(Interval.oneTo(200).toBag(), visited);
+        BatchingDecision decision = Iterate.getOnly(decisions);
+        Assert.assertTrue(decision.toString(), decision.getSampleCount() < 32);
+        Assert.assertTrue(decision.toString(), decision.getTaskCount() > 1);
+    }
+
+    @Test
+    public void adaptiveBatchSizerDecisions()
+    {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.withTargetBatchTime(10L, TimeUnit.MICROSECONDS).withParallelism(4);
+        BatchingDecision expensive = sizer.decide(1000, 100, 100000L);
+        Assert.assertEquals(1000.0, expensive.getNanosPerElement(), 0.0);
+        Assert.assertEquals(10, expensive.getBatchSize());
+        Assert.assertEquals(90, expensive.getTaskCount());
+
+        AdaptiveBatchSizer cheapSizer = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.MILLISECONDS).withParallelism(4);
+        BatchingDecision cheapAndSmall = cheapSizer.decide(1000000, 1000, 1000L);
+        Assert.assertEquals(999000, cheapAndSmall.getBatchSize());
+        Assert.assertEquals(1, cheapAndSmall.getTaskCount());
+        BatchingDecision cheapAndLarge = cheapSizer.decide(10000000, 1000, 1000L);
+        Assert.assertEquals(1000000, cheapAndLarge.getBatchSize());
+        Assert.assertEquals(10, cheapAndLarge.getTaskCount());
+        BatchingDecision coarse = AdaptiveBatchSizer.withTargetBatchTime(1L, TimeUnit.SECONDS).withParallelism(4).decide(1001000, 1000, 1000L);
+        Assert.assertEquals(1, coarse.getTaskCount());
+
+        Verify.assertThrows(IllegalArgumentException.class, () -> AdaptiveBatchSizer.withTargetBatchTime(0L, TimeUnit.MILLISECONDS));
+        Verify.assertThrows(IllegalArgumentException.class, () -> sizer.withSampleSize(0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> sizer.withParallelism(0));
+    }
+
     @Test
     public void testForEachUsingMap()
     {
@@ -502,6 +596,19 @@ public class ParallelIterateTest
         Verify.assertThrows(IllegalArgumentException.class, () -> ParallelIterate.groupBy(null, null, 1));
     }
 
+    @Test
+    public void countBy()
+    {
+        LazyIterable<Integer> iterable = Interval.oneTo(1000).concatenate(Interval.oneTo(1000)).concatenate(Interval.oneTo(1000));
+        Bag<String> expected = iterable.collect(String::valueOf).toBag();
+        Assert.assertEquals(expected, ParallelIterate.countBy(iterable.toList(), String::valueOf));
+        Assert.assertEquals(expected, ParallelIterate.countBy(iterable.toList(), String::valueOf, 100));
+        Assert.assertEquals(expected, ParallelIterate.countBy(iterable.toBag(), String::valueOf, 100, this.executor));
+        Bag<String> evenOrOdd = ParallelIterate.countBy(Interval.oneTo(2000), EVEN_OR_ODD);
+        Assert.assertEquals(1000, evenOrOdd.occurrencesOf("Even"));
+        Assert.assertEquals(1000, evenOrOdd.occurrencesOf("Odd"));
+    }
+
     @Test
     public void aggregateInPlaceBy()
     {
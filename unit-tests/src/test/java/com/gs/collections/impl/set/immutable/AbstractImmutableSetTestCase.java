@@ -27,6 +27,7 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.multimap.set.ImmutableSetMultimap;
 import com.gs.collections.api.set.ImmutableSet;
 import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.TransientSet;
 import com.gs.collections.api.set.UnsortedSetIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
@@ -73,6 +74,25 @@ public abstract class AbstractImmutableSetTestCase extends AbstractImmutableColl
         Verify.assertSize(immutable.size() + 1, immutable.newWith(immutable.size() + 1).castToSet());
     }
 
+    @Test
+    public void toTransient()
+    {
+        ImmutableSet<Integer> immutable = this.classUnderTest();
+        TransientSet<Integer> transientSet = immutable.toTransient();
+        Assert.assertEquals(immutable.size(), transientSet.size());
+        transientSet.with(0).withAll(Interval.fromTo(immutable.size() + 1, immutable.size() + 10)).without(1);
+        Assert.assertTrue(transientSet.contains(0));
+        Assert.assertFalse(transientSet.contains(1));
+
+        MutableSet<Integer> expected = UnifiedSet.newSet(immutable);
+        expected.add(0);
+        expected.addAllIterable(Interval.fromTo(immutable.size() + 1, immutable.size() + 10));
+        expected.remove(1);
+        Assert.assertEquals(expected, transientSet.toImmutable());
+        Assert.assertEquals(this.classUnderTest(), immutable);
+        Verify.assertThrows(IllegalStateException.class, () -> transientSet.with(-1));
+    }
+
     @Test
     public void newWithout()
     {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void newWithAndNewWithout()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSetWith();
+        UnifiedSet<Integer> expected = UnifiedSet.newSet();
+        for (int i = 0; i < 10000; i++)
+        {
+            set = set.newWith(i * 17);
+            expected.add(i * 17);
+        }
+        Assert.assertSame(set, set.newWith(0));
+        ImmutableSet<Integer> without = set.newWithout(0);
+        Verify.assertSize(10000, set);
+        Verify.assertSize(9999, without);
+        Verify.assertContains(0, set);
+        Verify.assertNotContains(0, without);
+        Assert.assertEquals(expected, set);
+        Verify.assertEqualsAndHashCode(expected, set);
+        Assert.assertSame(without, without.newWithout(0));
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        Integer[] elements = {1, 2, 3, 4, 5, 6};
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, new ImmutableSetFactoryImpl(5).with(elements));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, new ImmutableSetFactoryImpl(6).with(elements));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, new ImmutableSetFactoryImpl().with(elements));
+        Assert.assertEquals(UnifiedSet.newSetWith(elements), new ImmutableSetFactoryImpl(5).with(elements));
+    }
+}
@@ -48,6 +48,19 @@ public class MultiReaderUnifiedSetTest extends MultiReaderMutableCollectionTestC
         return MultiReaderUnifiedSet.newSetWith(littleElements);
     }
 
+    @Test
+    public void newReadMostlySet()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newReadMostlySet(Interval.oneTo(3));
+        Assert.assertTrue(set.contains(3));
+        Assert.assertTrue(set.add(4));
+        Assert.assertFalse(set.add(4));
+        Assert.assertTrue(set.remove(1));
+        Verify.assertSize(3, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertEmpty(MultiReaderUnifiedSet.newReadMostlySet());
+    }
+
     @Override
     @Test
     public void asSynchronized()